@@ -0,0 +1,88 @@
+package com.epam.esm.dto;
+
+import com.epam.esm.util.BenchmarkDataFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.core.EvoInflectorLinkRelationProvider;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * measures writing pages of dtos without links, as sent with
+ * links=false, and reading pages of certificates back from json,
+ * rendering of links is measured by hypermedia benchmark
+ *
+ * @author bakhridinova
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+    @Param({ "5", "50", "500" })
+    private int pageSize;
+    @Param({ "3" })
+    private int tagsPerCertificate;
+
+    // configured as spring boot configures mapper of hal message converter
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .modulesToInstall(new Jackson2HalModule())
+            .handlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+                    new EvoInflectorLinkRelationProvider(), CurieProvider.NONE, MessageResolver.DEFAULTS_ONLY))
+            .build();
+    private List<CertificateDto> certificates;
+    private List<OrderDto> orders;
+    private List<TagDto> tags;
+    private List<UserDto> users;
+    private byte[] certificatesBody;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        certificates = BenchmarkDataFactory.certificateDtos(pageSize, tagsPerCertificate);
+        orders = BenchmarkDataFactory.orderDtos(pageSize, pageSize, pageSize);
+        tags = BenchmarkDataFactory.tagDtos(pageSize);
+        users = BenchmarkDataFactory.userDtos(pageSize);
+        certificatesBody = objectMapper.writeValueAsBytes(certificates);
+    }
+
+    @Benchmark
+    public byte[] writeCertificates() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(certificates);
+    }
+
+    @Benchmark
+    public byte[] writeOrders() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(orders);
+    }
+
+    @Benchmark
+    public byte[] writeTags() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(tags);
+    }
+
+    @Benchmark
+    public byte[] writeUsers() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(users);
+    }
+
+    @Benchmark
+    public CertificateDto[] readCertificates() throws IOException {
+        return objectMapper.readValue(certificatesBody, CertificateDto[].class);
+    }
+}
@@ -0,0 +1,143 @@
+package com.epam.esm.hateoas;
+
+import com.epam.esm.controller.CertificateController;
+import com.epam.esm.controller.OrderController;
+import com.epam.esm.controller.TagController;
+import com.epam.esm.dto.CertificateDto;
+import com.epam.esm.dto.OrderDto;
+import com.epam.esm.dto.TagDto;
+import com.epam.esm.dto.UserDto;
+import com.epam.esm.exception.CustomMessageHolder;
+import com.epam.esm.hateoas.impl.CertificateHateoasAdder;
+import com.epam.esm.hateoas.impl.MessageHolderHateoasAdder;
+import com.epam.esm.hateoas.impl.OrderHateoasAdder;
+import com.epam.esm.hateoas.impl.TagHateoasAdder;
+import com.epam.esm.hateoas.impl.UserHateoasAdder;
+import com.epam.esm.util.BenchmarkDataFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.HttpStatus;
+import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * measures adding links to page of every dto type and compares
+ * adding them to certificates through precompiled link templates
+ * with adding them through {@link WebMvcLinkBuilder#methodOn(Class, Object...)}
+ * proxies, every invocation simulates new request
+ *
+ * @author bakhridinova
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HateoasAdderBenchmark {
+    @Param({ "5", "50" })
+    private int pageSize;
+    @Param({ "3" })
+    private int tagsPerCertificate;
+
+    private final LinkFactory linkFactory = new LinkFactory();
+    private final HateoasAdder<CertificateDto> certificateHateoasAdder = new CertificateHateoasAdder(linkFactory);
+    private final HateoasAdder<OrderDto> orderHateoasAdder = new OrderHateoasAdder(linkFactory);
+    private final HateoasAdder<TagDto> tagHateoasAdder = new TagHateoasAdder(linkFactory);
+    private final HateoasAdder<UserDto> userHateoasAdder = new UserHateoasAdder(linkFactory);
+    private final HateoasAdder<CustomMessageHolder> messageHolderHateoasAdder =
+            new MessageHolderHateoasAdder(linkFactory);
+    private List<CertificateDto> certificates;
+    private List<OrderDto> orders;
+    private List<TagDto> tags;
+    private List<UserDto> users;
+    private CustomMessageHolder messageHolder;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        certificates = BenchmarkDataFactory.certificateDtos(pageSize, tagsPerCertificate);
+        orders = BenchmarkDataFactory.orderDtos(pageSize, pageSize, pageSize);
+        tags = BenchmarkDataFactory.tagDtos(pageSize);
+        users = BenchmarkDataFactory.userDtos(pageSize);
+        messageHolder = new CustomMessageHolder(HttpStatus.OK, pageSize + " certificates were successfully deleted");
+    }
+
+    @Setup(Level.Invocation)
+    public void openRequest() {
+        Stream.<List<? extends RepresentationModel<?>>>of(certificates, orders, tags, users, List.of(messageHolder))
+                .flatMap(List::stream)
+                .forEach(RepresentationModel::removeLinks);
+        certificates.forEach(certificate -> certificate.getTags().forEach(TagDto::removeLinks));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(
+                new MockHttpServletRequest("GET", "/api/certificates")));
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public List<CertificateDto> certificates() {
+        certificateHateoasAdder.addLinksToEntityList(certificates);
+        return certificates;
+    }
+
+    @Benchmark
+    public List<OrderDto> orders() {
+        orderHateoasAdder.addLinksToEntityList(orders);
+        return orders;
+    }
+
+    @Benchmark
+    public List<TagDto> tags() {
+        tagHateoasAdder.addLinksToEntityList(tags);
+        return tags;
+    }
+
+    @Benchmark
+    public List<UserDto> users() {
+        userHateoasAdder.addLinksToEntityList(users);
+        return users;
+    }
+
+    @Benchmark
+    public CustomMessageHolder messageHolder() {
+        messageHolderHateoasAdder.addLinksToEntity(messageHolder);
+        return messageHolder;
+    }
+
+    @Benchmark
+    public List<CertificateDto> webMvcLinkBuilder() {
+        certificates.forEach(HateoasAdderBenchmark::addLinksWithWebMvcLinkBuilder);
+        return certificates;
+    }
+
+    private static void addLinksWithWebMvcLinkBuilder(CertificateDto certificate) {
+        // links certificate adder built before link factory was introduced
+        certificate.add(WebMvcLinkBuilder.linkTo(CertificateController.class)
+                .withRel("GET all certificates"));
+        certificate.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(CertificateController.class)
+                .getById(certificate.getId())).withRel("GET certificate " + certificate.getId()));
+        certificate.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(OrderController.class)
+                .getByCertificateOrUserId(certificate.getId(), null, 0, 5)).withRel("GET certificate's orders"));
+
+        Set<TagDto> tags = certificate.getTags();
+        tags.forEach(tag -> tag.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(TagController.class)
+                .getById(tag.getId())).withRel("GET tag " + tag.getId())));
+    }
+}
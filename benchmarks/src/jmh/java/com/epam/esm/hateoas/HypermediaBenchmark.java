@@ -0,0 +1,99 @@
+package com.epam.esm.hateoas;
+
+import com.epam.esm.dto.CertificateDto;
+import com.epam.esm.hateoas.impl.CertificateHateoasAdder;
+import com.epam.esm.util.BenchmarkDataFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.core.EvoInflectorLinkRelationProvider;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * measures throughput and response size of page of certificates
+ * rendered as hal with links and as lean json without them,
+ * average payload size is reported as secondary bytes metric
+ *
+ * @author bakhridinova
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HypermediaBenchmark {
+    @Param({ "5", "50" })
+    private int pageSize;
+
+    private final HateoasAdder<CertificateDto> certificateHateoasAdder =
+            new CertificateHateoasAdder(new LinkFactory());
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .modulesToInstall(new JavaTimeModule(), new Jackson2HalModule())
+            .handlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+                    new EvoInflectorLinkRelationProvider(), CurieProvider.NONE, MessageResolver.DEFAULTS_ONLY))
+            .build();
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Payload {
+        public long bytes;
+        public long responses;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+            responses = 0;
+        }
+
+        public long bytesPerResponse() {
+            return responses == 0 ? 0 : bytes / responses;
+        }
+
+        private byte[] record(byte[] response) {
+            bytes += response.length;
+            responses++;
+            return response;
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void openRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(
+                new MockHttpServletRequest("GET", "/api/certificates")));
+    }
+
+    @Benchmark
+    public byte[] withLinks(Payload payload) throws JsonProcessingException {
+        List<CertificateDto> certificates = page();
+        certificateHateoasAdder.addLinksToEntityList(certificates);
+        return payload.record(objectMapper.writeValueAsBytes(certificates));
+    }
+
+    @Benchmark
+    public byte[] withoutLinks(Payload payload) throws JsonProcessingException {
+        return payload.record(objectMapper.writeValueAsBytes(page()));
+    }
+
+    private List<CertificateDto> page() {
+        // fresh page per invocation, as facades get it from services
+        return BenchmarkDataFactory.certificateDtos(pageSize, 3);
+    }
+}
@@ -0,0 +1,89 @@
+package com.epam.esm.logging;
+
+import ch.qos.logback.classic.Level;
+import com.epam.esm.dto.CertificateDto;
+import com.epam.esm.dto.TagDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * measures overhead of logging aspects around service method
+ * returning page of certificates while debug logging is off,
+ * compared to calling service directly
+ *
+ * @author bakhridinova
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LoggingAspectBenchmark {
+    private SampleService direct;
+    private SampleService traced;
+    private SampleService legacy;
+
+    @Setup
+    public void setUp() {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.INFO);
+
+        direct = new SampleService();
+        traced = proxy(new CustomLoggingAspect(List.of(), 100, 3));
+        legacy = proxy(new LegacyLoggingAspect());
+    }
+
+    @Benchmark
+    public List<CertificateDto> direct() {
+        return direct.findAllByPage(0, 20);
+    }
+
+    @Benchmark
+    public List<CertificateDto> traced() {
+        return traced.findAllByPage(0, 20);
+    }
+
+    @Benchmark
+    public List<CertificateDto> legacy() {
+        return legacy.findAllByPage(0, 20);
+    }
+
+    private static SampleService proxy(Object aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new SampleService());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    @Service
+    public static class SampleService {
+        private final List<CertificateDto> certificates = LongStream.rangeClosed(1, 20)
+                .mapToObj(id -> CertificateDto.builder()
+                        .id(id)
+                        .name("certificate " + id)
+                        .description("description of certificate " + id)
+                        .price(10.0 + id)
+                        .duration(30)
+                        .tags(LongStream.rangeClosed(1, 3)
+                                .mapToObj(tagId -> TagDto.builder().id(tagId).name("tag " + tagId).build())
+                                .collect(Collectors.toSet()))
+                        .build())
+                .toList();
+
+        public List<CertificateDto> findAllByPage(int page, int size) {
+            return certificates.subList(page * size, Math.min(certificates.size(), (page + 1) * size));
+        }
+    }
+}
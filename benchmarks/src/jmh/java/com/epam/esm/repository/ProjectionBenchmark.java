@@ -0,0 +1,164 @@
+package com.epam.esm.repository;
+
+import com.epam.esm.dto.CertificateDto;
+import com.epam.esm.dto.OrderDto;
+import com.epam.esm.entity.Certificate;
+import com.epam.esm.entity.Order;
+import com.epam.esm.entity.Tag;
+import com.epam.esm.entity.User;
+import com.epam.esm.repository.impl.CertificateRepositoryImpl;
+import com.epam.esm.repository.impl.OrderRepositoryImpl;
+import com.epam.esm.util.BenchmarkDataFactory;
+import com.epam.esm.util.Pagination;
+import com.epam.esm.util.counter.EntityCounter;
+import com.epam.esm.util.export.ResultScroller;
+import com.epam.esm.util.mapper.CertificateMapper;
+import com.epam.esm.util.mapper.OrderMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.jpa.HibernatePersistenceProvider;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * compares reading pages through dto projections with reading managed
+ * entities and mapping them, as services did before projections, against
+ * in-memory database, persistence context is cleared before every read,
+ * so that entity path hydrates page again as every request does,
+ * allocation per read is reported by gc profiler
+ *
+ * @author bakhridinova
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProjectionBenchmark {
+    private static final int CERTIFICATES = 1000;
+    private static final int USERS = 100;
+    private static final int ORDERS = 2000;
+
+    @Param({ "5", "50", "500" })
+    private int pageSize;
+    @Param({ "3" })
+    private int tagsPerCertificate;
+
+    private final CertificateMapper certificateMapper = Mappers.getMapper(CertificateMapper.class);
+    private final OrderMapper orderMapper = Mappers.getMapper(OrderMapper.class);
+    private EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+    private CertificateRepository certificateRepository;
+    private OrderRepository orderRepository;
+    private Pagination pagination;
+
+    @Setup
+    public void setUp() {
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(new DriverManagerDataSource(
+                "jdbc:h2:mem:benchmark;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "sa"));
+        factoryBean.setPackagesToScan("com.epam.esm.entity");
+        factoryBean.setPersistenceProviderClass(HibernatePersistenceProvider.class);
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create",
+                "hibernate.cache.use_second_level_cache", "false",
+                "hibernate.id.optimizer.pooled.preferred", "pooled-lo",
+                "hibernate.jdbc.batch_size", "50",
+                "hibernate.order_inserts", "true"));
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+        entityManager = entityManagerFactory.createEntityManager();
+
+        certificateRepository = new CertificateRepositoryImpl(entityManager,
+                new EntityCounter(entityManager, EntityCounter.Mode.EXACT, Duration.ZERO),
+                new ResultScroller(entityManager, 1000, 1000));
+        orderRepository = new OrderRepositoryImpl(entityManager,
+                new EntityCounter(entityManager, EntityCounter.Mode.EXACT, Duration.ZERO),
+                new ResultScroller(entityManager, 1000, 1000));
+        pagination = new Pagination(0, pageSize);
+
+        entityManager.getTransaction().begin();
+        populate();
+        entityManager.getTransaction().commit();
+        entityManager.clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        entityManagerFactory.close();
+    }
+
+    @Benchmark
+    public List<CertificateDto> certificateEntities() {
+        entityManager.clear();
+        return certificateRepository.findAllByPage(pagination).stream()
+                .map(certificateMapper::toCertificateDto)
+                .toList();
+    }
+
+    @Benchmark
+    public List<CertificateDto> certificateProjections() {
+        entityManager.clear();
+        return certificateRepository.findAllDtosByPage(pagination);
+    }
+
+    @Benchmark
+    public List<OrderDto> orderEntities() {
+        entityManager.clear();
+        return orderRepository.findAllByPage(pagination).stream()
+                .map(orderMapper::toOrderDto)
+                .toList();
+    }
+
+    @Benchmark
+    public List<OrderDto> orderProjections() {
+        entityManager.clear();
+        return orderRepository.findAllDtosByPage(pagination);
+    }
+
+    private void populate() {
+        Map<String, Tag> tags = BenchmarkDataFactory.tags(BenchmarkDataFactory.TAG_POOL_SIZE).stream()
+                .peek(tag -> tag.setId(null))
+                .peek(entityManager::persist)
+                .collect(Collectors.toMap(Tag::getName, Function.identity()));
+
+        List<Certificate> certificates = BenchmarkDataFactory.certificates(CERTIFICATES, tagsPerCertificate);
+        certificates.forEach(certificate -> {
+            certificate.setId(null);
+            certificate.setVersion(null);
+            certificate.setTags(certificate.getTags().stream()
+                    .map(tag -> tags.get(tag.getName()))
+                    .collect(Collectors.toSet()));
+            entityManager.persist(certificate);
+        });
+
+        List<User> users = BenchmarkDataFactory.users(USERS);
+        users.forEach(user -> {
+            user.setId(null);
+            entityManager.persist(user);
+        });
+
+        List<Order> orders = BenchmarkDataFactory.orders(ORDERS, users, certificates);
+        orders.forEach(order -> {
+            order.setId(null);
+            entityManager.persist(order);
+        });
+    }
+}
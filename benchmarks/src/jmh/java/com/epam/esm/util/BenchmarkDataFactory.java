@@ -0,0 +1,231 @@
+package com.epam.esm.util;
+
+import com.epam.esm.dto.CertificateDto;
+import com.epam.esm.dto.OrderDto;
+import com.epam.esm.dto.TagDto;
+import com.epam.esm.dto.UserDto;
+import com.epam.esm.entity.Certificate;
+import com.epam.esm.entity.Order;
+import com.epam.esm.entity.Tag;
+import com.epam.esm.entity.User;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * factory scaling templates of {@link TestDataFactory} up to pages
+ * of distinct entities and dtos that pass validation, values depend
+ * on index only, so that every run measures the same data
+ *
+ * @author bakhridinova
+ */
+
+public final class BenchmarkDataFactory {
+    public static final int TAG_POOL_SIZE = 100;
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2023, 4, 1, 12, 0);
+    private static final LocalDate BORN_AT = LocalDate.of(1990, 1, 1);
+    private static final String[] WORDS = {
+            "relaxing", "evening", "tasting", "session", "for", "two", "with", "guided",
+            "tour", "through", "old", "town", "and", "dinner", "at", "rooftop"
+    };
+    private static final int WORDS_PER_DESCRIPTION = 8;
+
+    private BenchmarkDataFactory() {
+    }
+
+    // entity
+
+    public static Tag tag(long id) {
+        Tag template = TestDataFactory.getTag();
+        return Tag.builder()
+                .id(template.getId() + id)
+                .name(template.getName() + "tag" + letters(id))
+                .build();
+    }
+
+    public static Certificate certificate(long id, int tagsPerCertificate) {
+        Certificate template = TestDataFactory.getCertificate();
+        return Certificate.builder()
+                .id(template.getId() + id)
+                .name(template.getName() + "certificate " + letters(id))
+                .description(template.getDescription() + words(id, WORDS_PER_DESCRIPTION))
+                .price(template.getPrice() + 10 + id % 90)
+                .duration(template.getDuration() + 10 + (int) (id % 80))
+                .createdAt(CREATED_AT.plusHours(id))
+                .lastUpdatedAt(CREATED_AT.plusHours(id).plusMinutes(30))
+                .version(id % 5)
+                .tags(tagIds(id, tagsPerCertificate)
+                        .mapToObj(BenchmarkDataFactory::tag)
+                        .collect(Collectors.toCollection(LinkedHashSet::new)))
+                .orders(new ArrayList<>())
+                .build();
+    }
+
+    public static User user(long id) {
+        User template = TestDataFactory.getUser();
+        String name = letters(id);
+        return User.builder()
+                .id(template.getId() + id)
+                .username(template.getUsername() + "user" + name)
+                .password(template.getPassword() + "password" + name)
+                .firstName(template.getFirstName() + "first" + name)
+                .lastName(template.getLastName() + "last" + name)
+                .emailAddress(template.getEmailAddress() + "user" + name + "@mail.com")
+                .birthDate(BORN_AT.plusDays(id))
+                .orders(new ArrayList<>())
+                .build();
+    }
+
+    public static Order order(long id, User user, Certificate certificate) {
+        Order template = TestDataFactory.getOrder();
+        return Order.builder()
+                .id(template.getId() + id)
+                .price(certificate.getPrice())
+                .createdAt(CREATED_AT.plusDays(1).plusMinutes(id))
+                .user(user)
+                .certificate(certificate)
+                .build();
+    }
+
+    public static List<Tag> tags(int count) {
+        return ids(count).mapToObj(BenchmarkDataFactory::tag).toList();
+    }
+
+    public static List<Certificate> certificates(int count, int tagsPerCertificate) {
+        return ids(count).mapToObj(id -> certificate(id, tagsPerCertificate)).toList();
+    }
+
+    public static List<User> users(int count) {
+        return ids(count).mapToObj(BenchmarkDataFactory::user).toList();
+    }
+
+    /**
+     * builds orders spread evenly over given users and certificates
+     *
+     * @param count number of orders
+     * @param users users placing orders
+     * @param certificates certificates being ordered
+     * @return list of orders
+     */
+    public static List<Order> orders(int count, List<User> users, List<Certificate> certificates) {
+        return ids(count)
+                .mapToObj(id -> order(id,
+                        users.get((int) (id % users.size())),
+                        certificates.get((int) (id % certificates.size()))))
+                .toList();
+    }
+
+    // entity dto
+
+    public static TagDto tagDto(long id) {
+        Tag tag = tag(id);
+        return TagDto.builder()
+                .id(tag.getId())
+                .name(tag.getName())
+                .build();
+    }
+
+    public static CertificateDto certificateDto(long id, int tagsPerCertificate) {
+        Certificate certificate = certificate(id, tagsPerCertificate);
+        return CertificateDto.builder()
+                .id(certificate.getId())
+                .name(certificate.getName())
+                .description(certificate.getDescription())
+                .price(certificate.getPrice())
+                .duration(certificate.getDuration())
+                .createdAt(certificate.getCreatedAt())
+                .lastUpdatedAt(certificate.getLastUpdatedAt())
+                .version(certificate.getVersion())
+                .tags(tagIds(id, tagsPerCertificate)
+                        .mapToObj(BenchmarkDataFactory::tagDto)
+                        .collect(Collectors.toCollection(LinkedHashSet::new)))
+                .build();
+    }
+
+    public static UserDto userDto(long id) {
+        User user = user(id);
+        return UserDto.builder()
+                .id(user.getId())
+                .username(user.getUsername())
+                .password(user.getPassword())
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .emailAddress(user.getEmailAddress())
+                .birthDate(user.getBirthDate())
+                .build();
+    }
+
+    public static OrderDto orderDto(long id, int users, int certificates) {
+        return OrderDto.builder()
+                .id(TestDataFactory.getOrderDto().getId() + id)
+                .price(10.0 + id % certificates % 90)
+                .createdAt(CREATED_AT.plusDays(1).plusMinutes(id))
+                .userId(id % users + 1)
+                .certificateId(id % certificates + 1)
+                .build();
+    }
+
+    public static List<TagDto> tagDtos(int count) {
+        return ids(count).mapToObj(BenchmarkDataFactory::tagDto).toList();
+    }
+
+    public static List<CertificateDto> certificateDtos(int count, int tagsPerCertificate) {
+        return ids(count).mapToObj(id -> certificateDto(id, tagsPerCertificate)).toList();
+    }
+
+    public static List<UserDto> userDtos(int count) {
+        return ids(count).mapToObj(BenchmarkDataFactory::userDto).toList();
+    }
+
+    public static List<OrderDto> orderDtos(int count, int users, int certificates) {
+        return ids(count).mapToObj(id -> orderDto(id, users, certificates)).toList();
+    }
+
+    /**
+     * encodes index with lowercase letters only, as names
+     * of certificates and tags must not include digits
+     *
+     * @param index non-negative number to encode
+     * @return String of letters unique for index
+     */
+    public static String letters(long index) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.append((char) ('a' + index % 26));
+            index /= 26;
+        } while (index > 0);
+        return letters.reverse().toString();
+    }
+
+    /**
+     * picks words of certificate descriptions, at most
+     * eight letters each, starting at given index
+     *
+     * @param index number of first word
+     * @param count number of words
+     * @return String of words separated by spaces
+     */
+    public static String words(long index, int count) {
+        StringJoiner words = new StringJoiner(" ");
+        for (int i = 0; i < count; i++) {
+            words.add(WORDS[(int) ((index + i * 7L) % WORDS.length)]);
+        }
+        return words.toString();
+    }
+
+    private static LongStream tagIds(long certificateId, int tagsPerCertificate) {
+        return LongStream.range(0, tagsPerCertificate)
+                .map(i -> (certificateId * tagsPerCertificate + i) % TAG_POOL_SIZE + 1);
+    }
+
+    private static LongStream ids(int count) {
+        return LongStream.rangeClosed(1, count);
+    }
+}
@@ -0,0 +1,86 @@
+package com.epam.esm.util;
+
+import com.epam.esm.validator.CustomSearchValidator;
+import com.epam.esm.validator.CustomSortValidator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * measures handling of search filter before it reaches repository:
+ * reading request body, validating it and splitting text into terms,
+ * building of query predicates is private to repository and needs database
+ *
+ * @author bakhridinova
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SearchFilterBenchmark {
+    @Param({ "1", "8", "24" })
+    private int words;
+    @Param({ "0", "5" })
+    private int tags;
+    @Param({ SearchFilter.SUBSTRING, SearchFilter.FULLTEXT })
+    private String searchMode;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private byte[] body;
+    private SearchFilter searchFilter;
+
+    @Setup
+    public void setUp() throws IOException {
+        // punctuation as users type it, so that splitting has something to drop
+        String text = BenchmarkDataFactory.words(1, words).replace(" and ", ", and ") + "!";
+        body = objectMapper.writeValueAsBytes(Map.of(
+                "text", text,
+                "searchMode", searchMode,
+                "sortType", "price",
+                "sortOrder", "desc",
+                "tags", LongStream.rangeClosed(1, tags)
+                        .mapToObj(id -> Map.of("name", BenchmarkDataFactory.tag(id).getName()))
+                        .toList()));
+        searchFilter = read();
+    }
+
+    @Benchmark
+    public SearchFilter read() throws IOException {
+        return objectMapper.readValue(body, SearchFilter.class);
+    }
+
+    @Benchmark
+    public SearchFilter validate() {
+        CustomSortValidator.validate(searchFilter.sortType(), searchFilter.sortOrder());
+        CustomSearchValidator.validate(searchFilter);
+        CustomSearchValidator.validateNotEmpty(searchFilter);
+        return searchFilter;
+    }
+
+    @Benchmark
+    public List<String> terms() {
+        return searchFilter.terms();
+    }
+
+    @Benchmark
+    public boolean handle() throws IOException {
+        // everything facade and repository do with filter before building query
+        SearchFilter filter = read();
+        CustomSortValidator.validate(filter.sortType(), filter.sortOrder());
+        CustomSearchValidator.validate(filter);
+        return filter.isRanked();
+    }
+}
@@ -0,0 +1,85 @@
+package com.epam.esm.util.mapper;
+
+import com.epam.esm.dto.CertificateDto;
+import com.epam.esm.dto.OrderDto;
+import com.epam.esm.dto.TagDto;
+import com.epam.esm.dto.UserDto;
+import com.epam.esm.entity.Certificate;
+import com.epam.esm.entity.Order;
+import com.epam.esm.entity.Tag;
+import com.epam.esm.entity.User;
+import com.epam.esm.util.BenchmarkDataFactory;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * measures mapping pages of entities to dtos
+ * and tags back, as services do on every call
+ *
+ * @author bakhridinova
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapperBenchmark {
+    @Param({ "5", "50", "500" })
+    private int pageSize;
+    @Param({ "3" })
+    private int tagsPerCertificate;
+
+    private final CertificateMapper certificateMapper = Mappers.getMapper(CertificateMapper.class);
+    private final OrderMapper orderMapper = Mappers.getMapper(OrderMapper.class);
+    private final TagMapper tagMapper = Mappers.getMapper(TagMapper.class);
+    private final UserMapper userMapper = Mappers.getMapper(UserMapper.class);
+
+    private List<Certificate> certificates;
+    private List<Order> orders;
+    private List<Tag> tags;
+    private List<TagDto> tagDtos;
+    private List<User> users;
+
+    @Setup
+    public void setUp() {
+        certificates = BenchmarkDataFactory.certificates(pageSize, tagsPerCertificate);
+        users = BenchmarkDataFactory.users(pageSize);
+        orders = BenchmarkDataFactory.orders(pageSize, users, certificates);
+        tags = BenchmarkDataFactory.tags(pageSize);
+        tagDtos = BenchmarkDataFactory.tagDtos(pageSize);
+    }
+
+    @Benchmark
+    public List<CertificateDto> certificateToDto() {
+        return certificates.stream().map(certificateMapper::toCertificateDto).toList();
+    }
+
+    @Benchmark
+    public List<OrderDto> orderToDto() {
+        return orders.stream().map(orderMapper::toOrderDto).toList();
+    }
+
+    @Benchmark
+    public List<TagDto> tagToDto() {
+        return tags.stream().map(tagMapper::toTagDto).toList();
+    }
+
+    @Benchmark
+    public List<Tag> dtoToTag() {
+        return tagDtos.stream().map(tagMapper::toTag).toList();
+    }
+
+    @Benchmark
+    public List<UserDto> userToDto() {
+        return users.stream().map(userMapper::toUserDto).toList();
+    }
+}
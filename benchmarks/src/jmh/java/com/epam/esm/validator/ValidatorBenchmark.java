@@ -0,0 +1,103 @@
+package com.epam.esm.validator;
+
+import com.epam.esm.dto.CertificateDto;
+import com.epam.esm.dto.OrderDto;
+import com.epam.esm.dto.TagDto;
+import com.epam.esm.exception.CustomValidationException;
+import com.epam.esm.util.BenchmarkDataFactory;
+import com.epam.esm.util.enums.CertificateField;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * measures validating pages of valid input, as facades do before
+ * every write, and rejecting invalid input, which costs exception
+ *
+ * @author bakhridinova
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ValidatorBenchmark {
+    @Param({ "5", "50", "500" })
+    private int pageSize;
+    @Param({ "3" })
+    private int tagsPerCertificate;
+
+    private List<CertificateDto> certificates;
+    private List<CertificateDto> patches;
+    private List<OrderDto> orders;
+    private List<TagDto> tags;
+    private Set<Long> ids;
+    private CertificateDto invalidCertificate;
+
+    @Setup
+    public void setUp() {
+        certificates = BenchmarkDataFactory.certificateDtos(pageSize, tagsPerCertificate);
+        patches = certificates.stream()
+                .map(certificate -> CertificateDto.builder()
+                        .name(certificate.getName())
+                        .price(certificate.getPrice())
+                        .build())
+                .toList();
+        orders = BenchmarkDataFactory.orderDtos(pageSize, pageSize, pageSize);
+        tags = BenchmarkDataFactory.tagDtos(pageSize);
+        ids = certificates.stream()
+                .map(CertificateDto::getId)
+                .collect(Collectors.toSet());
+        invalidCertificate = BenchmarkDataFactory.certificateDto(1, tagsPerCertificate);
+        invalidCertificate.setDescription(invalidCertificate.getDescription() + " for 2 persons");
+    }
+
+    @Benchmark
+    public List<CertificateDto> certificates() {
+        certificates.forEach(CustomCertificateValidator::validate);
+        return certificates;
+    }
+
+    @Benchmark
+    public List<CertificateDto> certificatePatches() {
+        patches.forEach(CustomCertificateValidator::validatePatch);
+        return patches;
+    }
+
+    @Benchmark
+    public List<TagDto> tags() {
+        tags.forEach(CustomTagValidator::validate);
+        return tags;
+    }
+
+    @Benchmark
+    public List<OrderDto> orderBatch() {
+        CustomOrderValidator.validateBatch(orders);
+        return orders;
+    }
+
+    @Benchmark
+    public Set<Long> ids() {
+        CustomValidator.validateIds(CertificateField.IDS, ids, CertificateField.ID);
+        return ids;
+    }
+
+    @Benchmark
+    public void invalidCertificate(Blackhole blackhole) {
+        try {
+            CustomCertificateValidator.validate(invalidCertificate);
+        } catch (CustomValidationException e) {
+            blackhole.consume(e);
+        }
+    }
+}
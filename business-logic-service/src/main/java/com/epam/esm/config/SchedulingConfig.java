@@ -0,0 +1,15 @@
+package com.epam.esm.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * configuration enabling scheduled jobs
+ *
+ * @author bakhridinova
+ */
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
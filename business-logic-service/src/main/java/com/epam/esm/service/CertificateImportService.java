@@ -0,0 +1,17 @@
+package com.epam.esm.service;
+
+import com.epam.esm.dto.ImportReportDto;
+import com.epam.esm.util.ExportFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * interface holding business logic for importing certificates
+ *
+ * @author bakhridinova
+ */
+
+public interface CertificateImportService {
+    ImportReportDto importAll(ExportFormat format, InputStream inputStream, int chunkSize, long firstRecord) throws IOException;
+}
@@ -1,9 +1,13 @@
 package com.epam.esm.service;
 
 import com.epam.esm.dto.CertificateDto;
+import com.epam.esm.util.ExportFormat;
 import com.epam.esm.util.SearchFilter;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Set;
 
 /**
  * interface holding business logic for certificates
@@ -14,13 +18,21 @@ import java.util.List;
 public interface CertificateService {
     List<CertificateDto> findAllByPage(int page, int size);
 
+    List<CertificateDto> findAllByCursor(String after, int size);
+
     CertificateDto findById(Long id);
 
     List<CertificateDto> findByFilterAndPage(SearchFilter searchFilter, int page, int size);
 
-    CertificateDto updateNameById(Long id, CertificateDto certificate);
+    CertificateDto updateById(Long id, Long version, CertificateDto certificate);
 
     CertificateDto create(CertificateDto certificate);
 
     void deleteById(Long id);
+
+    long deleteAllByIds(Set<Long> ids);
+
+    long deleteAllByFilter(SearchFilter searchFilter);
+
+    void exportAll(ExportFormat format, OutputStream outputStream) throws IOException;
 }
@@ -1,8 +1,12 @@
 package com.epam.esm.service;
 
 
+import com.epam.esm.dto.OrderBatchItemDto;
 import com.epam.esm.dto.OrderDto;
+import com.epam.esm.util.ExportFormat;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -14,6 +18,8 @@ import java.util.List;
 public interface OrderService {
     List<OrderDto> findAllByPage(int page, int size);
 
+    List<OrderDto> findAllByCursor(String after, int size);
+
     OrderDto findById(Long id);
 
     List<OrderDto> findByUserIdAndPage(Long userId, int page, int size);
@@ -21,4 +27,8 @@ public interface OrderService {
     List<OrderDto> findByCertificateIdAndPage(Long certificateId, int page, int size);
 
     OrderDto create(OrderDto order);
+
+    List<OrderBatchItemDto> createAll(List<OrderDto> orders);
+
+    void exportAll(ExportFormat format, OutputStream outputStream) throws IOException;
 }
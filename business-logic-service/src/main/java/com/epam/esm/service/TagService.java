@@ -4,6 +4,7 @@ package com.epam.esm.service;
 import com.epam.esm.dto.TagDto;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * interface holding business logic for tags
@@ -14,10 +15,14 @@ import java.util.List;
 public interface TagService {
     List<TagDto> findAllByPage(int page, int size);
 
+    List<TagDto> findAllByCursor(String after, int size);
+
     TagDto findById(Long id);
     TagDto findSpecial();
 
     TagDto create(TagDto tag);
 
     void deleteById(Long id);
+
+    long deleteAllByIds(Set<Long> ids);
 }
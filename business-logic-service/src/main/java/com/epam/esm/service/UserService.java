@@ -14,5 +14,7 @@ import java.util.List;
 public interface UserService {
     List<UserDto> findAllByPage(int page, int size);
 
+    List<UserDto> findAllByCursor(String after, int size);
+
     UserDto findById(Long id);
 }
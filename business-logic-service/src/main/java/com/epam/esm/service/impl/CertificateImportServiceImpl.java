@@ -0,0 +1,185 @@
+package com.epam.esm.service.impl;
+
+import com.epam.esm.dto.CertificateDto;
+import com.epam.esm.dto.ImportReportDto;
+import com.epam.esm.dto.TagDto;
+import com.epam.esm.entity.Certificate;
+import com.epam.esm.entity.Tag;
+import com.epam.esm.exception.CustomValidationException;
+import com.epam.esm.repository.CertificateRepository;
+import com.epam.esm.repository.TagRepository;
+import com.epam.esm.service.CertificateImportService;
+import com.epam.esm.util.ExportFormat;
+import com.epam.esm.util.imports.CertificateImportReader;
+import com.epam.esm.util.imports.ImportRecord;
+import com.epam.esm.validator.CustomCertificateValidator;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * imports certificates in chunks, every chunk is validated in parallel
+ * and committed in its own transaction, so that failure of one chunk
+ * keeps chunks committed before it and import can be resumed from it
+ *
+ * @author bakhridinova
+ */
+
+@Service
+public class CertificateImportServiceImpl implements CertificateImportService {
+    private final CertificateRepository certificateRepository;
+    private final TagRepository tagRepository;
+    private final CertificateImportReader certificateImportReader;
+    private final TransactionTemplate transactionTemplate;
+
+    public CertificateImportServiceImpl(CertificateRepository certificateRepository,
+                                        TagRepository tagRepository,
+                                        CertificateImportReader certificateImportReader,
+                                        PlatformTransactionManager transactionManager) {
+        this.certificateRepository = certificateRepository;
+        this.tagRepository = tagRepository;
+        this.certificateImportReader = certificateImportReader;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public ImportReportDto importAll(ExportFormat format, InputStream inputStream,
+                                     int chunkSize, long firstRecord) throws IOException {
+        ImportReportDto report = ImportReportDto.builder().build();
+        Iterator<ImportRecord> records = certificateImportReader.read(format, inputStream);
+        List<ImportRecord> chunk = new ArrayList<>(chunkSize);
+        long lastRead = firstRecord - 1;
+        while (true) {
+            ImportRecord record;
+            try {
+                if (!records.hasNext()) {
+                    break;
+                }
+                record = records.next();
+            } catch (RuntimeException e) {
+                // reader rejects malformed records itself, anything thrown is failure of input
+                failReading(chunk, lastRead + 1, report, e);
+                return report;
+            }
+            lastRead = Math.max(lastRead, record.number());
+            if (record.number() < firstRecord) {
+                continue;
+            }
+            chunk.add(record);
+            if (chunk.size() == chunkSize) {
+                if (!importChunk(chunk, report)) {
+                    return report;
+                }
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, report);
+        }
+        return report;
+    }
+
+    private boolean importChunk(List<ImportRecord> records, ImportReportDto report) {
+        List<ImportRecord> validated = validate(records);
+        List<CertificateDto> certificates = validated.stream()
+                .filter(record -> !record.isRejected())
+                .map(ImportRecord::certificate)
+                .toList();
+        ImportReportDto.Chunk chunk = ImportReportDto.Chunk.builder()
+                .firstRecord(records.get(0).number())
+                .lastRecord(records.get(records.size() - 1).number())
+                .errors(validated.stream()
+                        .filter(ImportRecord::isRejected)
+                        .map(record -> new ImportReportDto.RecordError(record.number(), record.error()))
+                        .toList())
+                .build();
+        report.getChunks().add(chunk);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> save(certificates));
+        } catch (DataAccessException | TransactionException e) {
+            chunk.setStatus(ImportReportDto.Status.FAILED);
+            chunk.setMessage("failed to commit chunk: " + e.getMostSpecificCause().getMessage());
+            report.setResumeFrom(chunk.getFirstRecord());
+            return false;
+        }
+
+        chunk.setStatus(ImportReportDto.Status.COMMITTED);
+        chunk.setImported(certificates.size());
+        report.setImported(report.getImported() + certificates.size());
+        report.setRejected(report.getRejected() + chunk.getErrors().size());
+        return true;
+    }
+
+    /**
+     * keeps chunks committed so far and reports records
+     * of current chunk as failed, so that import can be resumed
+     */
+    private void failReading(List<ImportRecord> records, long nextRecord,
+                             ImportReportDto report, RuntimeException e) {
+        long first = records.isEmpty() ? nextRecord : records.get(0).number();
+        report.getChunks().add(ImportReportDto.Chunk.builder()
+                .firstRecord(first)
+                .lastRecord(records.isEmpty() ? first : records.get(records.size() - 1).number())
+                .status(ImportReportDto.Status.FAILED)
+                .message("failed to read input: " + (e.getCause() == null ? e : e.getCause()).getMessage())
+                .build());
+        report.setResumeFrom(first);
+    }
+
+    private List<ImportRecord> validate(List<ImportRecord> records) {
+        return records.parallelStream()
+                .map(record -> {
+                    if (record.isRejected()) {
+                        return record;
+                    }
+                    try {
+                        CustomCertificateValidator.validate(record.certificate());
+                        return record;
+                    } catch (CustomValidationException e) {
+                        return ImportRecord.rejected(record.number(), e.getMessage());
+                    }
+                })
+                .toList();
+    }
+
+    private void save(List<CertificateDto> certificateDtos) {
+        Set<String> tagNames = certificateDtos.stream()
+                .flatMap(certificate -> certificate.getTags().stream())
+                .map(TagDto::getName)
+                .collect(Collectors.toSet());
+        tagRepository.saveAllIfAbsent(tagNames);
+        Map<String, Tag> tags = tagRepository.findAllByNames(tagNames).stream()
+                .collect(Collectors.toMap(Tag::getName, Function.identity()));
+
+        Map<Certificate, Set<Tag>> tagsByCertificate = new LinkedHashMap<>();
+        for (CertificateDto certificateDto : certificateDtos) {
+            Certificate certificate = Certificate.builder()
+                    .name(certificateDto.getName())
+                    .description(certificateDto.getDescription())
+                    .price(certificateDto.getPrice())
+                    .duration(certificateDto.getDuration())
+                    .build();
+            certificateRepository.save(certificate);
+            tagsByCertificate.put(certificate, certificateDto.getTags().stream()
+                    .map(tag -> tags.get(tag.getName()))
+                    .collect(Collectors.toSet()));
+        }
+        tagRepository.setAllTags(tagsByCertificate);
+        // chunk is flushed by now, detaching keeps persistence context of long imports small
+        tagsByCertificate.keySet().forEach(certificateRepository::detach);
+    }
+}
@@ -4,19 +4,25 @@ import com.epam.esm.dto.CertificateDto;
 import com.epam.esm.dto.TagDto;
 import com.epam.esm.entity.Certificate;
 import com.epam.esm.entity.Tag;
+import com.epam.esm.exception.CustomEntityNotFoundException;
 import com.epam.esm.repository.CertificateRepository;
 import com.epam.esm.repository.TagRepository;
 import com.epam.esm.service.CertificateService;
+import com.epam.esm.util.Cursor;
+import com.epam.esm.util.ExportFormat;
 import com.epam.esm.util.Pagination;
 import com.epam.esm.util.SearchFilter;
+import com.epam.esm.util.export.ExportColumn;
+import com.epam.esm.util.export.ExportWriter;
 import com.epam.esm.util.mapper.CertificateMapper;
 import com.epam.esm.util.mapper.TagMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.stream.Collectors;
@@ -28,61 +34,67 @@ public class CertificateServiceImpl implements CertificateService {
     private final TagRepository tagRepository;
     private final CertificateMapper certificateMapper;
     private final TagMapper tagMapper;
+    private final ExportWriter exportWriter;
+
+    private static final List<ExportColumn<CertificateDto>> exportColumns = List.of(
+            new ExportColumn<>("id", CertificateDto::getId),
+            new ExportColumn<>("name", CertificateDto::getName),
+            new ExportColumn<>("description", CertificateDto::getDescription),
+            new ExportColumn<>("price", CertificateDto::getPrice),
+            new ExportColumn<>("duration", CertificateDto::getDuration),
+            new ExportColumn<>("createdAt", CertificateDto::getCreatedAt),
+            new ExportColumn<>("lastUpdatedAt", CertificateDto::getLastUpdatedAt),
+            new ExportColumn<>("tags", certificate -> certificate.getTags().stream()
+                    .map(TagDto::getName).sorted().toList()));
 
     @Override
+    @Transactional(readOnly = true)
     public List<CertificateDto> findAllByPage(int page, int size) {
         Pagination pagination = new Pagination(page, size);
-        return certificateRepository.findAllByPage(pagination).stream()
-                .map(certificateMapper::toCertificateDto).toList();
+        return certificateRepository.findAllDtosByPage(pagination);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CertificateDto> findAllByCursor(String after, int size) {
+        Cursor cursor = Cursor.decode(after, size);
+        return certificateRepository.findAllDtosByCursor(cursor);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public CertificateDto findById(Long id) {
-        return certificateMapper.toCertificateDto(certificateRepository.findById(id));
+        return certificateRepository.findDtoById(id);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<CertificateDto> findByFilterAndPage(SearchFilter searchFilter, int page, int size) {
         Pagination pagination = new Pagination(page, size);
-        int tagsPassed = searchFilter.tags().size();
-        Set<Tag> tags = searchFilter.tags().stream()
-                .map(t -> tagRepository.findByName(t.getName()))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(Collectors.toSet());
-        int tagsFound = tags.size();
-        if (tagsPassed != tagsFound) {
-            return List.of();
-        }
-
-        searchFilter = searchFilter.updateTags(tags);
-        return certificateRepository.findByFilterAndPage(searchFilter, pagination)
-                .stream().map(certificateMapper::toCertificateDto).toList();
+        return certificateRepository.findDtosByFilterAndPage(searchFilter, pagination);
     }
 
     @Override
     @Transactional
-    public CertificateDto updateNameById(Long id, CertificateDto certificateDto) {
-        Certificate certificate = certificateRepository.findById(id);
-        certificate.setName(certificateDto.getName());
-        certificateRepository.save(certificate);
-        return certificateMapper.toCertificateDto(certificate);
+    public CertificateDto updateById(Long id, Long version, CertificateDto certificateDto) {
+        certificateRepository.updateById(id, version, certificateDto);
+        if (certificateDto.getTags() != null) {
+            Set<String> tagNames = certificateDto.getTags().stream()
+                    .map(TagDto::getName).collect(Collectors.toSet());
+            tagRepository.saveAllIfAbsent(tagNames);
+            tagRepository.replaceTags(certificateRepository.getReference(id),
+                    new TreeSet<>(tagRepository.findAllByNames(tagNames)));
+        }
+        return certificateRepository.findDtoById(id);
     }
 
     @Override
     @Transactional
     public CertificateDto create(CertificateDto certificateDto) {
-        Set<Tag> tags = new TreeSet<>();
-        for (TagDto tagDto : certificateDto.getTags()) {
-            Optional<Tag> optionalTag = tagRepository.findByName(tagDto.getName());
-            if (optionalTag.isPresent()) {
-                tags.add(optionalTag.get());
-            } else {
-                Tag tag = tagMapper.toTag(tagDto);
-                tagRepository.save(tag);
-                tags.add(tag);
-            }
-        }
+        Set<String> tagNames = certificateDto.getTags().stream()
+                .map(TagDto::getName).collect(Collectors.toSet());
+        tagRepository.saveAllIfAbsent(tagNames);
+        Set<Tag> tags = new TreeSet<>(tagRepository.findAllByNames(tagNames));
 
         Certificate certificate = Certificate.builder()
                 .name(certificateDto.getName())
@@ -101,6 +113,35 @@ public class CertificateServiceImpl implements CertificateService {
     @Override
     @Transactional
     public void deleteById(Long id) {
-        certificateRepository.delete(certificateRepository.findById(id));
+        if (certificateRepository.deleteAllByIds(Set.of(id)) == 0) {
+            throw new CustomEntityNotFoundException("failed to find certificate by id " + id);
+        }
+    }
+
+    @Override
+    @Transactional
+    public long deleteAllByIds(Set<Long> ids) {
+        long deleted = certificateRepository.deleteAllByIds(ids);
+        if (deleted < ids.size()) {
+            throw new CustomEntityNotFoundException("failed to find " + (ids.size() - deleted)
+                    + " of " + ids.size() + " certificates, none were deleted");
+        }
+        return deleted;
+    }
+
+    @Override
+    @Transactional
+    public long deleteAllByFilter(SearchFilter searchFilter) {
+        long deleted = certificateRepository.deleteAllByFilter(searchFilter);
+        if (deleted == 0) {
+            throw new CustomEntityNotFoundException("failed to find certificates matching search filter");
+        }
+        return deleted;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(ExportFormat format, OutputStream outputStream) throws IOException {
+        exportWriter.write(format, exportColumns, certificateRepository::exportAll, outputStream);
     }
 }
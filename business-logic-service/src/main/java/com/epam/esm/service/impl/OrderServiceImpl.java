@@ -1,53 +1,87 @@
 package com.epam.esm.service.impl;
 
+import com.epam.esm.dto.OrderBatchItemDto;
 import com.epam.esm.dto.OrderDto;
 import com.epam.esm.entity.Certificate;
 import com.epam.esm.entity.Order;
 import com.epam.esm.entity.User;
 import com.epam.esm.repository.CertificateRepository;
 import com.epam.esm.repository.OrderRepository;
+import com.epam.esm.repository.OrderStatisticsRepository;
 import com.epam.esm.repository.UserRepository;
 import com.epam.esm.service.OrderService;
+import com.epam.esm.util.Cursor;
+import com.epam.esm.util.ExportFormat;
 import com.epam.esm.util.Pagination;
+import com.epam.esm.util.export.ExportColumn;
+import com.epam.esm.util.export.ExportWriter;
 import com.epam.esm.util.mapper.OrderMapper;
+import com.epam.esm.util.routing.ReadYourWritesTracker;
+import com.epam.esm.util.routing.RoutingContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class OrderServiceImpl implements OrderService {
     private final OrderRepository orderRepository;
+    private final OrderStatisticsRepository orderStatisticsRepository;
     private final UserRepository userRepository;
     private final CertificateRepository certificateRepository;
     private final OrderMapper orderMapper;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final ExportWriter exportWriter;
+
+    private static final List<ExportColumn<OrderDto>> exportColumns = List.of(
+            new ExportColumn<>("id", OrderDto::getId),
+            new ExportColumn<>("price", OrderDto::getPrice),
+            new ExportColumn<>("createdAt", OrderDto::getCreatedAt),
+            new ExportColumn<>("userId", OrderDto::getUserId),
+            new ExportColumn<>("certificateId", OrderDto::getCertificateId));
 
     @Override
+    @Transactional(readOnly = true)
     public List<OrderDto> findAllByPage(int page, int size) {
         Pagination pagination = new Pagination(page, size);
-        return orderRepository.findAllByPage(pagination)
-                .stream().map(orderMapper::toOrderDto).toList();
+        return orderRepository.findAllDtosByPage(pagination);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OrderDto> findAllByCursor(String after, int size) {
+        Cursor cursor = Cursor.decode(after, size);
+        return orderRepository.findAllDtosByCursor(cursor);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public OrderDto findById(Long id) {
-        return orderMapper.toOrderDto(orderRepository.findById(id));
+        return orderRepository.findDtoById(id);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<OrderDto> findByUserIdAndPage(Long userId, int page, int size) {
         Pagination pagination = new Pagination(page, size);
-        return orderRepository.findByUserId(userId, pagination)
-                .stream().map(orderMapper::toOrderDto).toList();
+        return RoutingContext.onPrimaryIf(readYourWritesTracker.hasRecentWrite(userId),
+                () -> orderRepository.findDtosByUserId(userId, pagination));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<OrderDto> findByCertificateIdAndPage(Long certificateId, int page, int size) {
         Pagination pagination = new Pagination(page, size);
-        return orderRepository.findByCertificateId(certificateId, pagination)
-                .stream().map(orderMapper::toOrderDto).toList();
+        return orderRepository.findDtosByCertificateId(certificateId, pagination);
     }
 
     @Override
@@ -63,6 +97,63 @@ public class OrderServiceImpl implements OrderService {
                 .user(user).certificate(certificate)
                 .build();
         orderRepository.save(order);
+        orderStatisticsRepository.recordOrder(order);
+        readYourWritesTracker.recordWrite(user.getId());
         return orderMapper.toOrderDto(order);
     }
+
+    @Override
+    @Transactional
+    public List<OrderBatchItemDto> createAll(List<OrderDto> orderDtos) {
+        Set<Long> userIds = userRepository.findExistingIds(orderDtos.stream()
+                .map(OrderDto::getUserId).collect(Collectors.toSet()));
+        Map<Long, Double> prices = certificateRepository.findPricesByIds(orderDtos.stream()
+                .map(OrderDto::getCertificateId).collect(Collectors.toSet()));
+
+        Map<Integer, Order> orders = new LinkedHashMap<>();
+        Map<Integer, String> rejections = new LinkedHashMap<>();
+        for (int i = 0; i < orderDtos.size(); i++) {
+            OrderDto orderDto = orderDtos.get(i);
+            if (!userIds.contains(orderDto.getUserId())) {
+                rejections.put(i, "failed to find user by id " + orderDto.getUserId());
+            } else if (!prices.containsKey(orderDto.getCertificateId())) {
+                rejections.put(i, "failed to find certificate by id " + orderDto.getCertificateId());
+            } else {
+                orders.put(i, Order.builder()
+                        .price(prices.get(orderDto.getCertificateId()))
+                        .user(userRepository.getReference(orderDto.getUserId()))
+                        .certificate(certificateRepository.getReference(orderDto.getCertificateId()))
+                        .build());
+            }
+        }
+
+        if (!orders.isEmpty()) {
+            Set<Long> orderedBy = orders.values().stream()
+                    .map(order -> order.getUser().getId())
+                    .collect(Collectors.toSet());
+            orderRepository.saveAll(new ArrayList<>(orders.values()));
+            orderStatisticsRepository.refresh(orderedBy);
+            orderedBy.forEach(readYourWritesTracker::recordWrite);
+        }
+
+        List<OrderBatchItemDto> results = new ArrayList<>(orderDtos.size());
+        for (int i = 0; i < orderDtos.size(); i++) {
+            results.add(orders.containsKey(i)
+                    ? OrderBatchItemDto.builder()
+                    .index(i).status(OrderBatchItemDto.Status.CREATED)
+                    .order(orderMapper.toOrderDto(orders.get(i)))
+                    .build()
+                    : OrderBatchItemDto.builder()
+                    .index(i).status(OrderBatchItemDto.Status.REJECTED)
+                    .message(rejections.get(i))
+                    .build());
+        }
+        return results;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(ExportFormat format, OutputStream outputStream) throws IOException {
+        exportWriter.write(format, exportColumns, orderRepository::exportAll, outputStream);
+    }
 }
@@ -3,8 +3,10 @@ package com.epam.esm.service.impl;
 import com.epam.esm.dto.TagDto;
 import com.epam.esm.entity.Tag;
 import com.epam.esm.exception.CustomEntityAlreadyExistsException;
+import com.epam.esm.exception.CustomEntityNotFoundException;
 import com.epam.esm.repository.TagRepository;
 import com.epam.esm.service.TagService;
+import com.epam.esm.util.Cursor;
 import com.epam.esm.util.Pagination;
 import com.epam.esm.util.mapper.TagMapper;
 import lombok.RequiredArgsConstructor;
@@ -12,6 +14,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -20,18 +23,27 @@ public class TagServiceImpl implements TagService {
     private final TagMapper tagMapper;
 
     @Override
+    @Transactional(readOnly = true)
     public List<TagDto> findAllByPage(int page, int size) {
         Pagination pagination = new Pagination(page, size);
-        return tagRepository.findAllByPage(pagination)
-                .stream().map(tagMapper::toTagDto).toList();
+        return tagRepository.findAllDtosByPage(pagination);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<TagDto> findAllByCursor(String after, int size) {
+        Cursor cursor = Cursor.decode(after, size);
+        return tagRepository.findAllDtosByCursor(cursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public TagDto findById(Long id) {
-        return tagMapper.toTagDto(tagRepository.findById(id));
+        return tagRepository.findDtoById(id);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public TagDto findSpecial() {
         return tagMapper.toTagDto(tagRepository.findSpecial());
     }
@@ -51,6 +63,19 @@ public class TagServiceImpl implements TagService {
     @Override
     @Transactional
     public void deleteById(Long id) {
-        tagRepository.delete(tagRepository.findById(id));
+        if (tagRepository.deleteAllByIds(Set.of(id)) == 0) {
+            throw new CustomEntityNotFoundException("failed to find tag by id " + id);
+        }
+    }
+
+    @Override
+    @Transactional
+    public long deleteAllByIds(Set<Long> ids) {
+        long deleted = tagRepository.deleteAllByIds(ids);
+        if (deleted < ids.size()) {
+            throw new CustomEntityNotFoundException("failed to find " + (ids.size() - deleted)
+                    + " of " + ids.size() + " tags, none were deleted");
+        }
+        return deleted;
     }
 }
@@ -3,10 +3,11 @@ package com.epam.esm.service.impl;
 import com.epam.esm.dto.UserDto;
 import com.epam.esm.repository.UserRepository;
 import com.epam.esm.service.UserService;
+import com.epam.esm.util.Cursor;
 import com.epam.esm.util.Pagination;
-import com.epam.esm.util.mapper.UserMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -14,18 +15,24 @@ import java.util.List;
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
-    private final UserMapper userMapper;
 
     @Override
+    @Transactional(readOnly = true)
     public List<UserDto> findAllByPage(int page, int size) {
         Pagination pagination = new Pagination(page, size);
-        return userRepository
-                .findAllByPage(pagination)
-                .stream().map(userMapper::toUserDto).toList();
+        return userRepository.findAllDtosByPage(pagination);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<UserDto> findAllByCursor(String after, int size) {
+        Cursor cursor = Cursor.decode(after, size);
+        return userRepository.findAllDtosByCursor(cursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public UserDto findById(Long id) {
-        return userMapper.toUserDto(userRepository.findById(id));
+        return userRepository.findDtoById(id);
     }
 }
@@ -0,0 +1,60 @@
+package com.epam.esm.util.actuator;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * custom actuator endpoint for
+ * second-level cache statistics
+ * per cache region
+ *
+ * @author bakhridinova
+ */
+
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "cachestats")
+public class CacheStatsEndpoint {
+    private final EntityManagerFactory entityManagerFactory;
+
+    @ReadOperation
+    public Map<String, Map<String, Long>> cacheStats() {
+        Statistics statistics = entityManagerFactory
+                .unwrap(SessionFactory.class).getStatistics();
+
+        Map<String, Map<String, Long>> result = new TreeMap<>();
+        Arrays.stream(statistics.getSecondLevelCacheRegionNames()).forEach(region ->
+                result.put(region, regionStats(statistics.getCacheRegionStatistics(region))));
+
+        Map<String, Long> queryCache = new LinkedHashMap<>();
+        queryCache.put("hits", statistics.getQueryCacheHitCount());
+        queryCache.put("misses", statistics.getQueryCacheMissCount());
+        queryCache.put("puts", statistics.getQueryCachePutCount());
+        result.put("query-cache", queryCache);
+        return result;
+    }
+
+    private Map<String, Long> regionStats(CacheRegionStatistics regionStatistics) {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        if (regionStatistics == null) {
+            return stats;
+        }
+
+        stats.put("hits", regionStatistics.getHitCount());
+        stats.put("misses", regionStatistics.getMissCount());
+        stats.put("puts", regionStatistics.getPutCount());
+        stats.put("elementsInMemory", regionStatistics.getElementCountInMemory());
+        return stats;
+    }
+}
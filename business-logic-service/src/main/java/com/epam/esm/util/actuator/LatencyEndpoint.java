@@ -0,0 +1,31 @@
+package com.epam.esm.util.actuator;
+
+import com.epam.esm.util.latency.LatencyRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * custom actuator endpoint for
+ * latency percentiles of facade, service
+ * and repository methods over sliding window
+ *
+ * @author bakhridinova
+ */
+
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "latency")
+@ConditionalOnProperty(prefix = "latency", name = "enabled", matchIfMissing = true)
+public class LatencyEndpoint {
+    private final LatencyRegistry latencyRegistry;
+
+    @ReadOperation
+    public Map<String, Map<String, Long>> latency() {
+        return latencyRegistry.snapshot();
+    }
+}
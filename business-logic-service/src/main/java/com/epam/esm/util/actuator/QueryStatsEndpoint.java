@@ -0,0 +1,37 @@
+package com.epam.esm.util.actuator;
+
+import com.epam.esm.util.monitoring.QueryMonitoringFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * custom actuator endpoint for
+ * statements executed per endpoint,
+ * statistics can be reset with DELETE
+ *
+ * @author bakhridinova
+ */
+
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "querystats")
+@ConditionalOnProperty(prefix = "query.monitoring", name = "enabled", matchIfMissing = true)
+public class QueryStatsEndpoint {
+    private final QueryMonitoringFilter queryMonitoringFilter;
+
+    @ReadOperation
+    public Map<String, Map<String, Long>> queryStats() {
+        return queryMonitoringFilter.getStatistics().snapshot();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        queryMonitoringFilter.getStatistics().reset();
+    }
+}
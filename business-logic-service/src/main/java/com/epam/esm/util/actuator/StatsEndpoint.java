@@ -1,41 +1,58 @@
 package com.epam.esm.util.actuator;
 
 import com.epam.esm.repository.BaseRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * custom actuator endpoint for
- * entity statistics
+ * entity statistics, counts are
+ * retrieved in parallel
  *
  * @author bakhridinova
  */
 
 @Component
 @Endpoint(id = "stats")
-@RequiredArgsConstructor
 public class StatsEndpoint {
     private final List<BaseRepository<?>> repositories;
+    private final TaskExecutor taskExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    public StatsEndpoint(List<BaseRepository<?>> repositories,
+                         @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                         PlatformTransactionManager transactionManager) {
+        this.repositories = repositories;
+        this.taskExecutor = taskExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
 
     @Bean
     @ReadOperation
-    @Transactional(readOnly = true)
     public Map<String, Long> stats() {
-        Map<String, Long> result = new TreeMap<>();
+        Map<String, CompletableFuture<Long>> counts = new TreeMap<>();
 
         repositories.forEach(repository -> {
             String className = repository.getClass().getSimpleName().toLowerCase();
-            result.put(className.substring(0, className.indexOf("repository")) + "s",
-                    repository.findTotalNumber());
+            counts.put(className.substring(0, className.indexOf("repository")) + "s",
+                    CompletableFuture.supplyAsync(() -> transactionTemplate
+                            .execute(status -> repository.findTotalNumber()), taskExecutor));
         });
+
+        Map<String, Long> result = new TreeMap<>();
+        counts.forEach((name, count) -> result.put(name, count.join()));
         return result;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,14 @@
+package com.epam.esm.util.export;
+
+import java.util.function.Function;
+
+/**
+ * record representing column of export
+ *
+ * @param name name of column
+ * @param value function extracting column value from row
+ * @author bakhridinova
+ */
+
+public record ExportColumn<T>(String name, Function<T, ?> value) {
+}
@@ -0,0 +1,109 @@
+package com.epam.esm.util.export;
+
+import com.epam.esm.util.ExportFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * writes rows to output stream as soon as they are read,
+ * either as one JSON object per line or as CSV with header line,
+ * collections are written as JSON arrays or as values joined with '|'
+ *
+ * @author bakhridinova
+ */
+
+@Component
+@RequiredArgsConstructor
+public class ExportWriter {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * writes every row passed by source to output stream
+     *
+     * @param format of export
+     * @param columns of every row
+     * @param source passing rows to given consumer one by one
+     * @param outputStream to write rows to
+     * @throws IOException if rows could not be written
+     */
+    public <T> void write(ExportFormat format, List<ExportColumn<T>> columns,
+                          Consumer<Consumer<T>> source, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        try {
+            if (format == ExportFormat.CSV) {
+                writeCsvLine(writer, columns.stream().map(ExportColumn::name).toList());
+                source.accept(row -> writeCsvRow(writer, columns, row));
+            } else {
+                JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+                // rows are separated by line breaks written after every row instead of spaces
+                generator.setRootValueSeparator(null);
+                source.accept(row -> writeJsonRow(generator, columns, row));
+                generator.flush();
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private <T> void writeJsonRow(JsonGenerator generator, List<ExportColumn<T>> columns, T row) {
+        try {
+            generator.writeStartObject();
+            for (ExportColumn<T> column : columns) {
+                generator.writeObjectField(column.name(), column.value().apply(row));
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private <T> void writeCsvRow(Writer writer, List<ExportColumn<T>> columns, T row) {
+        try {
+            writeCsvLine(writer, columns.stream()
+                    .map(column -> column.value().apply(row))
+                    .toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeCsvLine(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values.get(i)));
+        }
+        writer.write('\n');
+    }
+
+    private String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof Collection<?> values
+                ? values.stream().map(String::valueOf).collect(Collectors.joining("|"))
+                : String.valueOf(value);
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
@@ -0,0 +1,192 @@
+package com.epam.esm.util.imports;
+
+import com.epam.esm.dto.CertificateDto;
+import com.epam.esm.dto.TagDto;
+import com.epam.esm.util.ExportFormat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * parses certificates from input stream one record at a time
+ * using Jackson streaming readers, either one JSON object per line
+ * or CSV with header line in the same layout as export writes,
+ * malformed records are rejected without stopping the rest of import,
+ * records of JSON input are numbered by lines they were read from
+ *
+ * @author bakhridinova
+ */
+
+@Component
+@RequiredArgsConstructor
+public class CertificateImportReader {
+    private static final CsvMapper csvMapper = new CsvMapper();
+    private static final CsvSchema csvSchema = CsvSchema.emptySchema().withHeader();
+    private final ObjectMapper objectMapper;
+
+    /**
+     * opens iterator over records of input stream,
+     * records are parsed only as iterator advances
+     *
+     * @param format of input
+     * @param inputStream to read records from
+     * @return iterator over records in order they were read
+     * @throws IOException if input could not be opened
+     */
+    public Iterator<ImportRecord> read(ExportFormat format, InputStream inputStream) throws IOException {
+        if (format == ExportFormat.CSV) {
+            MappingIterator<Map<String, String>> rows = csvMapper
+                    .readerForMapOf(String.class)
+                    .with(csvSchema)
+                    .readValues(inputStream);
+            return iterator(rows, this::toCertificate);
+        }
+        return lines(objectMapper.readerFor(CertificateDto.class),
+                new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * parses every line on its own, so that malformed line
+     * leaves parser of following lines in valid state
+     */
+    private Iterator<ImportRecord> lines(ObjectReader reader, BufferedReader lines) {
+        return new Iterator<>() {
+            private long number;
+            private String line;
+
+            @Override
+            public boolean hasNext() {
+                try {
+                    while (line == null) {
+                        line = lines.readLine();
+                        if (line == null) {
+                            return false;
+                        }
+                        number++;
+                        if (line.isBlank()) {
+                            line = null;
+                        }
+                    }
+                    return true;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            public ImportRecord next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                String value = line;
+                line = null;
+                try {
+                    return ImportRecord.parsed(number, reader.readValue(value));
+                } catch (JsonProcessingException e) {
+                    return ImportRecord.rejected(number, "line " + number + " is malformed: " + e.getOriginalMessage());
+                }
+            }
+        };
+    }
+
+    /**
+     * quoted CSV values may span lines, so that input which can not be
+     * tokenized any more is rejected as single last record instead of
+     * guessing where next record starts
+     */
+    private <T> Iterator<ImportRecord> iterator(MappingIterator<T> values, Function<T, CertificateDto> mapper) {
+        return new Iterator<>() {
+            private long number;
+            private ImportRecord unreadable;
+            private boolean exhausted;
+
+            @Override
+            public boolean hasNext() {
+                if (unreadable != null) {
+                    return true;
+                }
+                if (exhausted) {
+                    return false;
+                }
+                try {
+                    exhausted = !values.hasNextValue();
+                } catch (IOException e) {
+                    exhausted = true;
+                    unreadable = ImportRecord.rejected(number + 1,
+                            "rest of input is malformed: " + originalMessage(e));
+                }
+                return !exhausted || unreadable != null;
+            }
+
+            @Override
+            public ImportRecord next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if (unreadable != null) {
+                    ImportRecord record = unreadable;
+                    unreadable = null;
+                    return record;
+                }
+                number++;
+                try {
+                    return ImportRecord.parsed(number, mapper.apply(values.nextValue()));
+                } catch (JsonProcessingException e) {
+                    return ImportRecord.rejected(number, "record is malformed: " + e.getOriginalMessage());
+                } catch (IllegalArgumentException e) {
+                    return ImportRecord.rejected(number, e.getMessage());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+    }
+
+    private String originalMessage(IOException e) {
+        return e instanceof JsonProcessingException processing ? processing.getOriginalMessage() : e.getMessage();
+    }
+
+    private CertificateDto toCertificate(Map<String, String> row) {
+        return CertificateDto.builder()
+                .name(row.get("name"))
+                .description(row.get("description"))
+                .price(parse(row, "price", "double", Double::valueOf))
+                .duration(parse(row, "duration", "int", Integer::valueOf))
+                .tags(row.get("tags") == null || row.get("tags").isBlank() ? Set.of()
+                        : Arrays.stream(row.get("tags").split("\\|"))
+                        .map(name -> TagDto.builder().name(name).build())
+                        .collect(Collectors.toSet()))
+                .build();
+    }
+
+    private <T> T parse(Map<String, String> row, String column, String type, Function<String, T> parser) {
+        String value = row.get(column);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return parser.apply(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " should be of type " + type);
+        }
+    }
+}
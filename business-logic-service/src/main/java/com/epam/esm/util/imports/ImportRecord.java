@@ -0,0 +1,26 @@
+package com.epam.esm.util.imports;
+
+import com.epam.esm.dto.CertificateDto;
+
+/**
+ * record representing single parsed record of import
+ *
+ * @param number of record counting from 1
+ * @param certificate parsed certificate, null if record is malformed
+ * @param error message describing why record was rejected, null if it was not
+ * @author bakhridinova
+ */
+
+public record ImportRecord(long number, CertificateDto certificate, String error) {
+    public static ImportRecord parsed(long number, CertificateDto certificate) {
+        return new ImportRecord(number, certificate, null);
+    }
+
+    public static ImportRecord rejected(long number, String error) {
+        return new ImportRecord(number, null, error);
+    }
+
+    public boolean isRejected() {
+        return error != null;
+    }
+}
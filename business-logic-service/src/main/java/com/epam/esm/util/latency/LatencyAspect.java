@@ -0,0 +1,42 @@
+package com.epam.esm.util.latency;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * aspect recording duration of every facade, service
+ * and repository method into {@link LatencyRegistry}
+ *
+ * @author bakhridinova
+ */
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "latency", name = "enabled", matchIfMissing = true)
+public class LatencyAspect {
+    private final LatencyRegistry latencyRegistry;
+
+    @Pointcut("within(com.epam.esm.facade..*)" +
+            " || within(@org.springframework.stereotype.Service *)" +
+            " || within(@org.springframework.stereotype.Repository *)")
+    public void latencyTargets() {
+    }
+
+    @Around("latencyTargets()")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            latencyRegistry.record(((MethodSignature) joinPoint.getSignature()).getMethod(),
+                    System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.epam.esm.util.latency;
+
+import lombok.Getter;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * latency histogram of single method over sliding window,
+ * calls are recorded wait-free into {@link Recorder} whose interval
+ * histograms are rotated through fixed ring, so that memory does not
+ * grow with number of calls and window covers last completed intervals
+ *
+ * @author bakhridinova
+ */
+
+public class LatencyHistogram {
+    static final long LOWEST_DISCERNIBLE_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+    static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    static final int SIGNIFICANT_DIGITS = 2;
+
+    @Getter
+    private final String name;
+    private final Recorder recorder = new Recorder(
+            LOWEST_DISCERNIBLE_NANOS, HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+    private final Histogram[] intervals;
+    private final Histogram window = new Histogram(
+            LOWEST_DISCERNIBLE_NANOS, HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+    private int current;
+
+    public LatencyHistogram(String name, int intervals) {
+        this.name = name;
+        this.intervals = new Histogram[intervals];
+    }
+
+    /**
+     * records single call, safe to be called concurrently
+     *
+     * @param nanos duration of call, longer calls are recorded as highest trackable value
+     */
+    public void record(long nanos) {
+        recorder.recordValue(Math.max(0, Math.min(nanos, HIGHEST_TRACKABLE_NANOS)));
+    }
+
+    /**
+     * closes current interval, it replaces oldest interval of window
+     */
+    public synchronized void rotate() {
+        current = (current + 1) % intervals.length;
+        // expired histogram is reset and reused by recorder
+        intervals[current] = recorder.getIntervalHistogram(intervals[current]);
+    }
+
+    /**
+     * retrieves percentiles of window in microseconds
+     *
+     * @return count, p50, p90, p99, p999 and max of window
+     */
+    public synchronized Map<String, Long> snapshot() {
+        window.reset();
+        for (Histogram interval : intervals) {
+            if (interval != null) {
+                window.add(interval);
+            }
+        }
+
+        Map<String, Long> values = new LinkedHashMap<>();
+        values.put("count", window.getTotalCount());
+        values.put("p50", micros(window.getValueAtPercentile(50)));
+        values.put("p90", micros(window.getValueAtPercentile(90)));
+        values.put("p99", micros(window.getValueAtPercentile(99)));
+        values.put("p999", micros(window.getValueAtPercentile(99.9)));
+        values.put("max", micros(window.getMaxValue()));
+        return values;
+    }
+
+    private static long micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+}
@@ -0,0 +1,56 @@
+package com.epam.esm.util.latency;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * registry holding latency histogram of every intercepted method,
+ * overloaded methods share histogram of their name
+ *
+ * @author bakhridinova
+ */
+
+@Component
+@ConditionalOnProperty(prefix = "latency", name = "enabled", matchIfMissing = true)
+public class LatencyRegistry {
+    private final Map<Method, LatencyHistogram> histogramsByMethod = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> histogramsByName = new ConcurrentHashMap<>();
+    private final int intervals;
+
+    public LatencyRegistry(@Value("${latency.window.intervals:6}") int intervals) {
+        this.intervals = intervals;
+    }
+
+    public void record(Method method, long nanos) {
+        LatencyHistogram histogram = histogramsByMethod.get(method);
+        if (histogram == null) {
+            histogram = histogramsByMethod.computeIfAbsent(method, key -> histogramsByName.computeIfAbsent(
+                    key.getDeclaringClass().getSimpleName() + "." + key.getName(),
+                    name -> new LatencyHistogram(name, intervals)));
+        }
+        histogram.record(nanos);
+    }
+
+    @Scheduled(fixedRateString = "${latency.window.interval-millis:10000}")
+    public void rotate() {
+        histogramsByName.values().forEach(LatencyHistogram::rotate);
+    }
+
+    /**
+     * retrieves percentiles of every method over window
+     *
+     * @return percentiles in microseconds by method, ordered by method
+     */
+    public Map<String, Map<String, Long>> snapshot() {
+        Map<String, Map<String, Long>> result = new TreeMap<>();
+        histogramsByName.forEach((name, histogram) -> result.put(name, histogram.snapshot()));
+        return result;
+    }
+}
@@ -0,0 +1,30 @@
+package com.epam.esm.util.scheduling;
+
+import com.epam.esm.repository.OrderStatisticsRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * scheduled job rebuilding order aggregates from scratch
+ * to repair drift caused by deleted certificates or tags
+ *
+ * @author bakhridinova
+ */
+
+@Component
+@RequiredArgsConstructor
+public class OrderStatisticsReconciliationJob {
+    private static final Logger logger = LoggerFactory.getLogger(OrderStatisticsReconciliationJob.class);
+    private final OrderStatisticsRepository orderStatisticsRepository;
+
+    @Transactional
+    @Scheduled(cron = "${statistics.reconciliation.cron:0 0 3 * * *}")
+    public void reconcile() {
+        orderStatisticsRepository.rebuild();
+        logger.info("order statistics were rebuilt");
+    }
+}
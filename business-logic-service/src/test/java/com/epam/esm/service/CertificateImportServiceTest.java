@@ -0,0 +1,136 @@
+package com.epam.esm.service;
+
+import com.epam.esm.dto.CertificateDto;
+import com.epam.esm.dto.ImportReportDto;
+import com.epam.esm.dto.TagDto;
+import com.epam.esm.repository.CertificateRepository;
+import com.epam.esm.repository.TagRepository;
+import com.epam.esm.service.impl.CertificateImportServiceImpl;
+import com.epam.esm.util.ExportFormat;
+import com.epam.esm.util.imports.CertificateImportReader;
+import com.epam.esm.util.imports.ImportRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.dao.DataAccessException;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+class CertificateImportServiceTest {
+    @Mock
+    private CertificateRepository certificateRepository;
+    @Mock
+    private TagRepository tagRepository;
+    @Mock
+    private CertificateImportReader certificateImportReader;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private InputStream inputStream;
+
+    @InjectMocks
+    private CertificateImportServiceImpl certificateImportService;
+
+    @Test
+    void importAllShouldCommitEveryChunkAndReportRejectedRecords() throws IOException {
+        read(ImportRecord.parsed(1, validCertificate()),
+                ImportRecord.rejected(2, "record is malformed"),
+                ImportRecord.parsed(3, CertificateDto.builder().name("x").build()),
+                ImportRecord.parsed(4, validCertificate()));
+
+        ImportReportDto report = certificateImportService.importAll(ExportFormat.NDJSON, inputStream, 2, 1);
+        assertEquals(2, report.getImported());
+        assertEquals(2, report.getRejected());
+        assertNull(report.getResumeFrom());
+        assertEquals(2, report.getChunks().size());
+        assertEquals(List.of(new ImportReportDto.RecordError(3, "certificate name must be between 4 and 40 characters")),
+                report.getChunks().get(1).getErrors());
+        verify(tagRepository, times(2)).setAllTags(any());
+    }
+
+    @Test
+    void importAllShouldStopOnFailedChunkAndReportWhereToResumeFrom() throws IOException {
+        read(LongStream.rangeClosed(1, 6)
+                .mapToObj(number -> ImportRecord.parsed(number, validCertificate()))
+                .toArray(ImportRecord[]::new));
+        doThrow(new DataAccessException("") {})
+                .doNothing()
+                .when(tagRepository).saveAllIfAbsent(any());
+
+        ImportReportDto report = certificateImportService.importAll(ExportFormat.NDJSON, inputStream, 3, 1);
+        assertEquals(0, report.getImported());
+        assertEquals(1L, report.getResumeFrom());
+        assertEquals(ImportReportDto.Status.FAILED, report.getChunks().get(0).getStatus());
+        assertEquals(1, report.getChunks().size());
+    }
+
+    @Test
+    void importAllShouldSkipRecordsBeforeFirstRecord() throws IOException {
+        read(LongStream.rangeClosed(1, 5)
+                .mapToObj(number -> ImportRecord.parsed(number, validCertificate()))
+                .toArray(ImportRecord[]::new));
+
+        ImportReportDto report = certificateImportService.importAll(ExportFormat.NDJSON, inputStream, 10, 4);
+        assertEquals(2, report.getImported());
+        assertEquals(4, report.getChunks().get(0).getFirstRecord());
+    }
+
+    @Test
+    void importAllShouldKeepCommittedChunksAndReportWhereToResumeFromIfInputFails() throws IOException {
+        Iterator<ImportRecord> records = List.of(
+                ImportRecord.parsed(1, validCertificate()),
+                ImportRecord.parsed(2, validCertificate()),
+                ImportRecord.parsed(3, validCertificate())).iterator();
+        when(certificateImportReader.read(any(), any())).thenReturn(new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                if (!records.hasNext()) {
+                    throw new UncheckedIOException(new IOException("connection reset"));
+                }
+                return true;
+            }
+
+            @Override
+            public ImportRecord next() {
+                return records.next();
+            }
+        });
+
+        ImportReportDto report = certificateImportService.importAll(ExportFormat.NDJSON, inputStream, 2, 1);
+        assertEquals(2, report.getImported());
+        assertEquals(3L, report.getResumeFrom());
+        assertEquals(ImportReportDto.Status.FAILED, report.getChunks().get(1).getStatus());
+        assertEquals("failed to read input: connection reset", report.getChunks().get(1).getMessage());
+    }
+
+    private void read(ImportRecord... records) throws IOException {
+        when(certificateImportReader.read(any(), any()))
+                .thenReturn(List.of(records).iterator());
+    }
+
+    private CertificateDto validCertificate() {
+        return CertificateDto.builder()
+                .name("certificate").description("description")
+                .price(10.0).duration(10)
+                .tags(Set.of(TagDto.builder().name("tag").build()))
+                .build();
+    }
+}
@@ -1,9 +1,14 @@
 package com.epam.esm.service;
 
+import com.epam.esm.dto.CertificateDto;
 import com.epam.esm.exception.CustomEntityNotFoundException;
+import com.epam.esm.exception.CustomPreconditionFailedException;
 import com.epam.esm.repository.CertificateRepository;
 import com.epam.esm.repository.TagRepository;
 import com.epam.esm.service.impl.CertificateServiceImpl;
+import com.epam.esm.util.ExportFormat;
+import com.epam.esm.util.SearchFilter;
+import com.epam.esm.util.export.ExportWriter;
 import com.epam.esm.util.mapper.CertificateMapper;
 import com.epam.esm.util.mapper.TagMapper;
 import org.junit.jupiter.api.Test;
@@ -13,9 +18,11 @@ import org.mockito.Mock;
 import org.springframework.dao.DataAccessException;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.List;
+import java.util.Set;
 
-import static com.epam.esm.util.TestDataFactory.getCertificate;
 import static com.epam.esm.util.TestDataFactory.getCertificateDto;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -23,7 +30,10 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
@@ -36,6 +46,8 @@ class CertificateServiceTest {
     private CertificateMapper certificateMapper;
     @Mock
     private TagMapper tagMapper;
+    @Mock
+    private ExportWriter exportWriter;
 
     @InjectMocks
     private CertificateServiceImpl certificateService;
@@ -43,7 +55,7 @@ class CertificateServiceTest {
     @Test
     void findAllByPageShouldThrowDataAccessExceptionIfExceptionWasThrown() {
         doThrow(new DataAccessException("") {})
-                .when(certificateRepository).findById(anyLong());
+                .when(certificateRepository).findDtoById(anyLong());
 
         assertThrows(DataAccessException.class,
                 () -> certificateService.findById(anyLong()));
@@ -60,10 +72,8 @@ class CertificateServiceTest {
 
     @Test
     void findAllByPageShouldReturnCorrectListIfAnyCertificateWasFound() {
-        when(certificateRepository.findAllByPage(any()))
-                .thenReturn(List.of(getCertificate()));
-        when(certificateMapper.toCertificateDto(any()))
-                .thenReturn(getCertificateDto());
+        when(certificateRepository.findAllDtosByPage(any()))
+                .thenReturn(List.of(getCertificateDto()));
 
         assertEquals(List.of(getCertificateDto()),
                 certificateService.findAllByPage(0, 0));
@@ -72,7 +82,7 @@ class CertificateServiceTest {
     @Test
     void findByIdShouldThrowCustomEntityNotFoundExceptionIfNoCertificateWasFound() {
         doThrow(new CustomEntityNotFoundException(""))
-                .when(certificateRepository).findById(anyLong());
+                .when(certificateRepository).findDtoById(anyLong());
 
         assertThrows(CustomEntityNotFoundException.class,
                 () -> certificateService.findById(anyLong()));
@@ -81,7 +91,7 @@ class CertificateServiceTest {
     @Test
     void findByIdShouldThrowDataAccessExceptionIfExceptionWasThrown() {
         doThrow(new DataAccessException("") {})
-                .when(certificateRepository).findById(anyLong());
+                .when(certificateRepository).findDtoById(anyLong());
 
         assertThrows(DataAccessException.class,
                 () -> certificateService.findById(anyLong()));
@@ -89,9 +99,7 @@ class CertificateServiceTest {
 
     @Test
     void findByIdShouldReturnCorrectCertificateIfCertificateWasFound() {
-        when(certificateRepository.findById(anyLong()))
-                .thenReturn(getCertificate());
-        when(certificateMapper.toCertificateDto(any()))
+        when(certificateRepository.findDtoById(anyLong()))
                 .thenReturn(getCertificateDto());
 
         assertEquals(getCertificateDto(),
@@ -99,32 +107,43 @@ class CertificateServiceTest {
     }
 
     @Test
-    void updateNameByIdShouldThrowCustomEntityNotFoundExceptionIfNoCertificateWasFound() {
+    void updateByIdShouldThrowCustomEntityNotFoundExceptionIfNoCertificateWasFound() {
         doThrow(new CustomEntityNotFoundException(""))
-                .when(certificateRepository).findById(anyLong());
+                .when(certificateRepository).updateById(anyLong(), any(), any());
 
         assertThrows(CustomEntityNotFoundException.class,
-                () -> certificateService.updateNameById(anyLong(), getCertificateDto()));
+                () -> certificateService.updateById(1L, 0L, getCertificateDto()));
     }
 
     @Test
-    void updateNameByIdShouldThrowDataAccessExceptionIfExceptionWasThrown() {
+    void updateByIdShouldThrowCustomPreconditionFailedExceptionIfVersionIsOutdated() {
+        doThrow(new CustomPreconditionFailedException(""))
+                .when(certificateRepository).updateById(anyLong(), any(), any());
+
+        assertThrows(CustomPreconditionFailedException.class,
+                () -> certificateService.updateById(1L, 0L, getCertificateDto()));
+        verify(tagRepository, never()).replaceTags(any(), any());
+    }
+
+    @Test
+    void updateByIdShouldThrowDataAccessExceptionIfExceptionWasThrown() {
         doThrow(new DataAccessException("") {})
-                .when(certificateRepository).findById(anyLong());
+                .when(certificateRepository).updateById(anyLong(), any(), any());
 
         assertThrows(DataAccessException.class,
-                () -> certificateService.updateNameById(anyLong(), getCertificateDto()));
+                () -> certificateService.updateById(1L, 0L, getCertificateDto()));
     }
 
     @Test
-    void updateNameByIdShouldReturnUpdatedCertificateIfCertificateWasFound() {
-        when(certificateRepository.findById(anyLong()))
-                .thenReturn(getCertificate());
-        when(certificateMapper.toCertificateDto(any()))
+    void updateByIdShouldReturnUpdatedCertificateWithoutLoadingEntity() {
+        when(certificateRepository.findDtoById(anyLong()))
                 .thenReturn(getCertificateDto());
 
         assertEquals(getCertificateDto(),
-                certificateService.updateNameById(anyLong(), getCertificateDto()));
+                certificateService.updateById(1L, 0L, CertificateDto.builder().name("test").build()));
+        verify(certificateRepository).updateById(eq(1L), eq(0L), any());
+        verify(certificateRepository, never()).findById(anyLong());
+        verify(tagRepository, never()).replaceTags(any(), any());
     }
 
     @Test
@@ -147,26 +166,61 @@ class CertificateServiceTest {
     @Test
     void deleteByIdShouldThrowDataAccessExceptionIfExceptionWasThrown() {
         doThrow(new DataAccessException("") {})
-                .when(certificateRepository).delete(any());
+                .when(certificateRepository).deleteAllByIds(any());
 
         assertThrows(DataAccessException.class,
-                () -> certificateService.deleteById(anyLong()));
+                () -> certificateService.deleteById(1L));
     }
 
     @Test
-    void deleteByIdShouldThrowCustomEntityNotFoundExceptionIfNoTagWasFound() {
-        doThrow(new CustomEntityNotFoundException(""))
-                .when(certificateRepository).findById(anyLong());
+    void deleteByIdShouldThrowCustomEntityNotFoundExceptionIfNoCertificateWasDeleted() {
+        when(certificateRepository.deleteAllByIds(Set.of(1L)))
+                .thenReturn(0L);
+
+        assertThrows(CustomEntityNotFoundException.class,
+                () -> certificateService.deleteById(1L));
+    }
+
+    @Test
+    void deleteByIdShouldDoNothingIfCertificateWasDeleted() {
+        when(certificateRepository.deleteAllByIds(Set.of(1L)))
+                .thenReturn(1L);
+
+        assertDoesNotThrow(() -> certificateService.deleteById(1L));
+        verify(certificateRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void deleteAllByIdsShouldThrowCustomEntityNotFoundExceptionIfAnyCertificateWasMissing() {
+        when(certificateRepository.deleteAllByIds(Set.of(1L, 2L, 3L)))
+                .thenReturn(1L);
+
+        CustomEntityNotFoundException exception = assertThrows(CustomEntityNotFoundException.class,
+                () -> certificateService.deleteAllByIds(Set.of(1L, 2L, 3L)));
+        assertEquals("failed to find 2 of 3 certificates, none were deleted", exception.getMessage());
+    }
+
+    @Test
+    void deleteAllByFilterShouldThrowCustomEntityNotFoundExceptionIfNothingMatched() {
+        when(certificateRepository.deleteAllByFilter(any()))
+                .thenReturn(0L);
 
         assertThrows(CustomEntityNotFoundException.class,
-                () -> certificateService.deleteById(anyLong()));
+                () -> certificateService.deleteAllByFilter(SearchFilter.builder().name("none").build()));
     }
 
     @Test
-    void deleteByIdShouldDoNothingIfTagIfTagWasFound() {
-        when(certificateRepository.findById(anyLong()))
-                .thenReturn(getCertificate());
+    void deleteAllByFilterShouldReturnNumberOfDeletedCertificates() {
+        when(certificateRepository.deleteAllByFilter(any()))
+                .thenReturn(7L);
 
-        assertDoesNotThrow(() -> certificateService.deleteById(anyLong()));
+        assertEquals(7L, certificateService.deleteAllByFilter(SearchFilter.builder().name("test").build()));
+    }
+
+    @Test
+    void exportAllShouldWriteCertificatesInRequestedFormat() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        certificateService.exportAll(ExportFormat.CSV, outputStream);
+        verify(exportWriter).write(eq(ExportFormat.CSV), any(), any(), eq(outputStream));
     }
-}
\ No newline at end of file
+}
@@ -1,11 +1,17 @@
 package com.epam.esm.service;
 
+import com.epam.esm.dto.OrderBatchItemDto;
+import com.epam.esm.dto.OrderDto;
 import com.epam.esm.exception.CustomEntityNotFoundException;
 import com.epam.esm.repository.CertificateRepository;
 import com.epam.esm.repository.OrderRepository;
+import com.epam.esm.repository.OrderStatisticsRepository;
 import com.epam.esm.repository.UserRepository;
 import com.epam.esm.service.impl.OrderServiceImpl;
+import com.epam.esm.util.ExportFormat;
+import com.epam.esm.util.export.ExportWriter;
 import com.epam.esm.util.mapper.OrderMapper;
+import com.epam.esm.util.routing.ReadYourWritesTracker;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -13,10 +19,13 @@ import org.mockito.Mock;
 import org.springframework.dao.DataAccessException;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static com.epam.esm.util.TestDataFactory.getCertificate;
-import static com.epam.esm.util.TestDataFactory.getOrder;
 import static com.epam.esm.util.TestDataFactory.getOrderDto;
 import static com.epam.esm.util.TestDataFactory.getPagination;
 import static com.epam.esm.util.TestDataFactory.getUser;
@@ -25,7 +34,10 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
@@ -33,11 +45,18 @@ class OrderServiceTest {
     @Mock
     private OrderRepository orderRepository;
     @Mock
+    private OrderStatisticsRepository orderStatisticsRepository;
+    @Mock
     private UserRepository userRepository;
     @Mock
     private CertificateRepository certificateRepository;
     @Mock
     private OrderMapper orderMapper;
+    @Mock
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    @Mock
+    private ExportWriter exportWriter;
 
     @InjectMocks
     private OrderServiceImpl orderService;
@@ -45,7 +64,7 @@ class OrderServiceTest {
     @Test
     void findAllByPageShouldThrowDataAccessExceptionIfExceptionWasThrown() {
         doThrow(new DataAccessException("") {})
-                .when(orderRepository).findById(anyLong());
+                .when(orderRepository).findDtoById(anyLong());
 
         assertThrows(DataAccessException.class,
                 () -> orderService.findById(anyLong()));
@@ -53,7 +72,7 @@ class OrderServiceTest {
 
     @Test
     void findAllByPageShouldReturnEmptyListIfNoOrderWasFound() {
-        when(orderRepository.findAllByPage(any()))
+        when(orderRepository.findAllDtosByPage(any()))
                 .thenReturn(List.of());
 
         assertTrue(orderService
@@ -63,10 +82,8 @@ class OrderServiceTest {
     @Test
     void findAllByPageShouldReturnCorrectListIfAnyOrderWasFound() {
 
-        when(orderRepository.findAllByPage(any()))
-                .thenReturn(List.of(getOrder()));
-        when(orderMapper.toOrderDto(any()))
-                .thenReturn(getOrderDto());
+        when(orderRepository.findAllDtosByPage(any()))
+                .thenReturn(List.of(getOrderDto()));
 
         assertEquals(List.of(getOrderDto()),
                 orderService.findAllByPage(0, 0));
@@ -75,7 +92,7 @@ class OrderServiceTest {
     @Test
     void findByIdShouldThrowDataAccessExceptionIfExceptionWasThrown() {
         doThrow(new DataAccessException("") {})
-                .when(orderRepository).findById(anyLong());
+                .when(orderRepository).findDtoById(anyLong());
 
         assertThrows(DataAccessException.class,
                 () -> orderService.findById(anyLong()));
@@ -84,7 +101,7 @@ class OrderServiceTest {
     @Test
     void findByIdShouldThrowCustomEntityNotFoundExceptionIfNoOrderWasFound() {
         doThrow(new CustomEntityNotFoundException(""))
-                .when(orderRepository).findById(anyLong());
+                .when(orderRepository).findDtoById(anyLong());
 
         assertThrows(CustomEntityNotFoundException.class,
                 () -> orderService.findById(anyLong()));
@@ -92,9 +109,7 @@ class OrderServiceTest {
 
     @Test
     void findByIdShouldReturnCorrectOrderIfOrderWasFound() {
-        when(orderRepository.findById(anyLong()))
-                .thenReturn(getOrder());
-        when(orderMapper.toOrderDto(any()))
+        when(orderRepository.findDtoById(anyLong()))
                 .thenReturn(getOrderDto());
 
         assertEquals(getOrderDto(),
@@ -104,7 +119,7 @@ class OrderServiceTest {
     @Test
     void findByUserIdAndPageShouldThrowDataAccessExceptionIfExceptionWasThrown() {
         doThrow(new DataAccessException("") {})
-                .when(orderRepository).findByUserId(any(), any());
+                .when(orderRepository).findDtosByUserId(any(), any());
 
         assertThrows(DataAccessException.class,
                 () -> orderService.findByUserIdAndPage(0L, 0, 0));
@@ -114,10 +129,8 @@ class OrderServiceTest {
     void findByUserIdAndPageShouldReturnCorrectListIfUserWasFound() {
         when(userRepository.findById(anyLong()))
                 .thenReturn(getUser());
-        when(orderRepository.findByUserId(0L, getPagination()))
-                .thenReturn(List.of(getOrder()));
-        when(orderMapper.toOrderDto(any()))
-                .thenReturn(getOrderDto());
+        when(orderRepository.findDtosByUserId(0L, getPagination()))
+                .thenReturn(List.of(getOrderDto()));
 
         assertEquals(List.of(getOrderDto()),
                 orderService.findByUserIdAndPage(0L, 0, 0));
@@ -126,7 +139,7 @@ class OrderServiceTest {
     @Test
     void findByCertificateIdAndPageShouldThrowDataAccessExceptionIfExceptionWasThrown() {
         doThrow(new DataAccessException("") {})
-                .when(orderRepository).findByCertificateId(any(), any());
+                .when(orderRepository).findDtosByCertificateId(any(), any());
 
         assertThrows(DataAccessException.class,
                 () -> orderService.findByCertificateIdAndPage(0L, 0, 0));
@@ -136,10 +149,8 @@ class OrderServiceTest {
     void findByCertificateIdAndPageShouldReturnCorrectListIfCertificateWasFound() {
         when(certificateRepository.findById(anyLong()))
                 .thenReturn(getCertificate());
-        when(orderRepository.findByCertificateId(0L, getPagination()))
-                .thenReturn(List.of(getOrder()));
-        when(orderMapper.toOrderDto(any()))
-                .thenReturn(getOrderDto());
+        when(orderRepository.findDtosByCertificateId(0L, getPagination()))
+                .thenReturn(List.of(getOrderDto()));
 
         assertEquals(List.of(getOrderDto()),
                 orderService.findByCertificateIdAndPage(0L, 0, 0));
@@ -185,4 +196,79 @@ class OrderServiceTest {
 
         assertEquals(getOrderDto(), orderService.create(getOrderDto()));
     }
-}
\ No newline at end of file
+
+    @Test
+    void createShouldRecordOrderInStatisticsIfOrderWasSaved() {
+        when(certificateRepository.findById(anyLong()))
+                .thenReturn(getCertificate());
+        when(userRepository.findById(anyLong()))
+                .thenReturn(getUser());
+
+        orderService.create(getOrderDto());
+        verify(orderStatisticsRepository).recordOrder(any());
+    }
+
+    @Test
+    void createShouldRecordWriteOfUserIfOrderWasSaved() {
+        when(certificateRepository.findById(anyLong()))
+                .thenReturn(getCertificate());
+        when(userRepository.findById(anyLong()))
+                .thenReturn(getUser());
+
+        orderService.create(getOrderDto());
+        verify(readYourWritesTracker).recordWrite(getUser().getId());
+    }
+
+    @Test
+    void findByUserIdAndPageShouldReturnCorrectListIfUserHasRecentWrite() {
+        when(readYourWritesTracker.hasRecentWrite(anyLong()))
+                .thenReturn(true);
+        when(orderRepository.findDtosByUserId(anyLong(), any()))
+                .thenReturn(List.of(getOrderDto()));
+
+        assertEquals(List.of(getOrderDto()),
+                orderService.findByUserIdAndPage(0L, 0, 0));
+    }
+
+    @Test
+    void createAllShouldRejectOrdersOfUnknownUsersAndCertificates() {
+        when(userRepository.findExistingIds(any()))
+                .thenReturn(Set.of(0L));
+        List<OrderBatchItemDto> results = orderService.createAll(List.of(
+                OrderDto.builder().userId(1L).certificateId(0L).build(), getOrderDto()));
+
+        assertEquals(OrderBatchItemDto.Status.REJECTED, results.get(0).getStatus());
+        assertEquals("failed to find user by id 1", results.get(0).getMessage());
+        assertEquals(OrderBatchItemDto.Status.REJECTED, results.get(1).getStatus());
+        assertEquals("failed to find certificate by id 0", results.get(1).getMessage());
+        verify(orderRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void createAllShouldSaveOrdersAndRefreshStatisticsOnceIfUsersAndCertificatesWereFound() {
+        when(userRepository.findExistingIds(any()))
+                .thenReturn(Set.of(0L));
+        when(certificateRepository.findPricesByIds(any()))
+                .thenReturn(Map.of(0L, 0.0));
+        when(userRepository.getReference(anyLong()))
+                .thenReturn(getUser());
+        when(certificateRepository.getReference(anyLong()))
+                .thenReturn(getCertificate());
+        when(orderMapper.toOrderDto(any()))
+                .thenReturn(getOrderDto());
+
+        List<OrderBatchItemDto> results = orderService.createAll(List.of(getOrderDto(), getOrderDto()));
+        assertTrue(results.stream().allMatch(result ->
+                result.getStatus() == OrderBatchItemDto.Status.CREATED));
+        verify(orderRepository).saveAll(any());
+        verify(orderStatisticsRepository).refresh(Set.of(0L));
+        verify(orderStatisticsRepository, never()).recordOrder(any());
+    }
+
+    @Test
+    void exportAllShouldWriteOrdersInRequestedFormat() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        orderService.exportAll(ExportFormat.CSV, outputStream);
+        verify(exportWriter).write(eq(ExportFormat.CSV), any(), any(), eq(outputStream));
+    }
+}
@@ -14,6 +14,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static com.epam.esm.util.TestDataFactory.getTag;
 import static com.epam.esm.util.TestDataFactory.getTagDto;
@@ -25,6 +26,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
@@ -40,7 +43,7 @@ class TagServiceTest {
     @Test
     void findAllByPageShouldThrowDataAccessExceptionIfExceptionWasThrown() {
         doThrow(new DataAccessException("") {})
-                .when(tagRepository).findById(anyLong());
+                .when(tagRepository).findDtoById(anyLong());
 
         assertThrows(DataAccessException.class,
                 () -> tagService.findById(anyLong()));
@@ -48,7 +51,7 @@ class TagServiceTest {
 
     @Test
     void findAllByPageShouldReturnEmptyListIfNoTagWasFound() {
-        when(tagRepository.findAllByPage(any()))
+        when(tagRepository.findAllDtosByPage(any()))
                 .thenReturn(List.of());
 
         assertTrue(tagService
@@ -57,10 +60,8 @@ class TagServiceTest {
 
     @Test
     void findAllByPageShouldReturnCorrectListIfAnyTagWasFound() {
-        when(tagRepository.findAllByPage(any()))
-                .thenReturn(List.of(getTag()));
-        when(tagMapper.toTagDto(any()))
-                .thenReturn(getTagDto());
+        when(tagRepository.findAllDtosByPage(any()))
+                .thenReturn(List.of(getTagDto()));
 
         assertEquals(List.of(getTagDto()),
                 tagService.findAllByPage(0, 0));
@@ -69,7 +70,7 @@ class TagServiceTest {
     @Test
     void findByIdShouldThrowDataAccessExceptionIfExceptionWasThrown() {
         doThrow(new DataAccessException("") {})
-                .when(tagRepository).findById(anyLong());
+                .when(tagRepository).findDtoById(anyLong());
 
         assertThrows(DataAccessException.class,
                 () -> tagService.findById(anyLong()));
@@ -78,7 +79,7 @@ class TagServiceTest {
     @Test
     void findByIdShouldThrowCustomEntityNotFoundExceptionIfNoTagWasFound() {
         doThrow(new CustomEntityNotFoundException(""))
-                .when(tagRepository).findById(anyLong());
+                .when(tagRepository).findDtoById(anyLong());
 
         assertThrows(CustomEntityNotFoundException.class,
                 () -> tagService.findById(anyLong()));
@@ -86,9 +87,7 @@ class TagServiceTest {
 
     @Test
     void findByIdShouldReturnCorrectTagIfTagWasFound() {
-        when(tagRepository.findById(anyLong()))
-                .thenReturn(getTag());
-        when(tagMapper.toTagDto(any()))
+        when(tagRepository.findDtoById(anyLong()))
                 .thenReturn(getTagDto());
 
         assertEquals(getTagDto(),
@@ -134,27 +133,46 @@ class TagServiceTest {
     @Test
     void deleteByPageShouldThrowDataAccessExceptionIfExceptionWasThrown() {
         doThrow(new DataAccessException("") {})
-                .when(tagRepository).delete(any());
+                .when(tagRepository).deleteAllByIds(any());
 
         assertThrows(DataAccessException.class,
-                () -> tagService.deleteById(anyLong()));
+                () -> tagService.deleteById(1L));
     }
 
 
     @Test
-    void deleteByPageShouldThrowCustomEntityNotFoundExceptionIfNoTagWasFound() {
-        doThrow(new CustomEntityNotFoundException(""))
-                .when(tagRepository).findById(anyLong());
+    void deleteByPageShouldThrowCustomEntityNotFoundExceptionIfNoTagWasDeleted() {
+        when(tagRepository.deleteAllByIds(Set.of(1L)))
+                .thenReturn(0L);
 
         assertThrows(CustomEntityNotFoundException.class,
-                () -> tagService.deleteById(anyLong()));
+                () -> tagService.deleteById(1L));
     }
 
     @Test
-    void deleteByPageShouldDoNothingIfTagIfTagWasFound() {
-        when(tagRepository.findById(anyLong()))
-                .thenReturn(getTag());
+    void deleteByPageShouldDoNothingIfTagWasDeleted() {
+        when(tagRepository.deleteAllByIds(Set.of(1L)))
+                .thenReturn(1L);
+
+        assertDoesNotThrow(() -> tagService.deleteById(1L));
+        verify(tagRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void deleteAllByIdsShouldThrowCustomEntityNotFoundExceptionIfAnyTagWasMissing() {
+        when(tagRepository.deleteAllByIds(Set.of(1L, 2L, 3L)))
+                .thenReturn(2L);
+
+        CustomEntityNotFoundException exception = assertThrows(CustomEntityNotFoundException.class,
+                () -> tagService.deleteAllByIds(Set.of(1L, 2L, 3L)));
+        assertEquals("failed to find 1 of 3 tags, none were deleted", exception.getMessage());
+    }
+
+    @Test
+    void deleteAllByIdsShouldReturnNumberOfDeletedTags() {
+        when(tagRepository.deleteAllByIds(Set.of(1L, 2L)))
+                .thenReturn(2L);
 
-        assertDoesNotThrow(() -> tagService.deleteById(anyLong()));
+        assertEquals(2L, tagService.deleteAllByIds(Set.of(1L, 2L)));
     }
 }
\ No newline at end of file
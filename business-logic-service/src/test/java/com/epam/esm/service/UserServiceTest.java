@@ -3,7 +3,6 @@ package com.epam.esm.service;
 import com.epam.esm.exception.CustomEntityNotFoundException;
 import com.epam.esm.repository.UserRepository;
 import com.epam.esm.service.impl.UserServiceImpl;
-import com.epam.esm.util.mapper.UserMapper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -13,7 +12,6 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.List;
 
-import static com.epam.esm.util.TestDataFactory.getUser;
 import static com.epam.esm.util.TestDataFactory.getUserDto;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -27,8 +25,6 @@ import static org.mockito.Mockito.when;
 class UserServiceTest {
     @Mock
     private UserRepository userRepository;
-    @Mock
-    private UserMapper userMapper;
 
     @InjectMocks
     private UserServiceImpl userService;
@@ -36,7 +32,7 @@ class UserServiceTest {
     @Test
     void findAllByPageShouldThrowDataAccessExceptionIfExceptionWasThrown() {
         doThrow(new DataAccessException("") {})
-                .when(userRepository).findById(anyLong());
+                .when(userRepository).findDtoById(anyLong());
 
         assertThrows(DataAccessException.class,
                 () -> userService.findById(anyLong()));
@@ -44,7 +40,7 @@ class UserServiceTest {
 
     @Test
     void findAllByPageShouldReturnEmptyListIfNoUserWasFound() {
-        when(userRepository.findAllByPage(any()))
+        when(userRepository.findAllDtosByPage(any()))
                 .thenReturn(List.of());
 
         assertTrue(userService
@@ -53,10 +49,8 @@ class UserServiceTest {
 
     @Test
     void findAllByPageShouldReturnCorrectListIfAnyUserWasFound() {
-        when(userRepository.findAllByPage(any()))
-                .thenReturn(List.of(getUser()));
-        when(userMapper.toUserDto(any()))
-                .thenReturn(getUserDto());
+        when(userRepository.findAllDtosByPage(any()))
+                .thenReturn(List.of(getUserDto()));
 
         assertEquals(List.of(getUserDto()),
                 userService.findAllByPage(0, 0));
@@ -65,7 +59,7 @@ class UserServiceTest {
     @Test
     void findByIdShouldThrowDataAccessExceptionIfExceptionWasThrown() {
         doThrow(new DataAccessException("") {})
-                .when(userRepository).findById(anyLong());
+                .when(userRepository).findDtoById(anyLong());
 
         assertThrows(DataAccessException.class,
                 () -> userService.findById(anyLong()));
@@ -74,7 +68,7 @@ class UserServiceTest {
     @Test
     void findByIdShouldThrowCustomEntityNotFoundExceptionIfNoUserWasFound() {
         doThrow(new CustomEntityNotFoundException(""))
-                .when(userRepository).findById(anyLong());
+                .when(userRepository).findDtoById(anyLong());
 
         assertThrows(CustomEntityNotFoundException.class,
                 () -> userService.findById(anyLong()));
@@ -82,9 +76,7 @@ class UserServiceTest {
 
     @Test
     void findByIdShouldReturnCorrectUserIfUserWasFound() {
-        when(userRepository.findById(anyLong()))
-                .thenReturn(getUser());
-        when(userMapper.toUserDto(any()))
+        when(userRepository.findDtoById(anyLong()))
                 .thenReturn(getUserDto());
 
         assertEquals(getUserDto(),
@@ -0,0 +1,50 @@
+package com.epam.esm.util.export;
+
+import com.epam.esm.util.ExportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ExportWriterTest {
+    private final ExportWriter exportWriter = new ExportWriter(new ObjectMapper());
+
+    private final List<ExportColumn<List<Object>>> columns = List.of(
+            new ExportColumn<>("id", row -> row.get(0)),
+            new ExportColumn<>("name", row -> row.get(1)),
+            new ExportColumn<>("tags", row -> row.get(2)));
+
+    private final Consumer<Consumer<List<Object>>> rows = consumer -> {
+        consumer.accept(List.of(1L, "first", List.of("a", "b")));
+        consumer.accept(List.of(2L, "second, \"quoted\"", List.of()));
+    };
+
+    @Test
+    void writeShouldWriteOneJsonObjectPerLine() throws IOException {
+        assertEquals("""
+                {"id":1,"name":"first","tags":["a","b"]}
+                {"id":2,"name":"second, \\"quoted\\"","tags":[]}
+                """, write(ExportFormat.NDJSON));
+    }
+
+    @Test
+    void writeShouldWriteHeaderAndEscapedCsvLines() throws IOException {
+        assertEquals("""
+                id,name,tags
+                1,first,a|b
+                2,"second, ""quoted\"\"\",
+                """, write(ExportFormat.CSV));
+    }
+
+    private String write(ExportFormat format) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        exportWriter.write(format, columns, rows, outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+}
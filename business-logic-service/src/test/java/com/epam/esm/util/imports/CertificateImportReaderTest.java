@@ -0,0 +1,103 @@
+package com.epam.esm.util.imports;
+
+import com.epam.esm.dto.TagDto;
+import com.epam.esm.util.ExportFormat;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CertificateImportReaderTest {
+    private final CertificateImportReader certificateImportReader = new CertificateImportReader(
+            new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+
+    @Test
+    void readShouldParseOneCertificatePerLine() throws IOException {
+        List<ImportRecord> records = read(ExportFormat.NDJSON, """
+                {"name":"first","price":10.0,"tags":[{"name":"tag"}]}
+                {"name":"second","duration":20}
+                """);
+        assertEquals(2, records.size());
+        assertEquals("first", records.get(0).certificate().getName());
+        assertEquals(Set.of("tag"), tagNames(records.get(0)));
+        assertEquals(2, records.get(1).number());
+        assertEquals(20, records.get(1).certificate().getDuration());
+    }
+
+    @Test
+    void readShouldParseCsvWithHeaderInLayoutOfExport() throws IOException {
+        List<ImportRecord> records = read(ExportFormat.CSV, """
+                id,name,description,price,duration,createdAt,lastUpdatedAt,tags
+                1,first,"first, described",10.0,20,,,one|two
+                """);
+        assertEquals(1, records.size());
+        assertEquals("first, described", records.get(0).certificate().getDescription());
+        assertEquals(10.0, records.get(0).certificate().getPrice());
+        assertEquals(Set.of("one", "two"), tagNames(records.get(0)));
+    }
+
+    @Test
+    void readShouldRejectMalformedRecordAndContinue() throws IOException {
+        List<ImportRecord> records = read(ExportFormat.CSV, """
+                name,price,duration
+                first,cheap,20
+                second,10.0,20
+                """);
+        assertEquals(2, records.size());
+        assertTrue(records.get(0).isRejected());
+        assertEquals("price should be of type double", records.get(0).error());
+        assertFalse(records.get(1).isRejected());
+    }
+
+    @Test
+    void readShouldRejectMalformedLineAndContinueWithNextOne() throws IOException {
+        List<ImportRecord> records = read(ExportFormat.NDJSON, """
+                {"name":"first"}
+                {"name": }
+
+                {"name":"second"}
+                """);
+        assertEquals(3, records.size());
+        assertTrue(records.get(1).isRejected());
+        assertEquals(2, records.get(1).number());
+        assertTrue(records.get(1).error().startsWith("line 2 is malformed"));
+        assertEquals("second", records.get(2).certificate().getName());
+        assertEquals(4, records.get(2).number());
+    }
+
+    @Test
+    void readShouldRejectRestOfCsvWithUnclosedQuoteWithoutFailing() throws IOException {
+        List<ImportRecord> records = read(ExportFormat.CSV, """
+                name,price,duration
+                first,10.0,20
+                "second,10.0,20
+                third,10.0,20
+                """);
+        assertEquals("first", records.get(0).certificate().getName());
+        assertTrue(records.size() > 1);
+        assertTrue(records.subList(1, records.size()).stream().allMatch(ImportRecord::isRejected));
+    }
+
+    private List<ImportRecord> read(ExportFormat format, String input) throws IOException {
+        List<ImportRecord> records = new ArrayList<>();
+        certificateImportReader.read(format, new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)))
+                .forEachRemaining(records::add);
+        return records;
+    }
+
+    private Set<String> tagNames(ImportRecord record) {
+        return record.certificate().getTags().stream()
+                .map(TagDto::getName).collect(Collectors.toSet());
+    }
+}
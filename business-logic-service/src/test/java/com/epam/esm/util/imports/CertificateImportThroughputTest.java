@@ -0,0 +1,69 @@
+package com.epam.esm.util.imports;
+
+import com.epam.esm.dto.ImportReportDto;
+import com.epam.esm.repository.CertificateRepository;
+import com.epam.esm.repository.TagRepository;
+import com.epam.esm.service.impl.CertificateImportServiceImpl;
+import com.epam.esm.util.ExportFormat;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+/**
+ * measures records per second of parsing, parallel validation
+ * and chunking of import, repositories are mocked so that
+ * numbers do not depend on database the benchmark runs against
+ */
+@Tag("benchmark")
+class CertificateImportThroughputTest {
+    private static final Logger logger = LoggerFactory.getLogger(CertificateImportThroughputTest.class);
+    private static final int RECORDS = 200_000;
+    private static final int CHUNK_SIZE = 500;
+
+    private final CertificateImportServiceImpl certificateImportService = new CertificateImportServiceImpl(
+            mock(CertificateRepository.class), mock(TagRepository.class),
+            new CertificateImportReader(new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)),
+            mock(PlatformTransactionManager.class));
+
+    @Test
+    void importAllThroughputOfNdjson() throws IOException {
+        measure(ExportFormat.NDJSON, IntStream.range(0, RECORDS)
+                .mapToObj(i -> "{\"name\":\"certificate\",\"description\":\"description\"," +
+                        "\"price\":10.0,\"duration\":10,\"tags\":[{\"name\":\"tag\"},{\"name\":\"other\"}]}")
+                .collect(Collectors.joining("\n")));
+    }
+
+    @Test
+    void importAllThroughputOfCsv() throws IOException {
+        measure(ExportFormat.CSV, "name,description,price,duration,tags\n" + IntStream.range(0, RECORDS)
+                .mapToObj(i -> "certificate,description,10.0,10,tag|other")
+                .collect(Collectors.joining("\n")));
+    }
+
+    private void measure(ExportFormat format, String input) throws IOException {
+        byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+        // first run warms up parser and validator
+        certificateImportService.importAll(format, new ByteArrayInputStream(bytes), CHUNK_SIZE, 1);
+
+        long start = System.nanoTime();
+        ImportReportDto report = certificateImportService.importAll(format, new ByteArrayInputStream(bytes), CHUNK_SIZE, 1);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        assertEquals(RECORDS, report.getImported());
+        logger.info("{} import: {} records in {} s, {} records/s", format, RECORDS,
+                String.format("%.2f", seconds), Math.round(RECORDS / seconds));
+    }
+}
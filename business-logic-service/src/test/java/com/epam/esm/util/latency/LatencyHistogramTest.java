@@ -0,0 +1,75 @@
+package com.epam.esm.util.latency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+    private final LatencyHistogram histogram = new LatencyHistogram("CertificateService.findById", 3);
+
+    @Test
+    void snapshotShouldReportPercentilesOfCompletedIntervals() {
+        IntStream.rangeClosed(1, 1000).forEach(i -> histogram.record(TimeUnit.MICROSECONDS.toNanos(i)));
+        assertEquals(0, histogram.snapshot().get("count"));
+
+        histogram.rotate();
+        Map<String, Long> snapshot = histogram.snapshot();
+
+        assertEquals(1000, snapshot.get("count"));
+        assertBetween(495, 505, snapshot.get("p50"));
+        assertBetween(895, 905, snapshot.get("p90"));
+        assertBetween(985, 995, snapshot.get("p99"));
+        assertBetween(995, 1010, snapshot.get("p999"));
+        assertBetween(1000, 1010, snapshot.get("max"));
+    }
+
+    @Test
+    void snapshotShouldForgetIntervalsLeavingWindow() {
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(5));
+        histogram.rotate();
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(7));
+        histogram.rotate();
+        assertEquals(2, histogram.snapshot().get("count"));
+
+        histogram.rotate();
+        histogram.rotate();
+        assertEquals(1, histogram.snapshot().get("count"));
+        assertBetween(6990, 7050, histogram.snapshot().get("max"));
+
+        histogram.rotate();
+        assertEquals(0, histogram.snapshot().get("count"));
+    }
+
+    @Test
+    void recordShouldCapValuesAboveHighestTrackableValue() {
+        histogram.record(Long.MAX_VALUE);
+        histogram.record(-1);
+        histogram.rotate();
+
+        Map<String, Long> snapshot = histogram.snapshot();
+        assertEquals(2, snapshot.get("count"));
+        assertBetween(TimeUnit.MINUTES.toMicros(1), TimeUnit.MINUTES.toMicros(1) * 101 / 100, snapshot.get("max"));
+    }
+
+    @Test
+    void registryShouldShareHistogramBetweenOverloadedMethods() throws NoSuchMethodException {
+        LatencyRegistry registry = new LatencyRegistry(2);
+        registry.record(String.class.getMethod("valueOf", int.class), 1000);
+        registry.record(String.class.getMethod("valueOf", long.class), 2000);
+        registry.record(String.class.getMethod("length"), 3000);
+        registry.rotate();
+
+        Map<String, Map<String, Long>> snapshot = registry.snapshot();
+        assertEquals(2, snapshot.get("String.valueOf").get("count"));
+        assertEquals(1, snapshot.get("String.length").get("count"));
+    }
+
+    private static void assertBetween(long min, long max, long actual) {
+        assertTrue(actual >= min && actual <= max, actual + " is not between " + min + " and " + max);
+    }
+}
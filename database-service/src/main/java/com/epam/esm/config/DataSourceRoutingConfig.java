@@ -0,0 +1,50 @@
+package com.epam.esm.config;
+
+import com.epam.esm.util.routing.ReplicaRoutingDataSource;
+import com.epam.esm.util.routing.ReplicaSelection;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * configuration routing read-only transactions to replicas,
+ * active only if replica urls are provided, otherwise
+ * single data source is auto-configured as usual
+ *
+ * @author bakhridinova
+ */
+
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+@ConditionalOnProperty(prefix = "datasource.replicas", name = "urls")
+public class DataSourceRoutingConfig {
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties,
+                                 @Value("${datasource.replicas.urls}") List<String> replicaUrls,
+                                 @Value("${datasource.replicas.username:${spring.datasource.username:}}") String username,
+                                 @Value("${datasource.replicas.password:${spring.datasource.password:}}") String password,
+                                 @Value("${datasource.replicas.selection:round_robin}") ReplicaSelection selection) {
+        DataSource primary = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class).build();
+        List<DataSource> replicas = replicaUrls.stream()
+                .map(url -> (DataSource) properties.initializeDataSourceBuilder()
+                        .type(HikariDataSource.class)
+                        .url(url).username(username).password(password)
+                        .build())
+                .toList();
+
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primary, replicas, selection);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -1,6 +1,7 @@
 package com.epam.esm.repository;
 
 import com.epam.esm.entity.Identifiable;
+import com.epam.esm.util.Cursor;
 import com.epam.esm.util.Pagination;
 
 import java.util.List;
@@ -20,6 +21,15 @@ public interface BaseRepository<T extends Identifiable> {
      */
     List<T> findAllByPage(Pagination pagination);
 
+    /**
+     * retrieves list of entities ordered by ID that follow cursor position,
+     * seeks by primary key index instead of skipping offset rows
+     *
+     * @param cursor details
+     * @return list of entities
+     */
+    List<T> findAllByCursor(Cursor cursor);
+
     /**
      * retrieves total number of entities in database
      *
@@ -43,13 +53,4 @@ public interface BaseRepository<T extends Identifiable> {
     default void save(T t) {
 
     }
-
-    /**
-     * deletes entity from database
-     *
-     * @param t entity to delete
-     */
-    default void delete(T t) {
-
-    }
 }
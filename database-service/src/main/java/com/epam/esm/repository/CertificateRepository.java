@@ -1,10 +1,15 @@
 package com.epam.esm.repository;
 
+import com.epam.esm.dto.CertificateDto;
 import com.epam.esm.entity.Certificate;
+import com.epam.esm.util.Cursor;
 import com.epam.esm.util.Pagination;
 import com.epam.esm.util.SearchFilter;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface CertificateRepository extends BaseRepository<Certificate> {
     /**
@@ -39,6 +44,56 @@ public interface CertificateRepository extends BaseRepository<Certificate> {
      */
     List<Certificate> findByFilterAndPage(SearchFilter searchFilter, Pagination pagination);
 
+    /**
+     * retrieves a paginated list of certificates projected
+     * straight into data transfer objects
+     *
+     * @param pagination details
+     * @return list of certificates
+     */
+    List<CertificateDto> findAllDtosByPage(Pagination pagination);
+
+    /**
+     * retrieves list of certificates following cursor position
+     * projected straight into data transfer objects
+     *
+     * @param cursor details
+     * @return list of certificates
+     */
+    List<CertificateDto> findAllDtosByCursor(Cursor cursor);
+
+    /**
+     * retrieves certificate with specified ID
+     * projected straight into data transfer object
+     *
+     * @param id ID of certificate
+     * @return certificate with the specified ID
+     */
+    CertificateDto findDtoById(Long id);
+
+    /**
+     * retrieves list of certificates that match specified search filter parameters
+     * projected straight into data transfer objects
+     *
+     * @param searchFilter containing search parameters to apply to the certificates
+     * @param pagination details
+     * @return list of certificates that match the specified parameters
+     */
+    List<CertificateDto> findDtosByFilterAndPage(SearchFilter searchFilter, Pagination pagination);
+
+    /**
+     * updates non-null fields of patch (except tags) on certificate with
+     * specified ID using single conditional update without loading it,
+     * version of certificate is incremented on every update
+     *
+     * @param id ID of certificate
+     * @param version expected version of certificate, null to skip the check
+     * @param patch holding fields to update
+     * @throws com.epam.esm.exception.CustomEntityNotFoundException if certificate does not exist
+     * @throws com.epam.esm.exception.CustomPreconditionFailedException if version does not match
+     */
+    void updateById(Long id, Long version, CertificateDto patch);
+
     /**
      * saves certificate to database
      *
@@ -47,9 +102,55 @@ public interface CertificateRepository extends BaseRepository<Certificate> {
     void save(Certificate certificate);
 
     /**
-     * deletes certificate from database
+     * deletes certificates with specified IDs without loading them,
+     * tag associations are deleted first, each table is cleared
+     * with one statement per batch of IDs
+     *
+     * @param ids IDs of certificates
+     * @return number of deleted certificates
+     */
+    long deleteAllByIds(Set<Long> ids);
+
+    /**
+     * deletes certificates matching search filter without loading them,
+     * sort parameters of filter are ignored
+     *
+     * @param searchFilter holding search parameters
+     * @return number of deleted certificates
+     */
+    long deleteAllByFilter(SearchFilter searchFilter);
+
+    /**
+     * retrieves prices of certificates with specified IDs
+     * using single query without loading certificates
+     *
+     * @param ids IDs of certificates
+     * @return map of ID to price, containing existing certificates only
+     */
+    Map<Long, Double> findPricesByIds(Set<Long> ids);
+
+    /**
+     * retrieves reference to certificate with specified ID
+     * without loading it from database
+     *
+     * @param id ID of existing certificate
+     * @return reference to certificate
+     */
+    Certificate getReference(Long id);
+
+    /**
+     * reads all certificates with their tags ordered by ID
+     * through server-side cursor and passes them to consumer one by one
+     *
+     * @param consumer receiving certificates
+     */
+    void exportAll(Consumer<CertificateDto> consumer);
+
+    /**
+     * detaches certificate from persistence context,
+     * pending changes of certificate have to be flushed before
      *
-     * @param certificate to delete
+     * @param certificate to detach
      */
-    void delete(Certificate certificate);
+    void detach(Certificate certificate);
 }
@@ -1,10 +1,13 @@
 package com.epam.esm.repository;
 
+import com.epam.esm.dto.OrderDto;
 import com.epam.esm.entity.Order;
+import com.epam.esm.util.Cursor;
 import com.epam.esm.util.Pagination;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 @Repository
 public interface OrderRepository extends BaseRepository<Order> {
@@ -31,6 +34,53 @@ public interface OrderRepository extends BaseRepository<Order> {
      */
     Order findById(Long id);
 
+    /**
+     * retrieves a paginated list of orders projected
+     * straight into data transfer objects
+     *
+     * @param pagination details
+     * @return list of orders
+     */
+    List<OrderDto> findAllDtosByPage(Pagination pagination);
+
+    /**
+     * retrieves list of orders following cursor position
+     * projected straight into data transfer objects
+     *
+     * @param cursor details
+     * @return list of orders
+     */
+    List<OrderDto> findAllDtosByCursor(Cursor cursor);
+
+    /**
+     * retrieves order with specified ID
+     * projected straight into data transfer object
+     *
+     * @param id ID of order
+     * @return order with the specified ID
+     */
+    OrderDto findDtoById(Long id);
+
+    /**
+     * retrieves a list of orders associated with certificate, based on pagination details,
+     * projected straight into data transfer objects
+     *
+     * @param certificateId to search for associated orders
+     * @param pagination details
+     * @return list of orders of specified certificate
+     */
+    List<OrderDto> findDtosByCertificateId(Long certificateId, Pagination pagination);
+
+    /**
+     * retrieves a list of orders associated with user, based on pagination details,
+     * projected straight into data transfer objects
+     *
+     * @param userId to search for associated orders
+     * @param pagination details
+     * @return list of orders of specified user
+     */
+    List<OrderDto> findDtosByUserId(Long userId, Pagination pagination);
+
     /**
      * retrieves a list of orders associated with certificate, based on pagination details
      *
@@ -56,4 +106,20 @@ public interface OrderRepository extends BaseRepository<Order> {
      * @param order to save
      */
     void save(Order order);
+
+    /**
+     * saves orders to database, inserts are
+     * sent in JDBC batches once session is flushed
+     *
+     * @param orders to save
+     */
+    void saveAll(List<Order> orders);
+
+    /**
+     * reads all orders ordered by ID through server-side cursor
+     * and passes them to consumer one by one
+     *
+     * @param consumer receiving orders
+     */
+    void exportAll(Consumer<OrderDto> consumer);
 }
@@ -0,0 +1,40 @@
+package com.epam.esm.repository;
+
+import com.epam.esm.entity.Order;
+import org.springframework.stereotype.Repository;
+
+import java.util.Set;
+
+/**
+ * repository maintaining per-user order aggregates
+ * used to resolve special tag without scanning orders
+ *
+ * @author bakhridinova
+ */
+
+@Repository
+public interface OrderStatisticsRepository {
+    /**
+     * adds order price to total spending of its user and,
+     * if it is first order of certificate by user, counts
+     * tags of certificate as used by user,
+     * must be called in same transaction as saving order
+     *
+     * @param order saved order
+     */
+    void recordOrder(Order order);
+
+    /**
+     * drops and recalculates all aggregates from orders
+     */
+    void rebuild();
+
+    /**
+     * recalculates aggregates of specified users from their orders,
+     * used after saving many orders at once instead of recording
+     * them one by one
+     *
+     * @param userIds IDs of users whose orders were saved
+     */
+    void refresh(Set<Long> userIds);
+}
@@ -1,11 +1,14 @@
 package com.epam.esm.repository;
 
+import com.epam.esm.dto.TagDto;
 import com.epam.esm.entity.Certificate;
 import com.epam.esm.entity.Tag;
+import com.epam.esm.util.Cursor;
 import com.epam.esm.util.Pagination;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -34,6 +37,33 @@ public interface TagRepository extends BaseRepository<Tag> {
      */
     Tag findById(Long id);
 
+    /**
+     * retrieves a paginated list of tags projected
+     * straight into data transfer objects
+     *
+     * @param pagination details
+     * @return list of tags
+     */
+    List<TagDto> findAllDtosByPage(Pagination pagination);
+
+    /**
+     * retrieves list of tags following cursor position
+     * projected straight into data transfer objects
+     *
+     * @param cursor details
+     * @return list of tags
+     */
+    List<TagDto> findAllDtosByCursor(Cursor cursor);
+
+    /**
+     * retrieves tag with specified ID
+     * projected straight into data transfer object
+     *
+     * @param id ID of tag
+     * @return tag with the specified ID
+     */
+    TagDto findDtoById(Long id);
+
     /**
      * retrieves tag with specified name
      *
@@ -42,11 +72,29 @@ public interface TagRepository extends BaseRepository<Tag> {
      */
     Optional<Tag> findByName(String name);
 
+    /**
+     * retrieves tags with specified names using single query
+     *
+     * @param names of tags
+     * @return list of existing tags, tags that were not found are skipped
+     */
+    List<Tag> findAllByNames(Set<String> names);
+
+    /**
+     * saves tags with specified names using single statement,
+     * names that already exist are skipped by database
+     * so concurrent requests do not fail on unique constraint
+     *
+     * @param names of tags to save
+     */
+    void saveAllIfAbsent(Set<String> names);
+
     /**
      * retrieves most widely used tag of user who has
-     * maximum sum of all orders
+     * maximum sum of all orders using maintained order aggregates
      *
      * @return specified tag
+     * @see OrderStatisticsRepository
      */
     Tag findSpecial();
 
@@ -58,7 +106,7 @@ public interface TagRepository extends BaseRepository<Tag> {
     void save(Tag tag);
 
     /**
-     * attaches tags to certificates
+     * attaches tags to certificate using single multi-row insert
      *
      * @param certificate to attach to
      * @param tags to attach
@@ -66,9 +114,35 @@ public interface TagRepository extends BaseRepository<Tag> {
     void setTags(Certificate certificate, Set<Tag> tags);
 
     /**
-     * deletes tag from database
+     * attaches tags to each of certificates using single multi-row insert,
+     * pending inserts of certificates are flushed before even if there are no tags
+     *
+     * @param tagsByCertificate tags to attach by certificate to attach to
+     */
+    void setAllTags(Map<Certificate, Set<Tag>> tagsByCertificate);
+
+    /**
+     * detaches all tags from certificate using single delete
+     *
+     * @param certificate to detach from
+     */
+    void deleteTags(Certificate certificate);
+
+    /**
+     * replaces tag set of certificate, costs one delete
+     * and one insert regardless of number of tags
+     *
+     * @param certificate to replace tags of
+     * @param tags to attach instead of current ones
+     */
+    void replaceTags(Certificate certificate, Set<Tag> tags);
+
+    /**
+     * deletes tags with specified IDs without loading them,
+     * their certificate associations are deleted first
      *
-     * @param tag to delete
+     * @param ids IDs of tags
+     * @return number of deleted tags
      */
-    void delete(Tag tag);
+    long deleteAllByIds(Set<Long> ids);
 }
@@ -1,10 +1,13 @@
 package com.epam.esm.repository;
 
+import com.epam.esm.dto.UserDto;
 import com.epam.esm.entity.User;
+import com.epam.esm.util.Cursor;
 import com.epam.esm.util.Pagination;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Set;
 
 @Repository
 public interface UserRepository extends BaseRepository<User> {
@@ -30,4 +33,49 @@ public interface UserRepository extends BaseRepository<User> {
      * @return user with the specified ID
      */
     User findById(Long id);
+
+    /**
+     * retrieves a paginated list of users projected
+     * straight into data transfer objects
+     *
+     * @param pagination details
+     * @return list of users
+     */
+    List<UserDto> findAllDtosByPage(Pagination pagination);
+
+    /**
+     * retrieves list of users following cursor position
+     * projected straight into data transfer objects
+     *
+     * @param cursor details
+     * @return list of users
+     */
+    List<UserDto> findAllDtosByCursor(Cursor cursor);
+
+    /**
+     * retrieves user with specified ID
+     * projected straight into data transfer object
+     *
+     * @param id ID of user
+     * @return user with the specified ID
+     */
+    UserDto findDtoById(Long id);
+
+    /**
+     * retrieves which of specified IDs belong to existing users
+     * using single query without loading users
+     *
+     * @param ids IDs of users
+     * @return set of IDs of existing users
+     */
+    Set<Long> findExistingIds(Set<Long> ids);
+
+    /**
+     * retrieves reference to user with specified ID
+     * without loading it from database
+     *
+     * @param id ID of existing user
+     * @return reference to user
+     */
+    User getReference(Long id);
 }
@@ -1,46 +1,111 @@
 package com.epam.esm.repository.impl;
 
+import com.epam.esm.dto.CertificateDto;
+import com.epam.esm.dto.TagDto;
 import com.epam.esm.entity.Certificate;
 import com.epam.esm.entity.QCertificate;
+import com.epam.esm.entity.QTag;
+import com.epam.esm.entity.Tag;
 import com.epam.esm.exception.CustomEntityNotFoundException;
+import com.epam.esm.exception.CustomPreconditionFailedException;
 import com.epam.esm.repository.CertificateRepository;
+import com.epam.esm.util.Cursor;
+import com.epam.esm.util.DatabaseDialect;
 import com.epam.esm.util.Pagination;
 import com.epam.esm.util.SearchFilter;
+import com.epam.esm.util.counter.EntityCounter;
+import com.epam.esm.util.export.ResultScroller;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.jpa.impl.JPAUpdateClause;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
 public class CertificateRepositoryImpl implements CertificateRepository {
     private final EntityManager entityManager;
+    private final EntityCounter entityCounter;
+    private final ResultScroller resultScroller;
 
-    private static final Map<String, Comparator<Certificate>> certificateComparators = Map.of(
-            "id", Comparator.comparing(Certificate::getId),
-            "name", Comparator.comparing(Certificate::getName),
-            "description", Comparator.comparing(Certificate::getDescription),
-            "price", Comparator.comparing(Certificate::getPrice),
-            "duration", Comparator.comparing(Certificate::getDuration),
-            "createdAt", Comparator.comparing(Certificate::getCreatedAt),
-            "lastUpdatedAt", Comparator.comparing(Certificate::getLastUpdatedAt)
+    private static final int DELETE_BATCH_SIZE = 1000;
+
+    private static final Map<String, ComparableExpressionBase<?>> certificateSortColumns = Map.of(
+            "id", QCertificate.certificate.id,
+            "name", QCertificate.certificate.name,
+            "description", QCertificate.certificate.description,
+            "price", QCertificate.certificate.price,
+            "duration", QCertificate.certificate.duration,
+            "createdAt", QCertificate.certificate.createdAt,
+            "lastUpdatedAt", QCertificate.certificate.lastUpdatedAt
+    );
+
+    private static final Map<String, String> certificateSortColumnNames = Map.of(
+            "id", "c.certificate_id",
+            "name", "c.name",
+            "description", "c.description",
+            "price", "c.price",
+            "duration", "c.duration",
+            "createdAt", "c.created_at",
+            "lastUpdatedAt", "c.last_updated_at"
     );
 
+    private static final ConstructorExpression<CertificateDto> certificateDtoProjection =
+            Projections.constructor(CertificateDto.class,
+                    QCertificate.certificate.id,
+                    QCertificate.certificate.name,
+                    QCertificate.certificate.description,
+                    QCertificate.certificate.price,
+                    QCertificate.certificate.duration,
+                    QCertificate.certificate.createdAt,
+                    QCertificate.certificate.lastUpdatedAt,
+                    QCertificate.certificate.version);
+
     @Override
     public List<Certificate> findAllByPage(Pagination pagination) {
         JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
         QCertificate qCertificate = QCertificate.certificate;
 
-        return queryFactory.selectFrom(qCertificate)
+        return findAllWithTags(queryFactory.select(qCertificate.id)
+                .from(qCertificate)
+                .orderBy(qCertificate.id.asc())
                 .offset(pagination.getOffset())
                 .limit(pagination.getLimit())
-                .stream().toList();
+                .fetch());
+    }
+
+    @Override
+    public List<Certificate> findAllByCursor(Cursor cursor) {
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QCertificate qCertificate = QCertificate.certificate;
+
+        return findAllWithTags(queryFactory.select(qCertificate.id)
+                .from(qCertificate)
+                .where(cursor.isFirst() ? null : qCertificate.id.gt(cursor.after()))
+                .orderBy(qCertificate.id.asc())
+                .limit(cursor.size())
+                .fetch());
     }
 
     @Override
@@ -48,57 +113,522 @@ public class CertificateRepositoryImpl implements CertificateRepository {
         JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
         QCertificate qCertificate = QCertificate.certificate;
 
-        return queryFactory.select(qCertificate.count())
-                .from(qCertificate).fetchFirst();
+        return entityCounter.count("certificates", () -> queryFactory
+                .select(qCertificate.count())
+                .from(qCertificate).fetchFirst());
     }
 
     @Override
     public Certificate findById(Long id) {
+        Certificate cached = isCached(id) ? entityManager.find(Certificate.class, id) : null;
+        if (cached != null) {
+            return cached;
+        }
+
         JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
         QCertificate qCertificate = QCertificate.certificate;
 
+        // no limit, fetch join of collection would otherwise be limited in memory
         return Optional.ofNullable(queryFactory.selectFrom(qCertificate)
-                        .where(qCertificate.id.eq(id)).fetchFirst())
+                        .leftJoin(qCertificate.tags).fetchJoin()
+                        .where(qCertificate.id.eq(id)).fetchOne())
                 .orElseThrow(() -> new CustomEntityNotFoundException(
                         "failed to find certificate by id " + id));
     }
 
     @Override
     public List<Certificate> findByFilterAndPage(SearchFilter searchFilter, Pagination pagination) {
+        if (isNativeFullText(searchFilter)) {
+            return findAllWithTags(findIdsByFullText(searchFilter, pagination));
+        }
+
         JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
         QCertificate qCertificate = QCertificate.certificate;
 
-        List<Certificate> certificates = new ArrayList<>(
-                queryFactory.selectFrom(qCertificate)
-                        .where(qCertificate.name
-                                .contains(searchFilter.name())
-                                .and(qCertificate.description
-                                        .contains(searchFilter.description())))
-                        .stream()
-                        .filter(certificate -> certificate.getTags()
-                                .containsAll(searchFilter.tags()))
-                        .skip(pagination.getOffset())
-                        .limit(pagination.getLimit())
-                        .toList());
+        return findAllWithTags(queryFactory.select(qCertificate.id)
+                .from(qCertificate)
+                .where(filterPredicate(searchFilter))
+                .orderBy(orderSpecifiers(searchFilter))
+                .offset(pagination.getOffset())
+                .limit(pagination.getLimit())
+                .fetch());
+    }
 
-        Comparator<Certificate> comparator =
-                certificateComparators.get(searchFilter.sortType());
+    @Override
+    public List<CertificateDto> findAllDtosByPage(Pagination pagination) {
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QCertificate qCertificate = QCertificate.certificate;
+
+        return withTagDtos(queryFactory.select(certificateDtoProjection)
+                .from(qCertificate)
+                .orderBy(qCertificate.id.asc())
+                .offset(pagination.getOffset())
+                .limit(pagination.getLimit())
+                .fetch());
+    }
+
+    @Override
+    public List<CertificateDto> findAllDtosByCursor(Cursor cursor) {
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QCertificate qCertificate = QCertificate.certificate;
+
+        return withTagDtos(queryFactory.select(certificateDtoProjection)
+                .from(qCertificate)
+                .where(cursor.isFirst() ? null : qCertificate.id.gt(cursor.after()))
+                .orderBy(qCertificate.id.asc())
+                .limit(cursor.size())
+                .fetch());
+    }
 
-        if (searchFilter.isDescending()) {
-            comparator = comparator.reversed();
+    @Override
+    public CertificateDto findDtoById(Long id) {
+        if (isCached(id)) {
+            return toDto(findById(id));
         }
 
-        certificates.sort(comparator);
-        return certificates;
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QCertificate qCertificate = QCertificate.certificate;
+
+        CertificateDto certificate = Optional.ofNullable(queryFactory.select(certificateDtoProjection)
+                        .from(qCertificate)
+                        .where(qCertificate.id.eq(id)).fetchFirst())
+                .orElseThrow(() -> new CustomEntityNotFoundException(
+                        "failed to find certificate by id " + id));
+        return withTagDtos(List.of(certificate)).get(0);
+    }
+
+    @Override
+    public List<CertificateDto> findDtosByFilterAndPage(SearchFilter searchFilter, Pagination pagination) {
+        if (isNativeFullText(searchFilter)) {
+            return findAllDtosByIds(findIdsByFullText(searchFilter, pagination));
+        }
+
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QCertificate qCertificate = QCertificate.certificate;
+
+        return withTagDtos(queryFactory.select(certificateDtoProjection)
+                .from(qCertificate)
+                .where(filterPredicate(searchFilter))
+                .orderBy(orderSpecifiers(searchFilter))
+                .offset(pagination.getOffset())
+                .limit(pagination.getLimit())
+                .fetch());
+    }
+
+    @Override
+    public void updateById(Long id, Long version, CertificateDto patch) {
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QCertificate qCertificate = QCertificate.certificate;
+
+        // bulk update bypasses @UpdateTimestamp and @Version, both are maintained here
+        JPAUpdateClause update = queryFactory.update(qCertificate)
+                .set(qCertificate.version, qCertificate.version.add(1L))
+                .set(qCertificate.lastUpdatedAt, LocalDateTime.now())
+                .where(qCertificate.id.eq(id),
+                        version == null ? null : qCertificate.version.eq(version));
+        if (patch.getName() != null) {
+            update.set(qCertificate.name, patch.getName());
+        }
+        if (patch.getDescription() != null) {
+            update.set(qCertificate.description, patch.getDescription());
+        }
+        if (patch.getPrice() != null) {
+            update.set(qCertificate.price, patch.getPrice());
+        }
+        if (patch.getDuration() != null) {
+            update.set(qCertificate.duration, patch.getDuration());
+        }
+        if (update.execute() > 0) {
+            return;
+        }
+
+        // nothing matched, second lookup only tells missing certificate from stale version
+        if (queryFactory.selectOne().from(qCertificate)
+                .where(qCertificate.id.eq(id)).fetchFirst() == null) {
+            throw new CustomEntityNotFoundException(
+                    "failed to find certificate by id " + id);
+        }
+        throw new CustomPreconditionFailedException(
+                "certificate with id " + id + " was modified, version " + version + " is outdated");
     }
 
     @Override
     public void save(Certificate certificate) {
+        boolean isNew = certificate.getId() == null;
         entityManager.persist(certificate);
+        if (isNew) {
+            entityCounter.increment("certificates");
+        }
+    }
+
+    @Override
+    public long deleteAllByIds(Set<Long> ids) {
+        List<Long> idList = List.copyOf(ids);
+        long deleted = 0;
+        for (int from = 0; from < idList.size(); from += DELETE_BATCH_SIZE) {
+            List<Long> batch = idList.subList(from, Math.min(from + DELETE_BATCH_SIZE, idList.size()));
+            entityManager.createNativeQuery("delete from certificate_tag where certificate_id in (?1)")
+                    .setHint(HibernateHints.HINT_NATIVE_SPACES, "certificate_tag")
+                    .setParameter(1, batch)
+                    .executeUpdate();
+            deleted += entityManager.createNativeQuery("delete from certificates where certificate_id in (?1)")
+                    .setHint(HibernateHints.HINT_NATIVE_SPACES, "certificates")
+                    .setParameter(1, batch)
+                    .executeUpdate();
+        }
+        entityCounter.decrement("certificates", deleted);
+        return deleted;
+    }
+
+    @Override
+    public long deleteAllByFilter(SearchFilter searchFilter) {
+        // ids are resolved up front, tag predicate would stop matching once associations are gone
+        return deleteAllByIds(new HashSet<>(findIdsByFilter(searchFilter)));
+    }
+
+    @Override
+    public Map<Long, Double> findPricesByIds(Set<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QCertificate qCertificate = QCertificate.certificate;
+
+        return queryFactory.select(qCertificate.id, qCertificate.price)
+                .from(qCertificate)
+                .where(qCertificate.id.in(ids))
+                .fetch().stream()
+                .collect(Collectors.toMap(tuple -> tuple.get(qCertificate.id),
+                        tuple -> tuple.get(qCertificate.price)));
+    }
+
+    @Override
+    public Certificate getReference(Long id) {
+        return entityManager.getReference(Certificate.class, id);
+    }
+
+    @Override
+    public void detach(Certificate certificate) {
+        entityManager.detach(certificate);
     }
 
     @Override
-    public void delete(Certificate certificate) {
-        entityManager.remove(certificate);
+    public void exportAll(Consumer<CertificateDto> consumer) {
+        // rows of one certificate follow each other, so certificate is passed on once next one starts
+        AtomicReference<CertificateDto> current = new AtomicReference<>();
+        resultScroller.scroll("select c.id, c.name, c.description, c.price, c.duration, c.createdAt, c.lastUpdatedAt, " +
+                "t.id, t.name from Certificate c left join c.tags t order by c.id", Object[].class, row -> {
+            CertificateDto certificate = current.get();
+            if (certificate == null || !certificate.getId().equals(row[0])) {
+                if (certificate != null) {
+                    consumer.accept(certificate);
+                }
+                certificate = CertificateDto.builder()
+                        .id((Long) row[0])
+                        .name((String) row[1])
+                        .description((String) row[2])
+                        .price((Double) row[3])
+                        .duration((Integer) row[4])
+                        .createdAt((LocalDateTime) row[5])
+                        .lastUpdatedAt((LocalDateTime) row[6])
+                        .tags(new HashSet<>())
+                        .build();
+                current.set(certificate);
+            }
+            if (row[7] != null) {
+                certificate.getTags().add(TagDto.builder()
+                        .id((Long) row[7])
+                        .name((String) row[8])
+                        .build());
+            }
+        });
+        if (current.get() != null) {
+            consumer.accept(current.get());
+        }
+    }
+
+    /**
+     * loads certificates together with their tags in one query,
+     * pages are selected as IDs first because limiting fetch join
+     * of collection would be applied in memory
+     *
+     * @param ids IDs of certificates in required order
+     * @return list of certificates in order of IDs
+     */
+    private List<Certificate> findAllWithTags(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QCertificate qCertificate = QCertificate.certificate;
+
+        Map<Long, Certificate> certificates = queryFactory.selectFrom(qCertificate)
+                .distinct()
+                .leftJoin(qCertificate.tags).fetchJoin()
+                .where(qCertificate.id.in(ids))
+                .fetch().stream()
+                .collect(Collectors.toMap(Certificate::getId, Function.identity()));
+        return ids.stream().map(certificates::get).toList();
+    }
+
+    /**
+     * selects IDs of all certificates matching search filter
+     *
+     * @param searchFilter holding search parameters
+     * @return IDs of matching certificates
+     */
+    private List<Long> findIdsByFilter(SearchFilter searchFilter) {
+        if (isNativeFullText(searchFilter)) {
+            return findIdsByFullText(searchFilter, new Pagination(0, Integer.MAX_VALUE));
+        }
+
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QCertificate qCertificate = QCertificate.certificate;
+
+        return queryFactory.select(qCertificate.id)
+                .from(qCertificate)
+                .where(filterPredicate(searchFilter))
+                .fetch();
+    }
+
+    /**
+     * projects certificates with given IDs keeping order of IDs
+     *
+     * @param ids IDs of certificates in required order
+     * @return list of projected certificates in order of IDs
+     */
+    private List<CertificateDto> findAllDtosByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QCertificate qCertificate = QCertificate.certificate;
+
+        Map<Long, CertificateDto> certificates = queryFactory.select(certificateDtoProjection)
+                .from(qCertificate)
+                .where(qCertificate.id.in(ids))
+                .fetch().stream()
+                .collect(Collectors.toMap(CertificateDto::getId, Function.identity()));
+        return withTagDtos(ids.stream().map(certificates::get).toList());
+    }
+
+    /**
+     * checks whether certificate is held by second-level cache, cached
+     * certificates are looked up by ID so that their tags are read from
+     * collection cache as well, otherwise they are fetched with tags
+     * in one query which also populates both cache regions, entries put
+     * after current transaction started are only readable by later ones
+     *
+     * @param id ID of certificate
+     * @return true if certificate is cached
+     */
+    private boolean isCached(Long id) {
+        return id != null && entityManager.getEntityManagerFactory()
+                .getCache().contains(Certificate.class, id);
+    }
+
+    private CertificateDto toDto(Certificate certificate) {
+        return CertificateDto.builder()
+                .id(certificate.getId())
+                .name(certificate.getName())
+                .description(certificate.getDescription())
+                .price(certificate.getPrice())
+                .duration(certificate.getDuration())
+                .createdAt(certificate.getCreatedAt())
+                .lastUpdatedAt(certificate.getLastUpdatedAt())
+                .version(certificate.getVersion())
+                .tags(certificate.getTags().stream()
+                        .map(tag -> TagDto.builder()
+                                .id(tag.getId())
+                                .name(tag.getName())
+                                .build())
+                        .collect(Collectors.toSet()))
+                .build();
+    }
+
+    private boolean isNativeFullText(SearchFilter searchFilter) {
+        return searchFilter.isFullText() && DatabaseDialect.isPostgreSQL(entityManager);
+    }
+
+    /**
+     * selects page of certificate IDs matching text against search_vector column
+     * maintained by trigger, so that GIN index is used instead of scanning table,
+     * every word is matched as prefix and results are ranked by relevance
+     * unless sort type was requested explicitly
+     *
+     * @param searchFilter holding search parameters
+     * @param pagination holding pagination parameters
+     * @return IDs of matching certificates in required order
+     */
+    @SuppressWarnings("unchecked")
+    private List<Long> findIdsByFullText(SearchFilter searchFilter, Pagination pagination) {
+        List<Object> parameters = new ArrayList<>();
+        parameters.add(searchFilter.terms().stream()
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & ")));
+
+        StringBuilder sql = new StringBuilder("select c.certificate_id from certificates c ")
+                .append("where c.search_vector @@ to_tsquery('simple', ?1)");
+        if (!searchFilter.name().isEmpty()) {
+            parameters.add("%" + escapeLike(searchFilter.name()) + "%");
+            sql.append(" and c.name like ?").append(parameters.size()).append(" escape '!'");
+        }
+        if (!searchFilter.description().isEmpty()) {
+            parameters.add("%" + escapeLike(searchFilter.description()) + "%");
+            sql.append(" and c.description like ?").append(parameters.size()).append(" escape '!'");
+        }
+
+        Set<String> tagNames = searchFilter.tags().stream()
+                .map(Tag::getName).collect(Collectors.toSet());
+        if (!tagNames.isEmpty()) {
+            sql.append(" and c.certificate_id in (select ct.certificate_id from certificate_tag ct")
+                    .append(" inner join tags t on t.tag_id = ct.tag_id where t.name in (");
+            String separator = "";
+            for (String tagName : tagNames) {
+                parameters.add(tagName);
+                sql.append(separator).append('?').append(parameters.size());
+                separator = ", ";
+            }
+            parameters.add((long) tagNames.size());
+            sql.append(") group by ct.certificate_id having count(distinct t.tag_id) = ?")
+                    .append(parameters.size()).append(')');
+        }
+
+        String direction = searchFilter.isDescending() ? " desc" : " asc";
+        if (searchFilter.isRanked()) {
+            sql.append(" order by ts_rank(c.search_vector, to_tsquery('simple', ?1)) desc, c.certificate_id asc");
+        } else {
+            String column = certificateSortColumnNames
+                    .getOrDefault(searchFilter.sortType(), "c.certificate_id");
+            sql.append(" order by ").append(column).append(direction);
+            if (!column.equals("c.certificate_id")) {
+                sql.append(", c.certificate_id").append(direction);
+            }
+        }
+
+        Query query = entityManager.createNativeQuery(sql.toString(), Long.class);
+        for (int i = 0; i < parameters.size(); i++) {
+            query.setParameter(i + 1, parameters.get(i));
+        }
+        return query.setFirstResult(pagination.getOffset())
+                .setMaxResults(pagination.getLimit())
+                .getResultList();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+    }
+
+    /**
+     * fills tags of projected certificates using one query over
+     * certificate_tag, tags are read as plain values without
+     * loading any entity into persistence context
+     *
+     * @param certificates projected certificates
+     * @return same list of certificates with tags set
+     */
+    private List<CertificateDto> withTagDtos(List<CertificateDto> certificates) {
+        if (certificates.isEmpty()) {
+            return certificates;
+        }
+
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QCertificate qCertificate = QCertificate.certificate;
+        QTag qTag = QTag.tag;
+
+        List<Long> ids = certificates.stream().map(CertificateDto::getId).toList();
+        Map<Long, Set<TagDto>> tags = queryFactory.select(qCertificate.id, qTag.id, qTag.name)
+                .from(qCertificate)
+                .innerJoin(qCertificate.tags, qTag)
+                .where(qCertificate.id.in(ids))
+                .fetch().stream()
+                .collect(Collectors.groupingBy(tuple -> tuple.get(qCertificate.id),
+                        Collectors.mapping(tuple -> TagDto.builder()
+                                .id(tuple.get(qTag.id))
+                                .name(tuple.get(qTag.name))
+                                .build(), Collectors.toSet())));
+        certificates.forEach(certificate -> certificate.setTags(
+                tags.getOrDefault(certificate.getId(), new HashSet<>())));
+        return certificates;
+    }
+
+    /**
+     * builds predicate matching certificates by name, description and tags,
+     * tag containment is expressed as relational division over certificate_tag
+     * so that it is resolved by database instead of loading tag sets
+     *
+     * @param searchFilter holding search parameters
+     * @return predicate to use in where clause
+     */
+    private Predicate filterPredicate(SearchFilter searchFilter) {
+        QCertificate qCertificate = QCertificate.certificate;
+        BooleanExpression predicate = qCertificate.name.contains(searchFilter.name())
+                .and(qCertificate.description.contains(searchFilter.description()))
+                .and(textPredicate(searchFilter));
+
+        Set<String> tagNames = searchFilter.tags().stream()
+                .map(Tag::getName).collect(Collectors.toSet());
+        if (tagNames.isEmpty()) {
+            return predicate;
+        }
+
+        QCertificate qTagged = new QCertificate("tagged");
+        QTag qTag = QTag.tag;
+        return predicate.and(qCertificate.id.in(JPAExpressions
+                .select(qTagged.id)
+                .from(qTagged)
+                .innerJoin(qTagged.tags, qTag)
+                .where(qTag.name.in(tagNames))
+                .groupBy(qTagged.id)
+                .having(qTag.id.countDistinct().eq((long) tagNames.size()))));
+    }
+
+    /**
+     * builds predicate matching text against name or description,
+     * in full-text mode every word is matched case-insensitively,
+     * used on databases other than PostgreSQL only
+     *
+     * @param searchFilter holding search parameters
+     * @return predicate to use in where clause, null if there is no text
+     * or, in full-text mode, text has no words
+     */
+    private BooleanExpression textPredicate(SearchFilter searchFilter) {
+        QCertificate qCertificate = QCertificate.certificate;
+        // not isFullText, which is false for text without words
+        if (searchFilter.searchMode().equals(SearchFilter.FULLTEXT)) {
+            return searchFilter.terms().stream()
+                    .map(term -> qCertificate.name.containsIgnoreCase(term)
+                            .or(qCertificate.description.containsIgnoreCase(term)))
+                    .reduce(BooleanExpression::and)
+                    .orElse(null);
+        }
+
+        String text = searchFilter.text();
+        return text.isEmpty() ? null : qCertificate.name.contains(text)
+                .or(qCertificate.description.contains(text));
+    }
+
+    /**
+     * builds order specifiers for requested sort type and order,
+     * certificate id is always appended as tie-breaker to keep pages stable
+     *
+     * @param searchFilter holding sort parameters
+     * @return order specifiers to use in order by clause
+     */
+    private OrderSpecifier<?>[] orderSpecifiers(SearchFilter searchFilter) {
+        QCertificate qCertificate = QCertificate.certificate;
+        ComparableExpressionBase<?> column = certificateSortColumns
+                .getOrDefault(searchFilter.sortType(), qCertificate.id);
+
+        OrderSpecifier<?> primary = searchFilter.isDescending() ? column.desc() : column.asc();
+        OrderSpecifier<?> tieBreaker = searchFilter.isDescending() ? qCertificate.id.desc() : qCertificate.id.asc();
+        return column == qCertificate.id
+                ? new OrderSpecifier<?>[] { primary }
+                : new OrderSpecifier<?>[] { primary, tieBreaker };
     }
 }
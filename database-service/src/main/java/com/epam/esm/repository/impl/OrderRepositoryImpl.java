@@ -1,10 +1,16 @@
 package com.epam.esm.repository.impl;
 
+import com.epam.esm.dto.OrderDto;
 import com.epam.esm.entity.Order;
 import com.epam.esm.entity.QOrder;
 import com.epam.esm.exception.CustomEntityNotFoundException;
 import com.epam.esm.repository.OrderRepository;
+import com.epam.esm.util.Cursor;
 import com.epam.esm.util.Pagination;
+import com.epam.esm.util.counter.EntityCounter;
+import com.epam.esm.util.export.ResultScroller;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
@@ -12,11 +18,22 @@ import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Repository
 @RequiredArgsConstructor
 public class OrderRepositoryImpl implements OrderRepository {
     private final EntityManager entityManager;
+    private final EntityCounter entityCounter;
+    private final ResultScroller resultScroller;
+
+    private static final ConstructorExpression<OrderDto> orderDtoProjection =
+            Projections.constructor(OrderDto.class,
+                    QOrder.order.id,
+                    QOrder.order.price,
+                    QOrder.order.createdAt,
+                    QOrder.order.user.id,
+                    QOrder.order.certificate.id);
 
     @Override
     public List<Order> findAllByPage(Pagination pagination) {
@@ -24,18 +41,32 @@ public class OrderRepositoryImpl implements OrderRepository {
         QOrder qOrder = QOrder.order;
 
         return queryFactory.selectFrom(qOrder)
+                .orderBy(qOrder.id.asc())
                 .offset(pagination.getOffset())
                 .limit(pagination.getLimit())
                 .stream().toList();
     }
 
+    @Override
+    public List<Order> findAllByCursor(Cursor cursor) {
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QOrder qOrder = QOrder.order;
+
+        return queryFactory.selectFrom(qOrder)
+                .where(cursor.isFirst() ? null : qOrder.id.gt(cursor.after()))
+                .orderBy(qOrder.id.asc())
+                .limit(cursor.size())
+                .fetch();
+    }
+
     @Override
     public Long findTotalNumber() {
         JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
         QOrder qOrder = QOrder.order;
 
-        return queryFactory.select(qOrder.count())
-                .from(qOrder).fetchFirst();
+        return entityCounter.count("orders", () -> queryFactory
+                .select(qOrder.count())
+                .from(qOrder).fetchFirst());
     }
 
     @Override
@@ -49,6 +80,70 @@ public class OrderRepositoryImpl implements OrderRepository {
                         "failed to find order by id " + id));
     }
 
+    @Override
+    public List<OrderDto> findAllDtosByPage(Pagination pagination) {
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QOrder qOrder = QOrder.order;
+
+        return queryFactory.select(orderDtoProjection)
+                .from(qOrder)
+                .orderBy(qOrder.id.asc())
+                .offset(pagination.getOffset())
+                .limit(pagination.getLimit())
+                .fetch();
+    }
+
+    @Override
+    public List<OrderDto> findAllDtosByCursor(Cursor cursor) {
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QOrder qOrder = QOrder.order;
+
+        return queryFactory.select(orderDtoProjection)
+                .from(qOrder)
+                .where(cursor.isFirst() ? null : qOrder.id.gt(cursor.after()))
+                .orderBy(qOrder.id.asc())
+                .limit(cursor.size())
+                .fetch();
+    }
+
+    @Override
+    public OrderDto findDtoById(Long id) {
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QOrder qOrder = QOrder.order;
+
+        return Optional.ofNullable(queryFactory.select(orderDtoProjection)
+                        .from(qOrder)
+                        .where(qOrder.id.eq(id)).fetchFirst())
+                .orElseThrow(() -> new CustomEntityNotFoundException(
+                        "failed to find order by id " + id));
+    }
+
+    @Override
+    public List<OrderDto> findDtosByCertificateId(Long certificateId, Pagination pagination) {
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QOrder qOrder = QOrder.order;
+        return queryFactory.select(orderDtoProjection)
+                .from(qOrder)
+                .where(qOrder.certificate.id.eq(certificateId))
+                .orderBy(qOrder.id.asc())
+                .offset(pagination.getOffset())
+                .limit(pagination.getLimit())
+                .fetch();
+    }
+
+    @Override
+    public List<OrderDto> findDtosByUserId(Long userId, Pagination pagination) {
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QOrder qOrder = QOrder.order;
+        return queryFactory.select(orderDtoProjection)
+                .from(qOrder)
+                .where(qOrder.user.id.eq(userId))
+                .orderBy(qOrder.id.asc())
+                .offset(pagination.getOffset())
+                .limit(pagination.getLimit())
+                .fetch();
+    }
+
     @Override
     public List<Order> findByCertificateId(Long certificateId, Pagination pagination) {
         JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
@@ -73,6 +168,21 @@ public class OrderRepositoryImpl implements OrderRepository {
 
     @Override
     public void save(Order order) {
+        boolean isNew = order.getId() == null;
         entityManager.persist(order);
+        if (isNew) {
+            entityCounter.increment("orders");
+        }
+    }
+
+    @Override
+    public void saveAll(List<Order> orders) {
+        orders.forEach(this::save);
+    }
+
+    @Override
+    public void exportAll(Consumer<OrderDto> consumer) {
+        resultScroller.scroll("select new com.epam.esm.dto.OrderDto(o.id, o.price, o.createdAt, o.user.id, o.certificate.id) " +
+                "from com.epam.esm.entity.Order o order by o.id", OrderDto.class, consumer);
     }
 }
@@ -0,0 +1,127 @@
+package com.epam.esm.repository.impl;
+
+import com.epam.esm.entity.Order;
+import com.epam.esm.entity.QOrder;
+import com.epam.esm.repository.OrderStatisticsRepository;
+import com.epam.esm.util.DatabaseDialect;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Set;
+
+@Repository
+@RequiredArgsConstructor
+public class OrderStatisticsRepositoryImpl implements OrderStatisticsRepository {
+    private final EntityManager entityManager;
+
+    @Override
+    public void recordOrder(Order order) {
+        Long userId = order.getUser().getId();
+        Long certificateId = order.getCertificate().getId();
+
+        // upsert locks spending row of user until commit, so that concurrent orders
+        // of same user are serialized and count below sees orders committed before
+        addSpending(userId, order.getPrice());
+        if (countOrders(userId, certificateId) == 1) {
+            addTagUsages(userId, certificateId);
+        }
+    }
+
+    @Override
+    public void rebuild() {
+        entityManager.createNativeQuery("delete from user_tag_usages")
+                .setHint(HibernateHints.HINT_NATIVE_SPACES, "user_tag_usages")
+                .executeUpdate();
+        entityManager.createNativeQuery("delete from user_spendings")
+                .setHint(HibernateHints.HINT_NATIVE_SPACES, "user_spendings")
+                .executeUpdate();
+        entityManager.createNativeQuery("insert into user_spendings (user_id, total_spent) " +
+                        "select user_id, sum(price) from orders group by user_id")
+                .setHint(HibernateHints.HINT_NATIVE_SPACES, List.of("user_spendings", "orders"))
+                .executeUpdate();
+        entityManager.createNativeQuery("insert into user_tag_usages (user_id, tag_id, usage_count) " +
+                        "select o.user_id, ct.tag_id, count(distinct o.certificate_id) from orders o " +
+                        "join certificate_tag ct on ct.certificate_id = o.certificate_id " +
+                        "group by o.user_id, ct.tag_id")
+                .setHint(HibernateHints.HINT_NATIVE_SPACES, List.of("user_tag_usages", "orders"))
+                .executeUpdate();
+    }
+
+    @Override
+    public void refresh(Set<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        // aggregates are recalculated from orders, so pending order inserts have to be sent first
+        entityManager.flush();
+        entityManager.createNativeQuery("insert into user_spendings (user_id, total_spent) " +
+                        "select user_id, 0 from users where user_id in (?1) on conflict do nothing")
+                .setHint(HibernateHints.HINT_NATIVE_SPACES, "user_spendings")
+                .setParameter(1, userIds)
+                .executeUpdate();
+        entityManager.createNativeQuery("update user_spendings set total_spent = " +
+                        "(select coalesce(sum(o.price), 0) from orders o where o.user_id = user_spendings.user_id) " +
+                        "where user_id in (?1)")
+                .setHint(HibernateHints.HINT_NATIVE_SPACES, List.of("user_spendings", "orders"))
+                .setParameter(1, userIds)
+                .executeUpdate();
+        entityManager.createNativeQuery("delete from user_tag_usages where user_id in (?1)")
+                .setHint(HibernateHints.HINT_NATIVE_SPACES, "user_tag_usages")
+                .setParameter(1, userIds)
+                .executeUpdate();
+        entityManager.createNativeQuery("insert into user_tag_usages (user_id, tag_id, usage_count) " +
+                        "select o.user_id, ct.tag_id, count(distinct o.certificate_id) from orders o " +
+                        "join certificate_tag ct on ct.certificate_id = o.certificate_id " +
+                        "where o.user_id in (?1) group by o.user_id, ct.tag_id")
+                .setHint(HibernateHints.HINT_NATIVE_SPACES, List.of("user_tag_usages", "orders"))
+                .setParameter(1, userIds)
+                .executeUpdate();
+    }
+
+    private void addSpending(Long userId, Double price) {
+        String sql = DatabaseDialect.isPostgreSQL(entityManager)
+                ? "insert into user_spendings (user_id, total_spent) values (?1, ?2) " +
+                "on conflict (user_id) do update set total_spent = user_spendings.total_spent + excluded.total_spent"
+                : "merge into user_spendings s using (select cast(?1 as bigint) as user_id, " +
+                "cast(?2 as double precision) as total_spent) v on s.user_id = v.user_id " +
+                "when matched then update set total_spent = s.total_spent + v.total_spent " +
+                "when not matched then insert (user_id, total_spent) values (v.user_id, v.total_spent)";
+        entityManager.createNativeQuery(sql)
+                .setHint(HibernateHints.HINT_NATIVE_SPACES, "user_spendings")
+                .setParameter(1, userId)
+                .setParameter(2, price)
+                .executeUpdate();
+    }
+
+    private void addTagUsages(Long userId, Long certificateId) {
+        String sql = DatabaseDialect.isPostgreSQL(entityManager)
+                ? "insert into user_tag_usages (user_id, tag_id, usage_count) " +
+                "select cast(?1 as bigint), tag_id, 1 from certificate_tag where certificate_id = ?2 " +
+                "on conflict (user_id, tag_id) do update set usage_count = user_tag_usages.usage_count + 1"
+                : "merge into user_tag_usages u using (select cast(?1 as bigint) as user_id, tag_id " +
+                "from certificate_tag where certificate_id = ?2) t on u.user_id = t.user_id and u.tag_id = t.tag_id " +
+                "when matched then update set usage_count = u.usage_count + 1 " +
+                "when not matched then insert (user_id, tag_id, usage_count) values (t.user_id, t.tag_id, 1)";
+        entityManager.createNativeQuery(sql)
+                .setHint(HibernateHints.HINT_NATIVE_SPACES, "user_tag_usages")
+                .setParameter(1, userId)
+                .setParameter(2, certificateId)
+                .executeUpdate();
+    }
+
+    private long countOrders(Long userId, Long certificateId) {
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QOrder qOrder = QOrder.order;
+
+        return queryFactory.select(qOrder.count())
+                .from(qOrder)
+                .where(qOrder.user.id.eq(userId)
+                        .and(qOrder.certificate.id.eq(certificateId)))
+                .fetchFirst();
+    }
+}
@@ -1,28 +1,49 @@
 package com.epam.esm.repository.impl;
 
+import com.epam.esm.dto.TagDto;
 import com.epam.esm.entity.Certificate;
-import com.epam.esm.entity.QCertificate;
-import com.epam.esm.entity.QOrder;
 import com.epam.esm.entity.QTag;
-import com.epam.esm.entity.QUser;
+import com.epam.esm.entity.QUserSpending;
+import com.epam.esm.entity.QUserTagUsage;
 import com.epam.esm.entity.Tag;
 import com.epam.esm.exception.CustomEntityNotFoundException;
 import com.epam.esm.repository.TagRepository;
+import com.epam.esm.util.Cursor;
 import com.epam.esm.util.Pagination;
+import com.epam.esm.util.counter.EntityCounter;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.persister.entity.EntityPersister;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Repository
 @RequiredArgsConstructor
 public class TagRepositoryImpl implements TagRepository {
     private final EntityManager entityManager;
+    private final EntityCounter entityCounter;
+
+    private static final int DELETE_BATCH_SIZE = 1000;
+
+    private static final ConstructorExpression<TagDto> tagDtoProjection =
+            Projections.constructor(TagDto.class,
+                    QTag.tag.id,
+                    QTag.tag.name);
 
     @Override
     public List<Tag> findAllByPage(Pagination pagination) {
@@ -30,88 +51,261 @@ public class TagRepositoryImpl implements TagRepository {
         QTag qTag = QTag.tag;
 
         return queryFactory.selectFrom(qTag)
+                .orderBy(qTag.id.asc())
                 .offset(pagination.getOffset())
                 .limit(pagination.getLimit())
                 .stream().toList();
     }
 
     @Override
-    public Long findTotalNumber() {
+    public List<Tag> findAllByCursor(Cursor cursor) {
         JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
         QTag qTag = QTag.tag;
 
-        return queryFactory.select(qTag.count())
-                .from(qTag).fetchFirst();
+        return queryFactory.selectFrom(qTag)
+                .where(cursor.isFirst() ? null : qTag.id.gt(cursor.after()))
+                .orderBy(qTag.id.asc())
+                .limit(cursor.size())
+                .fetch();
     }
 
     @Override
-    public Tag findById(Long id) {
+    public Long findTotalNumber() {
         JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
         QTag qTag = QTag.tag;
 
-        return Optional.ofNullable(queryFactory.selectFrom(qTag)
-                        .where(qTag.id.eq(id)).fetchFirst())
+        return entityCounter.count("tags", () -> queryFactory
+                .select(qTag.count())
+                .from(qTag).fetchFirst());
+    }
+
+    @Override
+    public Tag findById(Long id) {
+        return Optional.ofNullable(entityManager.find(Tag.class, id))
                 .orElseThrow(() -> new CustomEntityNotFoundException(
                         "failed to find tag by id " + id));
     }
 
+    @Override
+    public List<TagDto> findAllDtosByPage(Pagination pagination) {
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QTag qTag = QTag.tag;
+
+        return queryFactory.select(tagDtoProjection)
+                .from(qTag)
+                .orderBy(qTag.id.asc())
+                .offset(pagination.getOffset())
+                .limit(pagination.getLimit())
+                .fetch();
+    }
+
+    @Override
+    public List<TagDto> findAllDtosByCursor(Cursor cursor) {
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QTag qTag = QTag.tag;
+
+        return queryFactory.select(tagDtoProjection)
+                .from(qTag)
+                .where(cursor.isFirst() ? null : qTag.id.gt(cursor.after()))
+                .orderBy(qTag.id.asc())
+                .limit(cursor.size())
+                .fetch();
+    }
+
+    @Override
+    public TagDto findDtoById(Long id) {
+        Tag tag = findById(id);
+        return TagDto.builder()
+                .id(tag.getId())
+                .name(tag.getName())
+                .build();
+    }
+
+    @Override
     public Optional<Tag> findByName(String name) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Tag.class)
+                .loadOptional(name);
+    }
+
+    @Override
+    public List<Tag> findAllByNames(Set<String> names) {
+        if (names.isEmpty()) {
+            return List.of();
+        }
+
         JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
         QTag qTag = QTag.tag;
 
-        return Optional.ofNullable(queryFactory.selectFrom(qTag)
-                        .where(qTag.name.eq(name)).fetchFirst());
+        return queryFactory.selectFrom(qTag)
+                .where(qTag.name.in(names.stream().sorted().toList()))
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
+                .fetch();
+    }
+
+    @Override
+    public void saveAllIfAbsent(Set<String> names) {
+        if (names.isEmpty()) {
+            return;
+        }
+
+        List<String> nameList = List.copyOf(names);
+        String values = IntStream.range(0, nameList.size())
+                .mapToObj(i -> "(?" + (2 * i + 1) + ", ?" + (2 * i + 2) + ")")
+                .collect(Collectors.joining(", "));
+        Query query = entityManager.createNativeQuery(
+                        "insert into tags (tag_id, name) values " + values + " on conflict do nothing")
+                .setHint(HibernateHints.HINT_NATIVE_SPACES, "tags");
+        // ids come from same pooled block persist uses, calling nextval per row
+        // would skip whole allocation size of ids for every tag
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        IdentifierGenerator generator = session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(Tag.class).getIdentifierGenerator();
+        for (int i = 0; i < nameList.size(); i++) {
+            query.setParameter(2 * i + 1, generator.generate(session, null));
+            query.setParameter(2 * i + 2, nameList.get(i));
+        }
+        query.executeUpdate();
+        entityCounter.invalidate("tags");
     }
 
     @Override
     public Tag findSpecial() {
         JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
-        QCertificate qCertificate = QCertificate.certificate;
-        QOrder qOrder = QOrder.order;
-        QUser qUser = QUser.user;
+        QUserSpending qUserSpending = QUserSpending.userSpending;
+        QUserTagUsage qUserTagUsage = QUserTagUsage.userTagUsage;
         QTag qTag = QTag.tag;
 
-        return queryFactory
-                .selectFrom(qTag)
-                .where(qTag.id.eq(queryFactory
-                        .select(qTag.id)
-                        .from(qTag)
-                        .innerJoin(qTag.certificates, qCertificate)
-                        .where(qCertificate.in(queryFactory
-                                .select(qCertificate)
-                                .from(qOrder)
-                                .innerJoin(qOrder.certificate, qCertificate)
-                                .where(qOrder.user.eq(queryFactory
-                                        .select(qUser)
-                                        .from(qOrder)
-                                        .innerJoin(qOrder.user, qUser)
-                                        .groupBy(qOrder.user)
-                                        .orderBy(qOrder.price.sum().desc())
-                                        .fetchFirst()))
-                                .distinct()))
-                        .groupBy(qTag.id)
-                        .orderBy(qTag.id.count().desc())
-                        .fetchFirst()))
+        Long userId = queryFactory.select(qUserSpending.userId)
+                .from(qUserSpending)
+                .orderBy(qUserSpending.totalSpent.desc(), qUserSpending.userId.desc())
+                .fetchFirst();
+        if (userId == null) {
+            return null;
+        }
+
+        return queryFactory.select(qTag)
+                .from(qUserTagUsage)
+                .innerJoin(qTag).on(qTag.id.eq(qUserTagUsage.tagId))
+                .where(qUserTagUsage.userId.eq(userId))
+                .orderBy(qUserTagUsage.usageCount.desc(), qUserTagUsage.tagId.desc())
                 .fetchFirst();
     }
 
     @Override
     public void save(Tag tag) {
+        boolean isNew = tag.getId() == null;
         entityManager.persist(tag);
+        if (isNew) {
+            entityCounter.increment("tags");
+        }
     }
 
     @Override
     public void setTags(Certificate certificate, Set<Tag> tags) {
-        Query query = entityManager.createNativeQuery("insert into certificate_tag values (?, ?)");
+        if (tags.isEmpty()) {
+            return;
+        }
+
+        // certificate may still be pending insert, its row has to exist for foreign key
+        entityManager.flush();
+        List<Tag> tagList = List.copyOf(tags);
+        String values = IntStream.range(0, tagList.size())
+                .mapToObj(i -> "(?1, ?" + (i + 2) + ")")
+                .collect(Collectors.joining(", "));
+        Query query = entityManager.createNativeQuery(
+                        "insert into certificate_tag (certificate_id, tag_id) values " + values)
+                .setHint(HibernateHints.HINT_NATIVE_SPACES, "certificate_tag");
         query.setParameter(1, certificate.getId());
-        for (Tag tag : tags) {
-            query.setParameter(2, tag.getId());
-            query.executeUpdate();
+        for (int i = 0; i < tagList.size(); i++) {
+            query.setParameter(i + 2, tagList.get(i).getId());
+        }
+        query.executeUpdate();
+    }
+
+    @Override
+    public void setAllTags(Map<Certificate, Set<Tag>> tagsByCertificate) {
+        List<Long[]> pairs = tagsByCertificate.entrySet().stream()
+                .flatMap(entry -> entry.getValue().stream()
+                        .map(tag -> new Long[]{entry.getKey().getId(), tag.getId()}))
+                .toList();
+        // certificates may still be pending insert, their rows have to exist for foreign key
+        entityManager.flush();
+        if (pairs.isEmpty()) {
+            return;
+        }
+
+        String values = IntStream.range(0, pairs.size())
+                .mapToObj(i -> "(?" + (2 * i + 1) + ", ?" + (2 * i + 2) + ")")
+                .collect(Collectors.joining(", "));
+        Query query = entityManager.createNativeQuery(
+                        "insert into certificate_tag (certificate_id, tag_id) values " + values)
+                .setHint(HibernateHints.HINT_NATIVE_SPACES, "certificate_tag");
+        for (int i = 0; i < pairs.size(); i++) {
+            query.setParameter(2 * i + 1, pairs.get(i)[0]);
+            query.setParameter(2 * i + 2, pairs.get(i)[1]);
         }
+        query.executeUpdate();
+    }
+
+    @Override
+    public void deleteTags(Certificate certificate) {
+        entityManager.createNativeQuery("delete from certificate_tag where certificate_id = ?1")
+                .setHint(HibernateHints.HINT_NATIVE_SPACES, "certificate_tag")
+                .setParameter(1, certificate.getId())
+                .executeUpdate();
+    }
+
+    @Override
+    public void replaceTags(Certificate certificate, Set<Tag> tags) {
+        deleteTags(certificate);
+        setTags(certificate, tags);
     }
 
     @Override
-    public void delete(Tag tag) {
-        entityManager.remove(tag);
+    public long deleteAllByIds(Set<Long> ids) {
+        List<Long> idList = List.copyOf(ids);
+        long deleted = 0;
+        for (int from = 0; from < idList.size(); from += DELETE_BATCH_SIZE) {
+            List<Long> batch = idList.subList(from, Math.min(from + DELETE_BATCH_SIZE, idList.size()));
+            entityManager.createNativeQuery("delete from certificate_tag where tag_id in (?1)")
+                    .setHint(HibernateHints.HINT_NATIVE_SPACES, "certificate_tag")
+                    .setParameter(1, batch)
+                    .executeUpdate();
+            deleted += entityManager.createNativeQuery("delete from tags where tag_id in (?1)")
+                    .setHint(HibernateHints.HINT_NATIVE_SPACES, "tags")
+                    .setParameter(1, batch)
+                    .executeUpdate();
+        }
+        evict(idList);
+        entityCounter.decrement("tags", deleted);
+        return deleted;
+    }
+
+    /**
+     * detaches deleted tags and drops them from second-level cache,
+     * native deletes bypass both, so that deleted tags would otherwise
+     * still be found by ID or name and in cached tags of certificates
+     *
+     * @param ids IDs of deleted tags
+     */
+    private void evict(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(Tag.class);
+        CacheImplementor cache = session.getFactory().getCache();
+        for (Long id : ids) {
+            Object managed = session.getPersistenceContextInternal()
+                    .getEntity(session.generateEntityKey(id, persister));
+            if (managed != null) {
+                entityManager.detach(managed);
+            }
+            cache.evictEntityData(Tag.class, id);
+        }
+        cache.evictNaturalIdData(Tag.class);
+        cache.evictCollectionData(Certificate.class.getName() + ".tags");
     }
 }
@@ -1,22 +1,40 @@
 package com.epam.esm.repository.impl;
 
+import com.epam.esm.dto.UserDto;
 import com.epam.esm.entity.QUser;
 import com.epam.esm.entity.User;
 import com.epam.esm.exception.CustomEntityNotFoundException;
 import com.epam.esm.repository.UserRepository;
+import com.epam.esm.util.Cursor;
 import com.epam.esm.util.Pagination;
+import com.epam.esm.util.counter.EntityCounter;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 @RequiredArgsConstructor
 public class UserRepositoryImpl implements UserRepository {
     private final EntityManager entityManager;
+    private final EntityCounter entityCounter;
+
+    private static final ConstructorExpression<UserDto> userDtoProjection =
+            Projections.constructor(UserDto.class,
+                    QUser.user.id,
+                    QUser.user.username,
+                    QUser.user.password,
+                    QUser.user.firstName,
+                    QUser.user.lastName,
+                    QUser.user.emailAddress,
+                    QUser.user.birthDate);
 
     @Override
     public List<User> findAllByPage(Pagination pagination) {
@@ -24,18 +42,32 @@ public class UserRepositoryImpl implements UserRepository {
         QUser qUser = QUser.user;
 
         return queryFactory.selectFrom(qUser)
+                .orderBy(qUser.id.asc())
                 .offset(pagination.getOffset())
                 .limit(pagination.getLimit())
                 .stream().toList();
     }
 
+    @Override
+    public List<User> findAllByCursor(Cursor cursor) {
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QUser qUser = QUser.user;
+
+        return queryFactory.selectFrom(qUser)
+                .where(cursor.isFirst() ? null : qUser.id.gt(cursor.after()))
+                .orderBy(qUser.id.asc())
+                .limit(cursor.size())
+                .fetch();
+    }
+
     @Override
     public Long findTotalNumber() {
         JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
         QUser qUser = QUser.user;
 
-        return queryFactory.select(qUser.count())
-                .from(qUser).fetchFirst();
+        return entityCounter.count("users", () -> queryFactory
+                .select(qUser.count())
+                .from(qUser).fetchFirst());
     }
 
     @Override
@@ -48,4 +80,62 @@ public class UserRepositoryImpl implements UserRepository {
                 .orElseThrow(() -> new CustomEntityNotFoundException(
                         "failed to find user by id " + id));
     }
+
+    @Override
+    public List<UserDto> findAllDtosByPage(Pagination pagination) {
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QUser qUser = QUser.user;
+
+        return queryFactory.select(userDtoProjection)
+                .from(qUser)
+                .orderBy(qUser.id.asc())
+                .offset(pagination.getOffset())
+                .limit(pagination.getLimit())
+                .fetch();
+    }
+
+    @Override
+    public List<UserDto> findAllDtosByCursor(Cursor cursor) {
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QUser qUser = QUser.user;
+
+        return queryFactory.select(userDtoProjection)
+                .from(qUser)
+                .where(cursor.isFirst() ? null : qUser.id.gt(cursor.after()))
+                .orderBy(qUser.id.asc())
+                .limit(cursor.size())
+                .fetch();
+    }
+
+    @Override
+    public UserDto findDtoById(Long id) {
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QUser qUser = QUser.user;
+
+        return Optional.ofNullable(queryFactory.select(userDtoProjection)
+                        .from(qUser)
+                        .where(qUser.id.eq(id)).fetchFirst())
+                .orElseThrow(() -> new CustomEntityNotFoundException(
+                        "failed to find user by id " + id));
+    }
+
+    @Override
+    public Set<Long> findExistingIds(Set<Long> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QUser qUser = QUser.user;
+
+        return new HashSet<>(queryFactory.select(qUser.id)
+                .from(qUser)
+                .where(qUser.id.in(ids))
+                .fetch());
+    }
+
+    @Override
+    public User getReference(Long id) {
+        return entityManager.getReference(User.class, id);
+    }
 }
@@ -0,0 +1,28 @@
+package com.epam.esm.util;
+
+import jakarta.persistence.EntityManager;
+import lombok.experimental.UtilityClass;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * utility class resolving database dialect in use,
+ * needed by queries relying on PostgreSQL specific features
+ *
+ * @author bakhridinova
+ */
+
+@UtilityClass
+public class DatabaseDialect {
+    /**
+     * checks whether entity manager is bound to PostgreSQL database
+     *
+     * @param entityManager entity manager to check
+     * @return true if dialect in use is PostgreSQL one
+     */
+    public boolean isPostgreSQL(EntityManager entityManager) {
+        return entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+    }
+}
@@ -0,0 +1,158 @@
+package com.epam.esm.util.counter;
+
+import com.epam.esm.util.DatabaseDialect;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * cache of entity counts per table, counts are either exact
+ * (loaded with count query and then maintained incrementally
+ * as entities are saved and deleted) or estimated from planner
+ * statistics, and are reloaded once they are older than staleness bound
+ *
+ * @author bakhridinova
+ */
+
+@Component
+public class EntityCounter {
+    private final EntityManager entityManager;
+    private final Mode mode;
+    private final Duration staleness;
+    private final Clock clock;
+    private final Map<String, Count> counts = new ConcurrentHashMap<>();
+
+    @Autowired
+    public EntityCounter(EntityManager entityManager,
+                         @Value("${entity.count.mode:exact}") Mode mode,
+                         @Value("${entity.count.staleness:PT30S}") Duration staleness) {
+        this(entityManager, mode, staleness, Clock.systemUTC());
+    }
+
+    EntityCounter(EntityManager entityManager, Mode mode, Duration staleness, Clock clock) {
+        this.entityManager = entityManager;
+        this.mode = mode;
+        this.staleness = staleness;
+        this.clock = clock;
+    }
+
+    /**
+     * retrieves number of rows in table, loading it
+     * if it is not cached or cached value is stale
+     *
+     * @param table name of table
+     * @param exactCount query counting rows exactly
+     * @return number of rows
+     */
+    public Long count(String table, Supplier<Long> exactCount) {
+        Instant now = clock.instant();
+        Count count = counts.get(table);
+        if (count == null || count.loadedAt().plus(staleness).isBefore(now)) {
+            count = new Count(load(table, exactCount), now);
+            counts.put(table, count);
+        }
+        return count.value();
+    }
+
+    /**
+     * adjusts cached count once current transaction commits
+     *
+     * @param table name of table
+     */
+    public void increment(String table) {
+        afterCommit(() -> adjust(table, 1));
+    }
+
+    /**
+     * adjusts cached count once current transaction commits
+     *
+     * @param table name of table
+     */
+    public void decrement(String table) {
+        decrement(table, 1);
+    }
+
+    /**
+     * adjusts cached count by number of deleted rows once current transaction commits
+     *
+     * @param table name of table
+     * @param rows number of deleted rows
+     */
+    public void decrement(String table, long rows) {
+        afterCommit(() -> adjust(table, -rows));
+    }
+
+    /**
+     * drops cached count right away and once current transaction completes,
+     * used when number of affected rows is unknown
+     *
+     * @param table name of table
+     */
+    public void invalidate(String table) {
+        counts.remove(table);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    counts.remove(table);
+                }
+            });
+        }
+    }
+
+    private void adjust(String table, long delta) {
+        if (mode == Mode.EXACT) {
+            counts.computeIfPresent(table, (key, count) ->
+                    new Count(count.value() + delta, count.loadedAt()));
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private Long load(String table, Supplier<Long> exactCount) {
+        if (mode == Mode.ESTIMATE && DatabaseDialect.isPostgreSQL(entityManager)) {
+            Number estimate = (Number) entityManager
+                    .createNativeQuery("select coalesce((select cast(reltuples as bigint) "
+                            + "from pg_class where relname = ?1), -1)")
+                    .setParameter(1, table)
+                    .getSingleResult();
+            if (estimate.longValue() >= 0) {
+                return estimate.longValue();
+            }
+        }
+        return exactCount.get();
+    }
+
+    /**
+     * mode of loading counts
+     */
+    public enum Mode {
+        EXACT,
+        ESTIMATE
+    }
+
+    private record Count(Long value, Instant loadedAt) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.epam.esm.util.export;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/**
+ * reads query results through forward-only server-side cursor
+ * and hands rows to consumer one by one, so that memory used
+ * does not depend on number of rows read,
+ * has to be called inside of transaction for postgresql to honour fetch size
+ *
+ * @author bakhridinova
+ */
+
+@Component
+public class ResultScroller {
+    private final EntityManager entityManager;
+    private final int fetchSize;
+    private final int clearInterval;
+
+    public ResultScroller(EntityManager entityManager,
+                          @Value("${export.fetch-size:1000}") int fetchSize,
+                          @Value("${export.clear-interval:1000}") int clearInterval) {
+        this.entityManager = entityManager;
+        this.fetchSize = fetchSize;
+        this.clearInterval = clearInterval;
+    }
+
+    /**
+     * scrolls through results of read-only query,
+     * clearing persistence context every clear interval rows
+     *
+     * @param query HQL query to scroll through
+     * @param resultType type of query rows
+     * @param consumer receiving rows in query order
+     * @return number of rows read
+     */
+    public <R> long scroll(String query, Class<R> resultType, Consumer<R> consumer) {
+        Session session = entityManager.unwrap(Session.class);
+        long rows = 0;
+        try (ScrollableResults<R> results = session.createQuery(query, resultType)
+                .setReadOnly(true)
+                .setFetchSize(fetchSize)
+                .setCacheMode(CacheMode.IGNORE)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+            while (results.next()) {
+                consumer.accept(results.get());
+                if (++rows % clearInterval == 0) {
+                    session.clear();
+                }
+            }
+        }
+        return rows;
+    }
+}
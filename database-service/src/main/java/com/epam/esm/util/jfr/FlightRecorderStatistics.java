@@ -0,0 +1,70 @@
+package com.epam.esm.util.jfr;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.model.domain.NavigableRole;
+import org.hibernate.stat.internal.StatisticsImpl;
+
+/**
+ * hibernate statistics additionally committing
+ * {@link CacheAccessEvent} for every cache lookup
+ * while event is enabled in flight recording
+ *
+ * @author bakhridinova
+ */
+
+public class FlightRecorderStatistics extends StatisticsImpl {
+    private static final String ENTITY = "entity";
+    private static final String COLLECTION = "collection";
+    private static final String QUERY = "query";
+
+    public FlightRecorderStatistics(SessionFactoryImplementor sessionFactory) {
+        super(sessionFactory);
+    }
+
+    @Override
+    public void entityCacheHit(NavigableRole entityName, String regionName) {
+        super.entityCacheHit(entityName, regionName);
+        commit(regionName, ENTITY, entityName.getFullPath(), true);
+    }
+
+    @Override
+    public void entityCacheMiss(NavigableRole entityName, String regionName) {
+        super.entityCacheMiss(entityName, regionName);
+        commit(regionName, ENTITY, entityName.getFullPath(), false);
+    }
+
+    @Override
+    public void collectionCacheHit(NavigableRole collectionRole, String regionName) {
+        super.collectionCacheHit(collectionRole, regionName);
+        commit(regionName, COLLECTION, collectionRole.getFullPath(), true);
+    }
+
+    @Override
+    public void collectionCacheMiss(NavigableRole collectionRole, String regionName) {
+        super.collectionCacheMiss(collectionRole, regionName);
+        commit(regionName, COLLECTION, collectionRole.getFullPath(), false);
+    }
+
+    @Override
+    public void queryCacheHit(String hql, String regionName) {
+        super.queryCacheHit(hql, regionName);
+        commit(regionName, QUERY, hql, true);
+    }
+
+    @Override
+    public void queryCacheMiss(String hql, String regionName) {
+        super.queryCacheMiss(hql, regionName);
+        commit(regionName, QUERY, hql, false);
+    }
+
+    private static void commit(String region, String kind, String role, boolean hit) {
+        CacheAccessEvent event = new CacheAccessEvent();
+        if (event.isEnabled()) {
+            event.setRegion(region);
+            event.setKind(kind);
+            event.setRole(role);
+            event.setHit(hit);
+            event.commit();
+        }
+    }
+}
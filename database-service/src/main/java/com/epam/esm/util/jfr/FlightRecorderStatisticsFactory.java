@@ -0,0 +1,20 @@
+package com.epam.esm.util.jfr;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * factory of {@link FlightRecorderStatistics}, registered
+ * through hibernate.stats.factory property
+ *
+ * @author bakhridinova
+ */
+
+public class FlightRecorderStatisticsFactory implements StatisticsFactory {
+
+    @Override
+    public StatisticsImplementor buildStatistics(SessionFactoryImplementor sessionFactory) {
+        return new FlightRecorderStatistics(sessionFactory);
+    }
+}
@@ -0,0 +1,124 @@
+package com.epam.esm.util.monitoring;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+/**
+ * data source wrapping connections, statements and result sets
+ * into proxies that report executed statements, their duration
+ * and number of read or updated rows to {@link QueryMonitor},
+ * nothing is measured while no scope is active on current thread
+ *
+ * @author bakhridinova
+ */
+
+public class MonitoredDataSource extends DelegatingDataSource {
+    public MonitoredDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return monitored(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return monitored(super.getConnection(username, password));
+    }
+
+    private static Connection monitored(Connection connection) {
+        return proxy(Connection.class, connection, (method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement statement) {
+                // prepared statements carry their sql, plain ones get it with every execution
+                String sql = result instanceof PreparedStatement ? (String) args[0] : null;
+                return monitored(statement, sql);
+            }
+            return result;
+        });
+    }
+
+    private static Statement monitored(Statement statement, String preparedSql) {
+        Class<? extends Statement> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+        return proxy(type, statement, (method, args) -> {
+            if (!QueryMonitor.isActive()) {
+                return invoke(statement, method, args);
+            }
+
+            boolean execution = method.getName().startsWith("execute");
+            long start = System.nanoTime();
+            Object result = invoke(statement, method, args);
+            if (execution) {
+                String sql = preparedSql != null ? preparedSql
+                        : args != null && args.length > 0 && args[0] instanceof String text ? text : "batch";
+                QueryMonitor.recordStatement(sql, System.nanoTime() - start);
+                QueryMonitor.recordRows(updatedRows(result));
+            }
+            return result instanceof ResultSet resultSet
+                    && !method.getName().equals("getGeneratedKeys") ? monitored(resultSet) : result;
+        });
+    }
+
+    private static ResultSet monitored(ResultSet resultSet) {
+        return proxy(ResultSet.class, resultSet, (method, args) -> {
+            Object result = invoke(resultSet, method, args);
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                QueryMonitor.recordRows(1);
+            }
+            return result;
+        });
+    }
+
+    private static long updatedRows(Object result) {
+        if (result instanceof Number number) {
+            return number.longValue();
+        }
+        if (result instanceof int[] counts) {
+            return Arrays.stream(counts).filter(count -> count > 0).asLongStream().sum();
+        }
+        if (result instanceof long[] counts) {
+            return LongStream.of(counts).filter(count -> count > 0).sum();
+        }
+        return 0;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<? extends T> type, Object target, Handler handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "toString" -> "monitored " + target;
+            default -> handler.handle(method, args);
+        };
+        return (T) Proxy.newProxyInstance(MonitoredDataSource.class.getClassLoader(),
+                new Class<?>[] { type }, invocationHandler);
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object handle(Method method, Object[] args) throws Throwable;
+    }
+}
@@ -0,0 +1,27 @@
+package com.epam.esm.util.monitoring;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * post processor wrapping every data source into {@link MonitoredDataSource},
+ * wrapping happens after initialization so that data source properties
+ * are bound to original bean
+ *
+ * @author bakhridinova
+ */
+
+@Component
+@ConditionalOnProperty(prefix = "query.monitoring", name = "enabled", matchIfMissing = true)
+public class MonitoredDataSourcePostProcessor implements BeanPostProcessor {
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof MonitoredDataSource)) {
+            return new MonitoredDataSource(dataSource);
+        }
+        return bean;
+    }
+}
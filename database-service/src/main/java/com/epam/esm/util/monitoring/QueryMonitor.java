@@ -0,0 +1,88 @@
+package com.epam.esm.util.monitoring;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * utility class holding query scopes opened on current thread,
+ * every statement executed through {@link MonitoredDataSource}
+ * is recorded in all of them, so that scopes may be nested
+ * (e.g. test around request)
+ *
+ * @author bakhridinova
+ */
+
+@UtilityClass
+public class QueryMonitor {
+    private final ThreadLocal<Deque<QueryScope>> scopes = new ThreadLocal<>();
+
+    /**
+     * opens new scope on current thread
+     *
+     * @return opened scope
+     */
+    public QueryScope begin() {
+        Deque<QueryScope> active = scopes.get();
+        if (active == null) {
+            active = new ArrayDeque<>();
+            scopes.set(active);
+        }
+
+        QueryScope scope = new QueryScope();
+        active.push(scope);
+        return scope;
+    }
+
+    /**
+     * closes scope, it keeps everything recorded so far
+     *
+     * @param scope to close
+     */
+    public void end(QueryScope scope) {
+        Deque<QueryScope> active = scopes.get();
+        if (active == null) {
+            return;
+        }
+
+        active.remove(scope);
+        if (active.isEmpty()) {
+            scopes.remove();
+        }
+    }
+
+    /**
+     * runs action within its own scope
+     *
+     * @param action to run
+     * @return scope holding statements executed by action
+     */
+    public QueryScope measure(Runnable action) {
+        QueryScope scope = begin();
+        try {
+            action.run();
+        } finally {
+            end(scope);
+        }
+        return scope;
+    }
+
+    public boolean isActive() {
+        return scopes.get() != null;
+    }
+
+    void recordStatement(String sql, long nanos) {
+        Deque<QueryScope> active = scopes.get();
+        if (active != null) {
+            active.forEach(scope -> scope.recordStatement(sql, nanos));
+        }
+    }
+
+    void recordRows(long rows) {
+        Deque<QueryScope> active = scopes.get();
+        if (active != null && rows > 0) {
+            active.forEach(scope -> scope.recordRows(rows));
+        }
+    }
+}
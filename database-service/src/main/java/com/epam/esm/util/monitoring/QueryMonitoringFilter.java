@@ -0,0 +1,78 @@
+package com.epam.esm.util.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * filter opening query scope for every request, warns once request
+ * executes more statements than allowed or repeats same statement
+ * shape too many times, and adds request to statistics of its endpoint
+ *
+ * @author bakhridinova
+ */
+
+@Component
+@ConditionalOnProperty(prefix = "query.monitoring", name = "enabled", matchIfMissing = true)
+public class QueryMonitoringFilter extends OncePerRequestFilter {
+    private static final Logger logger = LoggerFactory.getLogger(QueryMonitoringFilter.class);
+    private final int maxStatements;
+    private final int repeatThreshold;
+    @Getter
+    private final QueryStatistics statistics = new QueryStatistics();
+
+    public QueryMonitoringFilter(@Value("${query.monitoring.max-statements:20}") int maxStatements,
+                                 @Value("${query.monitoring.repeat-threshold:10}") int repeatThreshold) {
+        this.maxStatements = maxStatements;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        QueryScope scope = QueryMonitor.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryMonitor.end(scope);
+            report(request.getMethod() + " " + pattern(request), scope);
+        }
+    }
+
+    void report(String endpoint, QueryScope scope) {
+        boolean flagged = false;
+        if (scope.getStatements() > maxStatements) {
+            logger.warn("{} executed {} statements reading or updating {} rows in {} ms, threshold is {}",
+                    endpoint, scope.getStatements(), scope.getRows(),
+                    TimeUnit.NANOSECONDS.toMillis(scope.getNanos()), maxStatements);
+            flagged = true;
+        }
+        for (Map.Entry<String, Integer> repeated : scope.findRepeated(repeatThreshold).entrySet()) {
+            logger.warn("{} executed same statement {} times, possible N+1 selects: {}",
+                    endpoint, repeated.getValue(), repeated.getKey());
+            flagged = true;
+        }
+        statistics.record(endpoint, scope, flagged);
+    }
+
+    private static String pattern(HttpServletRequest request) {
+        // raw uri would give every entity its own entry
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? "unmapped" : pattern.toString();
+    }
+}
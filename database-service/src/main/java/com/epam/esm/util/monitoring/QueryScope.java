@@ -0,0 +1,72 @@
+package com.epam.esm.util.monitoring;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * statements, rows and database time recorded while scope was active,
+ * scope is confined to thread that opened it
+ *
+ * @author bakhridinova
+ */
+
+@Getter
+public class QueryScope {
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\?(?:\\s*,\\s*\\?)+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private long statements;
+    private long rows;
+    private long nanos;
+    private final Map<String, Integer> executions = new HashMap<>();
+
+    void recordStatement(String sql, long nanos) {
+        this.statements++;
+        this.nanos += nanos;
+        executions.merge(sql, 1, Integer::sum);
+    }
+
+    void recordRows(long rows) {
+        this.rows += rows;
+    }
+
+    /**
+     * groups executed statements by shape and keeps shapes executed
+     * at least given number of times, which usually means statement
+     * is issued per element of some collection (N+1 selects)
+     *
+     * @param threshold minimal number of executions
+     * @return number of executions by shape, most frequent first
+     */
+    public Map<String, Integer> findRepeated(int threshold) {
+        return executions.entrySet().stream()
+                .collect(Collectors.groupingBy(entry -> shapeOf(entry.getKey()),
+                        Collectors.summingInt(Map.Entry::getValue)))
+                .entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue,
+                        (first, second) -> first, LinkedHashMap::new));
+    }
+
+    /**
+     * replaces literals and parameter lists of statement with single placeholder,
+     * so that statements differing only in values share one shape
+     *
+     * @param sql statement
+     * @return shape of statement
+     */
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = PARAMETER_LIST.matcher(shape).replaceAll("?");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,74 @@
+package com.epam.esm.util.monitoring;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * statement statistics aggregated per endpoint
+ * since start of application or last reset
+ *
+ * @author bakhridinova
+ */
+
+public class QueryStatistics {
+    private final Map<String, EndpointStatistics> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * adds statements of one request to statistics of endpoint
+     *
+     * @param endpoint method and path pattern of request
+     * @param scope holding statements of request
+     * @param flagged whether request crossed any of thresholds
+     */
+    public void record(String endpoint, QueryScope scope, boolean flagged) {
+        EndpointStatistics statistics = endpoints.computeIfAbsent(endpoint, key -> new EndpointStatistics());
+        statistics.requests.increment();
+        statistics.statements.add(scope.getStatements());
+        statistics.maxStatements.accumulate(scope.getStatements());
+        statistics.rows.add(scope.getRows());
+        statistics.nanos.add(scope.getNanos());
+        if (flagged) {
+            statistics.flagged.increment();
+        }
+    }
+
+    /**
+     * retrieves current statistics
+     *
+     * @return statistics by endpoint, ordered by endpoint
+     */
+    public Map<String, Map<String, Long>> snapshot() {
+        Map<String, Map<String, Long>> result = new TreeMap<>();
+        endpoints.forEach((endpoint, statistics) -> {
+            long requests = statistics.requests.sum();
+            Map<String, Long> values = new LinkedHashMap<>();
+            values.put("requests", requests);
+            values.put("statements", statistics.statements.sum());
+            values.put("statementsPerRequest", requests == 0 ? 0 : statistics.statements.sum() / requests);
+            values.put("maxStatements", statistics.maxStatements.get());
+            values.put("rows", statistics.rows.sum());
+            values.put("databaseMillis", TimeUnit.NANOSECONDS.toMillis(statistics.nanos.sum()));
+            values.put("flaggedRequests", statistics.flagged.sum());
+            result.put(endpoint, values);
+        });
+        return result;
+    }
+
+    public void reset() {
+        endpoints.clear();
+    }
+
+    private static class EndpointStatistics {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAccumulator maxStatements = new LongAccumulator(Long::max, 0);
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder flagged = new LongAdder();
+    }
+}
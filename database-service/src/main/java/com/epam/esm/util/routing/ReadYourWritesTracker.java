@@ -0,0 +1,78 @@
+package com.epam.esm.util.routing;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * keeps track of users who have recently written data, so that
+ * their own reads are served by primary database until replicas
+ * are expected to have caught up with their writes
+ *
+ * @author bakhridinova
+ */
+
+@Component
+public class ReadYourWritesTracker {
+    private final Duration stickiness;
+    private final Clock clock;
+    private final Map<Long, Instant> writes = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ReadYourWritesTracker(@Value("${datasource.replicas.stickiness:PT5S}") Duration stickiness) {
+        this(stickiness, Clock.systemUTC());
+    }
+
+    ReadYourWritesTracker(Duration stickiness, Clock clock) {
+        this.stickiness = stickiness;
+        this.clock = clock;
+    }
+
+    /**
+     * records write of user once current transaction commits
+     *
+     * @param userId ID of user
+     */
+    public void recordWrite(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(userId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(userId);
+            }
+        });
+    }
+
+    /**
+     * checks whether user has written data within stickiness window
+     *
+     * @param userId ID of user
+     * @return true if reads of user should go to primary database
+     */
+    public boolean hasRecentWrite(Long userId) {
+        Instant writtenAt = writes.get(userId);
+        return writtenAt != null && !isExpired(writtenAt, clock.instant());
+    }
+
+    private void record(Long userId) {
+        Instant now = clock.instant();
+        writes.values().removeIf(writtenAt -> isExpired(writtenAt, now));
+        writes.put(userId, now);
+    }
+
+    private boolean isExpired(Instant writtenAt, Instant now) {
+        return writtenAt.plus(stickiness).isBefore(now);
+    }
+}
@@ -0,0 +1,71 @@
+package com.epam.esm.util.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * data source sending read-only transactions to replicas and
+ * everything else to primary, connection is chosen when first
+ * statement is executed, so it has to be wrapped into lazy
+ * connection proxy for read-only flag of transaction to be visible
+ *
+ * @author bakhridinova
+ */
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica-";
+
+    private final List<DataSource> replicas;
+    private final ReplicaSelection selection;
+    private final AtomicInteger counter = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, ReplicaSelection selection) {
+        this.replicas = List.copyOf(replicas);
+        this.selection = selection;
+
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(PRIMARY, primary);
+        IntStream.range(0, replicas.size())
+                .forEach(i -> targetDataSources.put(REPLICA + i, replicas.get(i)));
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicas.isEmpty()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || RoutingContext.isPrimaryRequired()) {
+            return PRIMARY;
+        }
+        return REPLICA + selectReplica();
+    }
+
+    private int selectReplica() {
+        if (selection == ReplicaSelection.LEAST_CONNECTIONS) {
+            return IntStream.range(0, replicas.size()).boxed()
+                    .min(Comparator.comparingInt(i -> activeConnections(replicas.get(i))))
+                    .orElse(0);
+        }
+        return Math.floorMod(counter.getAndIncrement(), replicas.size());
+    }
+
+    private static int activeConnections(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikariDataSource) {
+            HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+            return pool == null ? 0 : pool.getActiveConnections();
+        }
+        return 0;
+    }
+}
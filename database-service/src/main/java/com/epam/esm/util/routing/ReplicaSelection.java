@@ -0,0 +1,13 @@
+package com.epam.esm.util.routing;
+
+/**
+ * enum representing strategies
+ * of choosing replica for read
+ *
+ * @author bakhridinova
+ */
+
+public enum ReplicaSelection {
+    ROUND_ROBIN,
+    LEAST_CONNECTIONS
+}
@@ -0,0 +1,44 @@
+package com.epam.esm.util.routing;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.function.Supplier;
+
+/**
+ * utility class holding per-thread routing hints,
+ * used to pin reads to primary database when
+ * replicas may not have caught up yet
+ *
+ * @author bakhridinova
+ */
+
+@UtilityClass
+public class RoutingContext {
+    private final ThreadLocal<Boolean> primaryRequired = ThreadLocal.withInitial(() -> false);
+
+    /**
+     * runs action on primary database if condition holds,
+     * otherwise leaves routing to transaction definition
+     *
+     * @param condition whether primary database is required
+     * @param action action to run
+     * @param <T> type of result
+     * @return result of action
+     */
+    public <T> T onPrimaryIf(boolean condition, Supplier<T> action) {
+        if (!condition || primaryRequired.get()) {
+            return action.get();
+        }
+
+        primaryRequired.set(true);
+        try {
+            return action.get();
+        } finally {
+            primaryRequired.remove();
+        }
+    }
+
+    public boolean isPrimaryRequired() {
+        return primaryRequired.get();
+    }
+}
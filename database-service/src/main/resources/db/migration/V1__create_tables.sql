@@ -0,0 +1,43 @@
+create table if not exists certificates
+(
+    certificate_id  bigint generated by default as identity primary key,
+    name            varchar(255)     not null,
+    description     varchar(255)     not null,
+    price           double precision not null,
+    duration        integer          not null,
+    created_at      timestamp,
+    last_updated_at timestamp
+);
+
+create table if not exists tags
+(
+    tag_id bigint generated by default as identity primary key,
+    name   varchar(255) not null unique
+);
+
+create table if not exists users
+(
+    user_id       bigint generated by default as identity primary key,
+    username      varchar(255) unique,
+    password      varchar(255),
+    first_name    varchar(255),
+    last_name     varchar(255),
+    email_address varchar(255),
+    date_of_birth date
+);
+
+create table if not exists orders
+(
+    order_id       bigint generated by default as identity primary key,
+    price          double precision not null,
+    created_at     timestamp,
+    user_id        bigint references users (user_id),
+    certificate_id bigint references certificates (certificate_id)
+);
+
+create table if not exists certificate_tag
+(
+    certificate_id bigint not null references certificates (certificate_id),
+    tag_id         bigint not null references tags (tag_id),
+    primary key (certificate_id, tag_id)
+);
@@ -0,0 +1,10 @@
+-- composite indexes let every supported sort type be served in index order,
+-- certificate_id is the tie-breaker used by the search query
+create index if not exists certificates_name_idx on certificates (name, certificate_id);
+create index if not exists certificates_price_idx on certificates (price, certificate_id);
+create index if not exists certificates_duration_idx on certificates (duration, certificate_id);
+create index if not exists certificates_created_at_idx on certificates (created_at, certificate_id);
+create index if not exists certificates_last_updated_at_idx on certificates (last_updated_at, certificate_id);
+
+-- primary key covers (certificate_id, tag_id), tag containment needs the reverse direction
+create index if not exists certificate_tag_tag_id_idx on certificate_tag (tag_id, certificate_id);
@@ -0,0 +1,31 @@
+-- aggregates maintained by OrderServiceImpl.create so that special tag
+-- is resolved by two index lookups instead of scanning all orders
+create table if not exists user_spendings
+(
+    user_id     bigint primary key references users (user_id) on delete cascade,
+    total_spent double precision not null
+);
+
+create table if not exists user_tag_usages
+(
+    user_id     bigint not null references users (user_id) on delete cascade,
+    tag_id      bigint not null references tags (tag_id) on delete cascade,
+    usage_count bigint not null,
+    primary key (user_id, tag_id)
+);
+
+create index if not exists user_spendings_total_spent_idx on user_spendings (total_spent, user_id);
+create index if not exists user_tag_usages_usage_count_idx on user_tag_usages (user_id, usage_count, tag_id);
+
+insert into user_spendings (user_id, total_spent)
+select user_id, sum(price)
+from orders
+group by user_id
+on conflict do nothing;
+
+insert into user_tag_usages (user_id, tag_id, usage_count)
+select o.user_id, ct.tag_id, count(distinct o.certificate_id)
+from orders o
+         join certificate_tag ct on ct.certificate_id = o.certificate_id
+group by o.user_id, ct.tag_id
+on conflict do nothing;
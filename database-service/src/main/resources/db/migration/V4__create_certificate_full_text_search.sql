@@ -0,0 +1,31 @@
+-- trigram indexes let substring search (like '%text%') use index instead of scanning table
+create extension if not exists pg_trgm;
+
+create index if not exists certificates_name_trgm_idx on certificates using gin (name gin_trgm_ops);
+create index if not exists certificates_description_trgm_idx on certificates using gin (description gin_trgm_ops);
+
+-- full-text search vector, name is weighted above description when ranking
+alter table certificates add column if not exists search_vector tsvector;
+
+create or replace function certificates_search_vector_update() returns trigger as
+$$
+begin
+    new.search_vector :=
+            setweight(to_tsvector('simple', coalesce(new.name, '')), 'A') ||
+            setweight(to_tsvector('simple', coalesce(new.description, '')), 'B');
+    return new;
+end
+$$ language plpgsql;
+
+drop trigger if exists certificates_search_vector_trigger on certificates;
+create trigger certificates_search_vector_trigger
+    before insert or update of name, description
+    on certificates
+    for each row
+execute function certificates_search_vector_update();
+
+update certificates
+set search_vector = setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+                    setweight(to_tsvector('simple', coalesce(description, '')), 'B');
+
+create index if not exists certificates_search_vector_idx on certificates using gin (search_vector);
@@ -0,0 +1,29 @@
+-- ids are allocated from sequences in blocks of 50 (pooled-lo), so that
+-- inserts no longer have to run one by one to learn generated id and can be batched,
+-- increments must match allocationSize of entities
+create sequence if not exists certificates_seq increment by 50;
+create sequence if not exists tags_seq increment by 50;
+create sequence if not exists users_seq increment by 50;
+create sequence if not exists orders_seq increment by 50;
+
+select setval('certificates_seq', coalesce((select max(certificate_id) from certificates), 0) + 1, false);
+select setval('tags_seq', coalesce((select max(tag_id) from tags), 0) + 1, false);
+select setval('users_seq', coalesce((select max(user_id) from users), 0) + 1, false);
+select setval('orders_seq', coalesce((select max(order_id) from orders), 0) + 1, false);
+
+-- plain inserts keep working, each takes one sequence value which is never handed out as block
+alter table certificates alter column certificate_id drop identity if exists;
+alter table certificates alter column certificate_id set default nextval('certificates_seq');
+alter sequence certificates_seq owned by certificates.certificate_id;
+
+alter table tags alter column tag_id drop identity if exists;
+alter table tags alter column tag_id set default nextval('tags_seq');
+alter sequence tags_seq owned by tags.tag_id;
+
+alter table users alter column user_id drop identity if exists;
+alter table users alter column user_id set default nextval('users_seq');
+alter sequence users_seq owned by users.user_id;
+
+alter table orders alter column order_id drop identity if exists;
+alter table orders alter column order_id set default nextval('orders_seq');
+alter sequence orders_seq owned by orders.order_id;
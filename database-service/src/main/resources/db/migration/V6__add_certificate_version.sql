@@ -0,0 +1,3 @@
+-- optimistic locking version of certificate, it is compared and incremented
+-- by conditional updates and exposed to clients as ETag
+alter table certificates add column if not exists version bigint not null default 0;
@@ -3,14 +3,37 @@ package com.epam.esm;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
 
 @Transactional
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 @SpringBootTest(classes = RepositoryApplication.class)
 public class RepositoryTest {
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     @Test
     public void contextLoads() {
     }
-}
\ No newline at end of file
+
+    /**
+     * runs action in its own transaction and persistence context,
+     * second-level cache entries put while transaction is running are
+     * not readable by it, so cache hits need transaction started after them
+     *
+     * @param action to run
+     * @return result of action
+     */
+    protected <T> T inNewTransaction(Supplier<T> action) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return transactionTemplate.execute(status -> action.get());
+    }
+}
@@ -1,11 +1,18 @@
 package com.epam.esm.repository;
 
 import com.epam.esm.RepositoryTest;
+import com.epam.esm.dto.CertificateDto;
+import com.epam.esm.dto.TagDto;
 import com.epam.esm.entity.Certificate;
 import com.epam.esm.entity.Tag;
 import com.epam.esm.exception.CustomEntityNotFoundException;
+import com.epam.esm.exception.CustomPreconditionFailedException;
+import com.epam.esm.util.Cursor;
+import com.epam.esm.util.MaxQueries;
 import com.epam.esm.util.Pagination;
 import com.epam.esm.util.SearchFilter;
+import com.epam.esm.util.StatementCounter;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Order;
@@ -13,9 +20,13 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataAccessException;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -26,6 +37,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 public class CertificateRepositoryTest extends RepositoryTest {
     @Autowired
     private CertificateRepository certificateRepository;
+    @Autowired
+    private TagRepository tagRepository;
+    @Autowired
+    private EntityManager entityManager;
     private static Pagination pagination;
 
     @BeforeAll
@@ -421,30 +436,298 @@ public class CertificateRepositoryTest extends RepositoryTest {
     }
 
     @Test
-    @Order(29)
-    public void deleteShouldRemoveRecordFromDatabase() {
-        Certificate certificate = Certificate.builder().name("").description("")
-                .price(0.0).duration(0).tags(Set.of()).orders(List.of()).build();
-        certificateRepository.save(certificate);
-        assertEquals(1,
-                certificateRepository.findAllByPage(pagination.next()).size());
-        certificateRepository.delete(certificate);
-        assertEquals(0,
-                certificateRepository.findAllByPage(pagination.next()).size());
+    @Order(31)
+    public void findByFilterShouldReturnOnlyCertificatesContainingAllTags() {
+        SearchFilter searchFilter = SearchFilter.builder()
+                .name("test").description("test")
+                .sortType("id").sortOrder("asc")
+                .tags(Set.of(Tag.builder().name("test1").build(),
+                        Tag.builder().name("test2").build()))
+                .build();
+
+        List<Certificate> certificates =
+                certificateRepository.findByFilterAndPage(searchFilter, pagination);
+
+        assertEquals(1, certificates.size());
+        assertEquals(1, certificates.get(0).getId());
     }
 
     @Test
-    @Order(30)
-    public void deleteShouldThrowDataAccessExceptionIfEntityIsAlreadyDetached() {
-        Certificate certificate = Certificate.builder().name("").description("")
-                .price(0.0).duration(0).tags(Set.of()).orders(List.of()).build();
-        certificateRepository.save(certificate);
-        assertEquals(1,
-                certificateRepository.findAllByPage(pagination.next()).size());
-        certificateRepository.delete(certificate);
-        assertEquals(0,
-                certificateRepository.findAllByPage(pagination.next()).size());
-        assertThrows(DataAccessException.class,
-                () -> certificateRepository.delete(certificate));
+    @Order(32)
+    public void findByFilterShouldReturnAllCertificatesContainingTag() {
+        SearchFilter searchFilter = SearchFilter.builder()
+                .name("test").description("test")
+                .sortType("id").sortOrder("asc")
+                .tags(Set.of(Tag.builder().name("test2").build()))
+                .build();
+
+        assertEquals(List.of(1L, 2L), certificateRepository
+                .findByFilterAndPage(searchFilter, pagination)
+                .stream().map(Certificate::getId).toList());
+    }
+
+    @Test
+    @Order(33)
+    public void findByFilterShouldKeepSortOrderAcrossPages() {
+        SearchFilter searchFilter = SearchFilter.builder()
+                .name("test").description("test")
+                .sortType("price").sortOrder("desc")
+                .build();
+
+        assertEquals(List.of(10L, 9L, 8L), certificateRepository
+                .findByFilterAndPage(searchFilter, new Pagination(0, 3))
+                .stream().map(Certificate::getId).toList());
+        assertEquals(List.of(7L, 6L, 5L), certificateRepository
+                .findByFilterAndPage(searchFilter, new Pagination(1, 3))
+                .stream().map(Certificate::getId).toList());
+    }
+
+    @Test
+    @Order(34)
+    @MaxQueries(4)
+    public void findAllByPageShouldNotDependOnPageSizeInNumberOfQueries() {
+        assertEquals(2, countQueries(() -> certificateRepository
+                .findAllByPage(new Pagination(0, 2))));
+        assertEquals(2, countQueries(() -> certificateRepository
+                .findAllByPage(new Pagination(0, 10))));
+    }
+
+    @Test
+    @Order(35)
+    @MaxQueries(4)
+    public void findAllByCursorShouldNotDependOnPageSizeInNumberOfQueries() {
+        assertEquals(2, countQueries(() -> certificateRepository
+                .findAllByCursor(new Cursor(null, 2))));
+        assertEquals(2, countQueries(() -> certificateRepository
+                .findAllByCursor(new Cursor(null, 10))));
+    }
+
+    @Test
+    @Order(36)
+    @MaxQueries(4)
+    public void findByFilterAndPageShouldNotDependOnPageSizeInNumberOfQueries() {
+        SearchFilter searchFilter = SearchFilter.builder()
+                .name("test").description("test")
+                .sortType("name").sortOrder("desc")
+                .build();
+
+        assertEquals(2, countQueries(() -> certificateRepository
+                .findByFilterAndPage(searchFilter, new Pagination(0, 2))));
+        assertEquals(2, countQueries(() -> certificateRepository
+                .findByFilterAndPage(searchFilter, new Pagination(0, 10))));
+    }
+
+    @Test
+    @Order(37)
+    @MaxQueries(1)
+    public void findByIdShouldLoadTagsInSingleQuery() {
+        assertEquals(1, countQueries(() -> List.of(certificateRepository.findById(1L))));
+    }
+
+    private long countQueries(Supplier<List<Certificate>> query) {
+        entityManager.clear();
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+        return StatementCounter.count(() -> query.get()
+                .forEach(certificate -> certificate.getTags().size()));
+    }
+
+    @Test
+    @Order(38)
+    public void findAllDtosByPageShouldReturnSameValuesAsEntities() {
+        List<Certificate> certificates = certificateRepository.findAllByPage(pagination);
+        List<CertificateDto> certificateDtos = certificateRepository.findAllDtosByPage(pagination);
+
+        assertEquals(certificates.size(), certificateDtos.size());
+        IntStream.range(0, certificates.size()).forEach(i -> {
+            assertEquals(certificates.get(i).getId(), certificateDtos.get(i).getId());
+            assertEquals(certificates.get(i).getName(), certificateDtos.get(i).getName());
+            assertEquals(certificates.get(i).getPrice(), certificateDtos.get(i).getPrice());
+            assertEquals(certificates.get(i).getTags().stream().map(Tag::getName).collect(Collectors.toSet()),
+                    certificateDtos.get(i).getTags().stream().map(TagDto::getName).collect(Collectors.toSet()));
+        });
+    }
+
+    @Test
+    @Order(39)
+    @MaxQueries(2)
+    public void findDtosByFilterAndPageShouldLoadTagsWithConstantNumberOfQueries() {
+        SearchFilter searchFilter = SearchFilter.builder()
+                .name("test").description("test")
+                .tags(Set.of(Tag.builder().name("test2").build()))
+                .build();
+
+        assertEquals(2, StatementCounter.count(() -> {
+            List<CertificateDto> certificates = certificateRepository
+                    .findDtosByFilterAndPage(searchFilter, pagination);
+            assertEquals(2, certificates.size());
+            assertEquals(2, certificates.get(0).getTags().size());
+        }));
+    }
+
+    @Test
+    @Order(40)
+    public void findDtoByIdShouldThrowCustomEntityNotFoundExceptionIfCertificateDoesNotExist() {
+        assertThrows(CustomEntityNotFoundException.class,
+                () -> certificateRepository.findDtoById(11L));
+    }
+
+    @Test
+    @Order(41)
+    public void findByFilterShouldMatchTextInNameOrDescriptionInSubstringMode() {
+        SearchFilter searchFilter = SearchFilter.builder()
+                .text("test1")
+                .build();
+
+        assertEquals(List.of(1L, 10L), certificateRepository.findByFilterAndPage(searchFilter, pagination)
+                .stream().map(Certificate::getId).toList());
+    }
+
+    @Test
+    @Order(42)
+    public void findByFilterShouldMatchEveryWordIgnoringCaseInFullTextMode() {
+        SearchFilter searchFilter = SearchFilter.builder()
+                .text("TEST1, test10").searchMode(SearchFilter.FULLTEXT)
+                .build();
+
+        assertEquals(List.of(10L), certificateRepository.findDtosByFilterAndPage(searchFilter, pagination)
+                .stream().map(CertificateDto::getId).toList());
+    }
+
+    @Test
+    @Order(43)
+    public void findByFilterShouldIgnoreTextWithoutWordsInFullTextMode() {
+        SearchFilter searchFilter = SearchFilter.builder()
+                .text("?!").searchMode(SearchFilter.FULLTEXT)
+                .build();
+
+        assertEquals(10, certificateRepository.findByFilterAndPage(searchFilter, pagination).size());
+    }
+
+    @Test
+    @Order(44)
+    public void findByIdShouldReadCachedCertificateAndTagsWithoutQueries() {
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+        inNewTransaction(() -> certificateRepository.findById(1L).getTags().size());
+
+        assertEquals(0, StatementCounter.count(() -> assertEquals(2,
+                inNewTransaction(() -> certificateRepository.findById(1L).getTags().size()))));
+    }
+
+    @Test
+    @Order(45)
+    public void findDtoByIdShouldReadCachedCertificateWithoutQueries() {
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+        inNewTransaction(() -> certificateRepository.findById(2L).getTags().size());
+
+        assertEquals(0, StatementCounter.count(() -> {
+            CertificateDto certificate = inNewTransaction(() -> certificateRepository.findDtoById(2L));
+            assertEquals("test2", certificate.getName());
+            assertEquals(1, certificate.getTags().size());
+        }));
+    }
+
+    @Test
+    @Order(46)
+    public void saveShouldBatchInsertsOfManyCertificates() {
+        // 100 inserts fit into two batches, ids are fetched at most twice in blocks of 50
+        long statements = StatementCounter.count(() -> {
+            IntStream.range(0, 100).forEach(i -> certificateRepository.save(Certificate.builder()
+                    .name("bulk" + i).description("bulk" + i)
+                    .price(1.0).duration(1).build()));
+            entityManager.flush();
+        });
+        assertTrue(statements <= 4);
+    }
+
+    @Test
+    @Order(47)
+    public void findPricesByIdsShouldReturnPricesOfExistingCertificatesOnly() {
+        assertEquals(Map.of(3L, 3.0), certificateRepository.findPricesByIds(Set.of(3L, 11L)));
+    }
+
+    @Test
+    @Order(48)
+    public void exportAllShouldPassEveryCertificateOnceWithItsTags() {
+        List<CertificateDto> certificates = new ArrayList<>();
+        certificateRepository.exportAll(certificates::add);
+        assertEquals(10, certificates.size());
+        assertEquals(1L, certificates.get(0).getId());
+        assertEquals(Set.of("test1", "test2"), certificates.get(0).getTags().stream()
+                .map(TagDto::getName).collect(Collectors.toSet()));
+        assertEquals(1, certificates.get(9).getTags().size());
+    }
+
+    @Test
+    @Order(49)
+    public void updateByIdShouldPatchFieldsAndBumpVersionInOneStatement() {
+        Long version = certificateRepository.findDtoById(4L).getVersion();
+
+        assertEquals(1, StatementCounter.count(() -> certificateRepository.updateById(4L, version,
+                CertificateDto.builder().name("patched").price(40.0).build())));
+
+        CertificateDto certificate = certificateRepository.findDtoById(4L);
+        assertEquals("patched", certificate.getName());
+        assertEquals("test4", certificate.getDescription());
+        assertEquals(40.0, certificate.getPrice());
+        assertEquals(version + 1, certificate.getVersion());
+    }
+
+    @Test
+    @Order(50)
+    public void updateByIdShouldFailIfVersionIsOutdatedOrCertificateIsMissing() {
+        Long version = certificateRepository.findDtoById(5L).getVersion();
+        CertificateDto patch = CertificateDto.builder().name("patched").build();
+        certificateRepository.updateById(5L, version, patch);
+
+        assertThrows(CustomPreconditionFailedException.class,
+                () -> certificateRepository.updateById(5L, version, patch));
+        assertThrows(CustomEntityNotFoundException.class,
+                () -> certificateRepository.updateById(111L, null, patch));
+        assertEquals(version + 1, certificateRepository.findDtoById(5L).getVersion());
+    }
+
+    @Test
+    @Order(51)
+    public void deleteAllByIdsShouldDeleteTagAssociationsAndCertificatesInTwoStatements() {
+        Set<Long> ids = IntStream.range(0, 3).mapToObj(i -> {
+            Certificate certificate = Certificate.builder()
+                    .name("stale" + i).description("stale" + i)
+                    .price(1.0).duration(1).build();
+            certificateRepository.save(certificate);
+            tagRepository.setTags(certificate, Set.of(tagRepository.findById(1L)));
+            return certificate.getId();
+        }).collect(Collectors.toSet());
+        entityManager.clear();
+
+        assertEquals(2, StatementCounter.count(() ->
+                assertEquals(3, certificateRepository.deleteAllByIds(ids))));
+        assertEquals(0, certificateRepository.deleteAllByIds(ids));
+        assertEquals(10, certificateRepository.findAllByPage(new Pagination(0, 20)).size());
+    }
+
+    @Test
+    @Order(52)
+    public void deleteAllByFilterShouldDeleteMatchingCertificatesOnly() {
+        IntStream.range(0, 2).forEach(i -> certificateRepository.save(Certificate.builder()
+                .name("cleanup" + i).description("cleanup" + i)
+                .price(1.0).duration(1).build()));
+        entityManager.flush();
+
+        assertEquals(2, certificateRepository.deleteAllByFilter(SearchFilter.builder()
+                .name("cleanup").build()));
+        assertEquals(10, certificateRepository.findAllByPage(new Pagination(0, 20)).size());
+    }
+
+    @Test
+    @Order(53)
+    public void findByIdShouldFetchAllTagsWithoutLimitingQuery() {
+        entityManager.clear();
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+        List<Certificate> found = new ArrayList<>();
+        List<String> statements = StatementCounter.record(() -> found.add(certificateRepository.findById(1L)));
+
+        assertEquals(2, found.get(0).getTags().size());
+        assertTrue(statements.stream().noneMatch(sql -> sql.matches("(?is).*\\b(limit|fetch first|offset)\\b.*")),
+                statements::toString);
     }
-}
\ No newline at end of file
+}
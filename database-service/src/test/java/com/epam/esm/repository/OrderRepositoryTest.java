@@ -1,20 +1,29 @@
 package com.epam.esm.repository;
 
 import com.epam.esm.RepositoryTest;
+import com.epam.esm.dto.OrderDto;
+import com.epam.esm.entity.Certificate;
+import com.epam.esm.entity.User;
 import com.epam.esm.exception.CustomEntityNotFoundException;
+import com.epam.esm.util.Cursor;
 import com.epam.esm.util.Pagination;
+import com.epam.esm.util.StatementCounter;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataAccessException;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class OrderRepositoryTest extends RepositoryTest {
     @Autowired
@@ -23,6 +32,8 @@ public class OrderRepositoryTest extends RepositoryTest {
     private UserRepository userRepository;
     @Autowired
     private CertificateRepository certificateRepository;
+    @Autowired
+    private EntityManager entityManager;
 
     private static Pagination pagination;
     @BeforeAll
@@ -160,4 +171,77 @@ public class OrderRepositoryTest extends RepositoryTest {
         assertThrows(DataAccessException.class,
                 () -> orderRepository.save(order));
     }
-}
\ No newline at end of file
+
+    @Test
+    @Order(15)
+    public void findAllByCursorShouldSeekPastLastSeenId() {
+        assertEquals(List.of(1L, 2L, 3L, 4L), orderRepository
+                .findAllByCursor(new Cursor(null, 4))
+                .stream().map(com.epam.esm.entity.Order::getId).toList());
+        assertEquals(List.of(5L, 6L, 7L, 8L), orderRepository
+                .findAllByCursor(new Cursor(4L, 4))
+                .stream().map(com.epam.esm.entity.Order::getId).toList());
+        assertEquals(List.of(9L, 10L), orderRepository
+                .findAllByCursor(new Cursor(8L, 4))
+                .stream().map(com.epam.esm.entity.Order::getId).toList());
+    }
+
+    @Test
+    @Order(16)
+    public void findAllByCursorShouldReturnEmptyListAfterLastId() {
+        assertEquals(0, orderRepository
+                .findAllByCursor(new Cursor(10L, 4)).size());
+    }
+
+    @Test
+    @Order(17)
+    public void findAllByPageShouldNotLoadUsersAndCertificates() {
+        entityManager.clear();
+        assertEquals(1, StatementCounter.count(() -> orderRepository
+                .findAllByPage(pagination)
+                .forEach(order -> {
+                    order.getUser().getId();
+                    order.getCertificate().getId();
+                })));
+    }
+
+    @Test
+    @Order(18)
+    public void findDtosByUserIdShouldReturnIdsWithoutJoiningUsersAndCertificates() {
+        entityManager.clear();
+        assertEquals(1, StatementCounter.count(() -> {
+            List<OrderDto> orders = orderRepository.findDtosByUserId(3L, pagination);
+            assertEquals(1, orders.size());
+            assertEquals(3L, orders.get(0).getUserId());
+            assertEquals(3L, orders.get(0).getCertificateId());
+            assertEquals(3.0, orders.get(0).getPrice());
+        }));
+    }
+
+    @Test
+    @Order(19)
+    public void saveShouldBatchInsertsOfManyOrders() {
+        User user = userRepository.findById(1L);
+        Certificate certificate = certificateRepository.findById(1L);
+
+        // 100 inserts fit into two batches, ids are fetched at most twice in blocks of 50
+        long statements = StatementCounter.count(() -> {
+            IntStream.range(0, 100).forEach(i -> orderRepository.save(com.epam.esm.entity.Order.builder()
+                    .price(1.0).user(user).certificate(certificate).build()));
+            entityManager.flush();
+        });
+        assertTrue(statements <= 4);
+    }
+
+    @Test
+    @Order(20)
+    public void exportAllShouldPassEveryOrderOrderedById() {
+        List<OrderDto> orders = new ArrayList<>();
+        orderRepository.exportAll(orders::add);
+        assertEquals(10, orders.size());
+        assertEquals(1L, orders.get(0).getId());
+        assertEquals(10L, orders.get(9).getId());
+        assertEquals(3L, orders.get(2).getUserId());
+        assertEquals(3L, orders.get(2).getCertificateId());
+    }
+}
@@ -0,0 +1,114 @@
+package com.epam.esm.repository;
+
+import com.epam.esm.RepositoryTest;
+import com.epam.esm.entity.UserSpending;
+import com.epam.esm.entity.UserTagUsage;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+public class OrderStatisticsRepositoryTest extends RepositoryTest {
+    @Autowired
+    private OrderStatisticsRepository orderStatisticsRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CertificateRepository certificateRepository;
+    @Autowired
+    private TagRepository tagRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @Order(1)
+    public void contextLoads() {
+        assertNotNull(orderStatisticsRepository);
+    }
+
+    @Test
+    @Order(2)
+    public void recordOrderShouldAddPriceToUserSpending() {
+        saveOrder(1L, 3L);
+        saveOrder(1L, 3L);
+        assertEquals(7.0, findSpending(1L));
+    }
+
+    @Test
+    @Order(3)
+    public void recordOrderShouldCountTagsOnlyOnFirstOrderOfCertificate() {
+        saveOrder(1L, 2L);
+        saveOrder(1L, 2L);
+        assertEquals(2L, findUsage(1L, 2L));
+        assertEquals(1L, findUsage(1L, 1L));
+    }
+
+    @Test
+    @Order(4)
+    public void recordOrderShouldChangeSpecialTagOnceUserSpendsMost() {
+        assertEquals("test9", tagRepository.findSpecial().getName());
+        saveOrder(1L, 2L);
+        saveOrder(1L, 10L);
+        assertEquals("test2", tagRepository.findSpecial().getName());
+    }
+
+    @Test
+    @Order(5)
+    public void rebuildShouldRestoreAggregatesFromOrders() {
+        saveOrder(1L, 2L);
+        saveOrder(1L, 10L);
+        entityManager.createNativeQuery("delete from user_tag_usages").executeUpdate();
+        entityManager.createNativeQuery("update user_spendings set total_spent = 0").executeUpdate();
+
+        orderStatisticsRepository.rebuild();
+        entityManager.clear();
+        assertEquals(13.0, findSpending(1L));
+        assertEquals(2L, findUsage(1L, 2L));
+        assertEquals("test2", tagRepository.findSpecial().getName());
+    }
+
+    @Test
+    @Order(6)
+    public void refreshShouldRecalculateAggregatesOfGivenUsers() {
+        for (Long certificateId : List.of(2L, 10L)) {
+            com.epam.esm.entity.Order order = new com.epam.esm.entity.Order();
+            order.setUser(userRepository.getReference(1L));
+            order.setCertificate(certificateRepository.findById(certificateId));
+            order.setPrice(order.getCertificate().getPrice());
+            orderRepository.save(order);
+        }
+
+        orderStatisticsRepository.refresh(Set.of(1L));
+        assertEquals(13.0, findSpending(1L));
+        assertEquals(2L, findUsage(1L, 2L));
+        assertEquals("test2", tagRepository.findSpecial().getName());
+    }
+
+    private void saveOrder(Long userId, Long certificateId) {
+        com.epam.esm.entity.Order order = new com.epam.esm.entity.Order();
+        order.setUser(userRepository.findById(userId));
+        order.setCertificate(certificateRepository.findById(certificateId));
+        order.setPrice(order.getCertificate().getPrice());
+        orderRepository.save(order);
+        orderStatisticsRepository.recordOrder(order);
+    }
+
+    private Double findSpending(Long userId) {
+        entityManager.clear();
+        return entityManager.find(UserSpending.class, userId).getTotalSpent();
+    }
+
+    private Long findUsage(Long userId, Long tagId) {
+        entityManager.clear();
+        return entityManager.find(UserTagUsage.class,
+                new UserTagUsage.Key(userId, tagId)).getUsageCount();
+    }
+}
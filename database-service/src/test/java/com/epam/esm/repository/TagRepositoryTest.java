@@ -1,17 +1,28 @@
 package com.epam.esm.repository;
 
 import com.epam.esm.RepositoryTest;
+import com.epam.esm.entity.Certificate;
 import com.epam.esm.entity.Tag;
 import com.epam.esm.exception.CustomEntityNotFoundException;
 import com.epam.esm.util.Pagination;
+import com.epam.esm.util.StatementCounter;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataAccessException;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -22,6 +33,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 public class TagRepositoryTest extends RepositoryTest {
     @Autowired
     private TagRepository tagRepository;
+    @Autowired
+    private CertificateRepository certificateRepository;
+    @Autowired
+    private EntityManager entityManager;
 
     private static Pagination pagination;
 
@@ -116,30 +131,146 @@ public class TagRepositoryTest extends RepositoryTest {
     }
 
     @Test
-    @Order(11)
-    public void deleteShouldRemoveRecordFromDatabase() {
-        Tag tag = Tag.builder()
-                .name("test12").build();
-        tagRepository.save(tag);
-        assertEquals(10,
-                tagRepository.findAllByPage(pagination).size());
-        tagRepository.delete(tag);
-        assertEquals(9,
-                tagRepository.findAllByPage(pagination).size());
+    @Order(13)
+    public void setTagsShouldAttachAllTagsInSingleStatement() {
+        Certificate certificate = certificateRepository.findById(3L);
+        Set<Tag> tags = LongStream.rangeClosed(4, 8)
+                .mapToObj(tagRepository::findById)
+                .collect(Collectors.toSet());
+
+        Statistics statistics = getStatistics();
+        statistics.clear();
+        tagRepository.setTags(certificate, tags);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(6, countTags(3L));
     }
 
     @Test
-    @Order(12)
-    public void deleteShouldThrowDataAccessExceptionIfEntityIsAlreadyDetached() {
-        Tag tag = Tag.builder()
-                .name("test13").build();
-        tagRepository.save(tag);
-        assertEquals(10,
-                tagRepository.findAllByPage(pagination).size());
-        tagRepository.delete(tag);
-        assertEquals(9,
-                tagRepository.findAllByPage(pagination).size());
-        assertThrows(DataAccessException.class,
-                () -> tagRepository.delete(tag));
+    @Order(14)
+    public void replaceTagsShouldSwapTagSetInTwoStatements() {
+        Certificate certificate = certificateRepository.findById(1L);
+        Set<Tag> tags = LongStream.rangeClosed(3, 9)
+                .mapToObj(tagRepository::findById)
+                .collect(Collectors.toSet());
+
+        Statistics statistics = getStatistics();
+        statistics.clear();
+        tagRepository.replaceTags(certificate, tags);
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(7, countTags(1L));
+    }
+
+    @Test
+    @Order(15)
+    public void findAllByNamesShouldReturnOnlyExistingTagsInSingleQuery() {
+        Statistics statistics = getStatistics();
+        statistics.clear();
+        assertEquals(2, tagRepository
+                .findAllByNames(Set.of("test1", "test2", "test name")).size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @Order(16)
+    public void saveAllIfAbsentShouldSkipExistingNamesInSingleStatement() {
+        List<String> statements = StatementCounter.record(() ->
+                tagRepository.saveAllIfAbsent(Set.of("test1", "test10", "test11")));
+        assertEquals(1, statements.stream()
+                .filter(sql -> sql.startsWith("insert into tags")).count());
+        assertEquals(11, tagRepository.findTotalNumber());
+        assertEquals(3, tagRepository
+                .findAllByNames(Set.of("test1", "test10", "test11")).size());
+    }
+
+    @Test
+    @Order(22)
+    public void saveAllIfAbsentShouldTakeConsecutiveIdsFromPooledBlock() {
+        tagRepository.saveAllIfAbsent(Set.of("test12"));
+        tagRepository.saveAllIfAbsent(Set.of("test13"));
+        long first = tagRepository.findByName("test12").orElseThrow().getId();
+        long second = tagRepository.findByName("test13").orElseThrow().getId();
+        assertEquals(first + 1, second);
+    }
+
+    private Statistics getStatistics() {
+        return entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private long countTags(Long certificateId) {
+        return ((Number) entityManager
+                .createNativeQuery("select count(*) from certificate_tag where certificate_id = ?1")
+                .setParameter(1, certificateId)
+                .getSingleResult()).longValue();
+    }
+
+    @Test
+    @Order(17)
+    public void findAllDtosByPageShouldReturnInitialList() {
+        AtomicInteger counter = new AtomicInteger(1);
+        tagRepository.findAllDtosByPage(pagination)
+                .forEach(tag -> {
+                    int value = counter.getAndIncrement();
+                    assertEquals(value, tag.getId());
+                    assertEquals("test" + value, tag.getName());
+                });
+        assertEquals(10, counter.get());
+    }
+
+    @Test
+    @Order(18)
+    public void findByNameShouldReadCachedTagWithoutQueries() {
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+        inNewTransaction(() -> tagRepository.findByName("test1"));
+
+        Statistics statistics = getStatistics();
+        statistics.clear();
+        assertEquals(1L, inNewTransaction(() -> tagRepository.findByName("test1")).orElseThrow().getId());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @Order(19)
+    public void replaceTagsShouldEvictCachedTagsOfCertificate() {
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+        Certificate certificate = certificateRepository.findById(1L);
+        assertEquals(2, certificate.getTags().size());
+
+        tagRepository.replaceTags(certificate, Set.of(tagRepository.findById(9L)));
+        entityManager.clear();
+        assertEquals(Set.of(9L), certificateRepository.findById(1L).getTags()
+                .stream().map(Tag::getId).collect(Collectors.toSet()));
+    }
+
+    @Test
+    @Order(20)
+    public void setAllTagsShouldAttachTagsToEveryCertificateUsingSingleInsert() {
+        Map<Certificate, Set<Tag>> tagsByCertificate = new LinkedHashMap<>();
+        IntStream.range(0, 3).forEach(i -> {
+            Certificate certificate = Certificate.builder()
+                    .name("import" + i).description("import" + i)
+                    .price(1.0).duration(1).build();
+            certificateRepository.save(certificate);
+            tagsByCertificate.put(certificate, Set.of(tagRepository.findById(1L), tagRepository.findById(2L)));
+        });
+        entityManager.flush();
+
+        assertEquals(1, StatementCounter.count(() -> tagRepository.setAllTags(tagsByCertificate)));
+        entityManager.clear();
+        tagsByCertificate.keySet().forEach(certificate -> assertEquals(Set.of(1L, 2L),
+                certificateRepository.findById(certificate.getId()).getTags()
+                        .stream().map(Tag::getId).collect(Collectors.toSet())));
+    }
+
+    @Test
+    @Order(21)
+    public void deleteAllByIdsShouldDetachTagsFromCertificatesBeforeDeletingThem() {
+        assertEquals(1, tagRepository.deleteAllByIds(Set.of(1L, 111L)));
+        entityManager.clear();
+
+        assertThrows(CustomEntityNotFoundException.class,
+                () -> tagRepository.findById(1L));
+        assertEquals(Set.of(2L), certificateRepository.findById(1L).getTags()
+                .stream().map(Tag::getId).collect(Collectors.toSet()));
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package com.epam.esm.repository;
 
 import com.epam.esm.RepositoryTest;
+import com.epam.esm.dto.UserDto;
 import com.epam.esm.entity.User;
 import com.epam.esm.exception.CustomEntityNotFoundException;
 import com.epam.esm.util.Pagination;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataAccessException;
 
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.epam.esm.util.TestDataFactory.getPagination;
@@ -97,4 +99,28 @@ public class UserRepositoryTest extends RepositoryTest {
         assertThrows(DataAccessException.class,
                 () -> userRepository.findById(null));
     }
-}
\ No newline at end of file
+
+    @Test
+    @Order(7)
+    public void findDtoByIdShouldReturnSameValuesAsEntity() {
+        User user = userRepository.findById(1L);
+        UserDto userDto = userRepository.findDtoById(1L);
+        assertEquals(user.getId(), userDto.getId());
+        assertEquals(user.getUsername(), userDto.getUsername());
+        assertEquals(user.getEmailAddress(), userDto.getEmailAddress());
+        assertEquals(user.getBirthDate(), userDto.getBirthDate());
+    }
+
+    @Test
+    @Order(8)
+    public void findDtoByIdShouldThrowCustomEntityNotFoundExceptionIfUserDoesNotExist() {
+        assertThrows(CustomEntityNotFoundException.class,
+                () -> userRepository.findDtoById(11L));
+    }
+
+    @Test
+    @Order(9)
+    public void findExistingIdsShouldReturnOnlyIdsOfExistingUsers() {
+        assertEquals(Set.of(1L, 2L), userRepository.findExistingIds(Set.of(1L, 2L, 11L)));
+    }
+}
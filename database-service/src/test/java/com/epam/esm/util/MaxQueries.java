@@ -0,0 +1,25 @@
+package com.epam.esm.util;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * fails test that executes more statements than allowed,
+ * only test method itself is measured, set-up is not
+ *
+ * @author bakhridinova
+ */
+
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(MaxQueriesExtension.class)
+public @interface MaxQueries {
+    /**
+     * @return maximal number of statements test may execute
+     */
+    int value();
+}
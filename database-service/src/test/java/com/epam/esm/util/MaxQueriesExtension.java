@@ -0,0 +1,46 @@
+package com.epam.esm.util;
+
+import com.epam.esm.util.monitoring.QueryMonitor;
+import com.epam.esm.util.monitoring.QueryScope;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * extension counting statements executed by test through
+ * monitored data source and checking them against {@link MaxQueries}
+ *
+ * @author bakhridinova
+ */
+
+public class MaxQueriesExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(MaxQueriesExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(context.getUniqueId(), QueryMonitor.begin());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        QueryScope scope = context.getStore(NAMESPACE).remove(context.getUniqueId(), QueryScope.class);
+        QueryMonitor.end(scope);
+
+        int maxQueries = AnnotationSupport.findAnnotation(context.getElement(), MaxQueries.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getTestClass(), MaxQueries.class))
+                .map(MaxQueries::value)
+                .orElseThrow();
+        if (scope.getStatements() > maxQueries) {
+            fail("expected at most " + maxQueries + " statements, but " + scope.getStatements()
+                    + " were executed:\n" + scope.findRepeated(1).entrySet().stream()
+                    .map(entry -> entry.getValue() + " x " + entry.getKey())
+                    .collect(Collectors.joining("\n")));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.epam.esm.util;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * statement inspector counting SQL statements
+ * prepared by hibernate on current thread
+ *
+ * @author bakhridinova
+ */
+
+public class StatementCounter implements StatementInspector {
+    private static final ThreadLocal<Long> counter = ThreadLocal.withInitial(() -> 0L);
+    private static final ThreadLocal<List<String>> statements = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        counter.set(counter.get() + 1);
+        if (statements.get() != null) {
+            statements.get().add(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * runs action and counts statements it prepared
+     *
+     * @param action to run
+     * @return number of statements
+     */
+    public static long count(Runnable action) {
+        counter.set(0L);
+        action.run();
+        return counter.get();
+    }
+
+    /**
+     * runs action and records statements it prepared
+     *
+     * @param action to run
+     * @return SQL of statements in order they were prepared
+     */
+    public static List<String> record(Runnable action) {
+        List<String> recorded = new ArrayList<>();
+        statements.set(recorded);
+        try {
+            action.run();
+        } finally {
+            statements.remove();
+        }
+        return recorded;
+    }
+}
@@ -0,0 +1,61 @@
+package com.epam.esm.util.counter;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EntityCounterTest {
+    private static final Instant NOW = Instant.parse("2023-01-01T00:00:00Z");
+
+    private final Clock clock = mock(Clock.class);
+    private final AtomicLong loads = new AtomicLong();
+    private EntityCounter entityCounter;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(NOW);
+        entityCounter = new EntityCounter(mock(EntityManager.class),
+                EntityCounter.Mode.EXACT, Duration.ofSeconds(30), clock);
+    }
+
+    @Test
+    void countShouldReturnCachedValueWithinStaleness() {
+        assertEquals(1, entityCounter.count("tags", loads::incrementAndGet));
+        when(clock.instant()).thenReturn(NOW.plusSeconds(30));
+        assertEquals(1, entityCounter.count("tags", loads::incrementAndGet));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void countShouldReloadValueOnceStale() {
+        entityCounter.count("tags", loads::incrementAndGet);
+        when(clock.instant()).thenReturn(NOW.plusSeconds(31));
+        assertEquals(2, entityCounter.count("tags", loads::incrementAndGet));
+    }
+
+    @Test
+    void incrementAndDecrementShouldAdjustCachedValueWithoutQuery() {
+        entityCounter.count("tags", () -> 10L);
+        entityCounter.increment("tags");
+        entityCounter.increment("tags");
+        entityCounter.decrement("tags");
+        assertEquals(11, entityCounter.count("tags", loads::incrementAndGet));
+        assertEquals(0, loads.get());
+    }
+
+    @Test
+    void invalidateShouldForceReload() {
+        entityCounter.count("tags", loads::incrementAndGet);
+        entityCounter.invalidate("tags");
+        assertEquals(2, entityCounter.count("tags", loads::incrementAndGet));
+    }
+}
@@ -0,0 +1,55 @@
+package com.epam.esm.util.export;
+
+import com.epam.esm.RepositoryApplication;
+import com.epam.esm.dto.OrderDto;
+import com.epam.esm.repository.OrderRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * exports millions of orders within heap of memoryTest task,
+ * which is too small to hold them, so that any export keeping
+ * rows in memory fails with OutOfMemoryError
+ */
+@Tag("memory")
+@SpringBootTest(classes = RepositoryApplication.class, properties = {
+        "spring.datasource.url=jdbc:h2:file:./build/h2/export_db;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;LAZY_QUERY_EXECUTION=TRUE",
+        "spring.jpa.properties.hibernate.generate_statistics=false"
+})
+class ResultScrollerMemoryTest {
+    private static final int ORDERS = 2_000_000;
+    private static final int CHUNK = 100_000;
+
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void exportAllShouldReadMillionsOfOrdersWithinFixedHeap() {
+        // inserted in committed chunks so that database does not hold one huge transaction
+        for (int from = 1; from <= ORDERS; from += CHUNK) {
+            jdbcTemplate.update("insert into orders (order_id, price, created_at, certificate_id, user_id) " +
+                    "select x + 100, 1.0, now(), mod(x, 10) + 1, mod(x, 10) + 1 " +
+                    "from system_range(?, ?)", from, from + CHUNK - 1);
+        }
+
+        AtomicLong exported = new AtomicLong();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.executeWithoutResult(status ->
+                orderRepository.exportAll((OrderDto order) -> exported.incrementAndGet()));
+        assertEquals(ORDERS + 10L, exported.get());
+    }
+}
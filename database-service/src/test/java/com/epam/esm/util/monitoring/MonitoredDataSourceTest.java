@@ -0,0 +1,111 @@
+package com.epam.esm.util.monitoring;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MonitoredDataSourceTest {
+    private static final DataSource dataSource = new MonitoredDataSource(
+            new DriverManagerDataSource("jdbc:h2:mem:monitoring;DB_CLOSE_DELAY=-1", "sa", "sa"));
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("create table items (id bigint primary key, name varchar(255))");
+        }
+    }
+
+    @Test
+    void measureShouldCountStatementsAndRows() {
+        QueryScope scope = QueryMonitor.measure(() -> run(connection -> {
+            try (PreparedStatement insert = connection.prepareStatement("insert into items values (?, ?)")) {
+                for (long id = 1; id <= 3; id++) {
+                    insert.setLong(1, id);
+                    insert.setString(2, "item" + id);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+            try (PreparedStatement select = connection.prepareStatement("select * from items where id <= ?")) {
+                select.setLong(1, 3);
+                try (ResultSet resultSet = select.executeQuery()) {
+                    while (resultSet.next()) {
+                        resultSet.getString("name");
+                    }
+                }
+            }
+            try (Statement delete = connection.createStatement()) {
+                delete.executeUpdate("delete from items");
+            }
+        }));
+
+        assertEquals(3, scope.getStatements());
+        assertEquals(9, scope.getRows());
+        assertTrue(scope.getNanos() > 0);
+    }
+
+    @Test
+    void measureShouldGroupStatementsDifferingInLiteralsOnly() {
+        QueryScope scope = QueryMonitor.measure(() -> run(connection -> {
+            try (Statement statement = connection.createStatement()) {
+                for (int id = 0; id < 12; id++) {
+                    statement.executeQuery("select name from items where id = " + id).close();
+                }
+                statement.executeQuery("select name from items where name = 'item'").close();
+            }
+        }));
+
+        assertEquals(Map.of("select name from items where id = ?", 12), scope.findRepeated(10));
+    }
+
+    @Test
+    void statementsOutsideOfScopeShouldNotBeRecorded() {
+        QueryScope outer = QueryMonitor.begin();
+        QueryScope inner = QueryMonitor.measure(() -> run(connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.executeQuery("select count(*) from items").close();
+            }
+        }));
+        QueryMonitor.end(outer);
+        run(connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.executeQuery("select count(*) from items").close();
+            }
+        });
+
+        assertEquals(1, inner.getStatements());
+        assertEquals(1, outer.getStatements());
+        assertTrue(!QueryMonitor.isActive());
+    }
+
+    @Test
+    void shapeOfShouldReplaceLiteralsAndParameterLists() {
+        assertEquals("select * from certificates c1_0 where c1_0.id in (?) and c1_0.name = ?",
+                QueryScope.shapeOf("select *  from certificates c1_0\n where c1_0.id in (1, 2, 3) and c1_0.name = 'it''s'"));
+    }
+
+    private static void run(JdbcAction action) {
+        try (Connection connection = dataSource.getConnection()) {
+            action.run(connection);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface JdbcAction {
+        void run(Connection connection) throws SQLException;
+    }
+}
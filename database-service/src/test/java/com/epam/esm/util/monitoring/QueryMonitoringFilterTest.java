@@ -0,0 +1,52 @@
+package com.epam.esm.util.monitoring;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class QueryMonitoringFilterTest {
+    private final QueryMonitoringFilter filter = new QueryMonitoringFilter(5, 3);
+
+    @Test
+    void doFilterShouldAggregateStatementsByEndpointPattern() throws Exception {
+        perform("select * from tags where tag_id = 1", "select * from tags where tag_id = 2");
+        perform("select * from tags where tag_id = 3");
+
+        Map<String, Long> statistics = filter.getStatistics().snapshot().get("GET /api/tags/{id}");
+        assertEquals(2, statistics.get("requests"));
+        assertEquals(3, statistics.get("statements"));
+        assertEquals(2, statistics.get("maxStatements"));
+        assertEquals(0, statistics.get("flaggedRequests"));
+        assertFalse(QueryMonitor.isActive());
+    }
+
+    @Test
+    void doFilterShouldFlagRequestsRepeatingStatementOrCrossingThreshold() throws Exception {
+        perform("select * from tags where tag_id = 1", "select * from tags where tag_id = 2",
+                "select * from tags where tag_id = 3");
+        perform("select 1", "select 'a'", "select * from users", "select * from orders",
+                "select * from tags", "select * from certificates");
+
+        Map<String, Long> statistics = filter.getStatistics().snapshot().get("GET /api/tags/{id}");
+        assertEquals(2, statistics.get("flaggedRequests"));
+
+        filter.getStatistics().reset();
+        assertEquals(Map.of(), filter.getStatistics().snapshot());
+    }
+
+    private void perform(String... statements) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tags/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/tags/{id}");
+        filter.doFilter(request, new MockHttpServletResponse(), (filteredRequest, filteredResponse) -> {
+            for (String statement : statements) {
+                QueryMonitor.recordStatement(statement, 1000);
+            }
+        });
+    }
+}
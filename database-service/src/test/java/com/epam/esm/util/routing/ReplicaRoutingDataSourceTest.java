@@ -0,0 +1,91 @@
+package com.epam.esm.util.routing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReplicaRoutingDataSourceTest {
+    private final DataSource routingDataSource = routingDataSource(ReplicaSelection.ROUND_ROBIN);
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void getConnectionShouldUsePrimaryOutsideOfReadOnlyTransaction() throws SQLException {
+        assertEquals("primary", currentDatabase(routingDataSource));
+    }
+
+    @Test
+    void getConnectionShouldAlternateReplicasInReadOnlyTransaction() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(List.of("replica1", "replica2", "replica1"), List.of(
+                currentDatabase(routingDataSource),
+                currentDatabase(routingDataSource),
+                currentDatabase(routingDataSource)));
+    }
+
+    @Test
+    void getConnectionShouldUseLeastBusyReplicaInReadOnlyTransaction() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("replica1", currentDatabase(routingDataSource(ReplicaSelection.LEAST_CONNECTIONS)));
+    }
+
+    @Test
+    void getConnectionShouldUsePrimaryIfPrimaryIsRequired() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("primary", RoutingContext.onPrimaryIf(true, () -> {
+            try {
+                return currentDatabase(routingDataSource);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }));
+    }
+
+    @Test
+    void hasRecentWriteShouldExpireAfterStickiness() {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofMinutes(1));
+        ReadYourWritesTracker expiredTracker = new ReadYourWritesTracker(Duration.ofSeconds(-1));
+
+        tracker.recordWrite(1L);
+        expiredTracker.recordWrite(1L);
+
+        assertTrue(tracker.hasRecentWrite(1L));
+        assertFalse(tracker.hasRecentWrite(2L));
+        assertFalse(expiredTracker.hasRecentWrite(1L));
+    }
+
+    private static DataSource routingDataSource(ReplicaSelection selection) {
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(database("primary"),
+                List.of(database("replica1"), database("replica2")), selection);
+        dataSource.afterPropertiesSet();
+        return dataSource;
+    }
+
+    private static DataSource database(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "sa");
+    }
+
+    private static String currentDatabase(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            String url = connection.getMetaData().getURL();
+            return url.substring("jdbc:h2:mem:".length()).split(";")[0];
+        }
+    }
+}
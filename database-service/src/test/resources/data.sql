@@ -1,42 +1,62 @@
-insert into certificates (name, description, duration, price, created_at, last_updated_at) values ('test1', 'test1', 1, 1.0, now(), now());
-insert into certificates (name, description, duration, price, created_at, last_updated_at) values ('test2', 'test2', 2, 2.0, now(), now());
-insert into certificates (name, description, duration, price, created_at, last_updated_at) values ('test3', 'test3', 3, 3.0, now(), now());
-insert into certificates (name, description, duration, price, created_at, last_updated_at) values ('test4', 'test4', 4, 4.0, now(), now());
-insert into certificates (name, description, duration, price, created_at, last_updated_at) values ('test5', 'test5', 5, 5.0, now(), now());
-insert into certificates (name, description, duration, price, created_at, last_updated_at) values ('test6', 'test6', 6, 6.0, now(), now());
-insert into certificates (name, description, duration, price, created_at, last_updated_at) values ('test7', 'test7', 7, 7.0, now(), now());
-insert into certificates (name, description, duration, price, created_at, last_updated_at) values ('test8', 'test8', 8, 8.0, now(), now());
-insert into certificates (name, description, duration, price, created_at, last_updated_at) values ('test9', 'test9', 9, 9.0, now(), now());
-insert into certificates (name, description, duration, price, created_at, last_updated_at) values ('test10','test10',10,10.0,now(), now());
+insert into certificates (certificate_id, name, description, duration, price, created_at, last_updated_at) values (1, 'test1', 'test1', 1, 1.0, now(), now());
+insert into certificates (certificate_id, name, description, duration, price, created_at, last_updated_at) values (2, 'test2', 'test2', 2, 2.0, now(), now());
+insert into certificates (certificate_id, name, description, duration, price, created_at, last_updated_at) values (3, 'test3', 'test3', 3, 3.0, now(), now());
+insert into certificates (certificate_id, name, description, duration, price, created_at, last_updated_at) values (4, 'test4', 'test4', 4, 4.0, now(), now());
+insert into certificates (certificate_id, name, description, duration, price, created_at, last_updated_at) values (5, 'test5', 'test5', 5, 5.0, now(), now());
+insert into certificates (certificate_id, name, description, duration, price, created_at, last_updated_at) values (6, 'test6', 'test6', 6, 6.0, now(), now());
+insert into certificates (certificate_id, name, description, duration, price, created_at, last_updated_at) values (7, 'test7', 'test7', 7, 7.0, now(), now());
+insert into certificates (certificate_id, name, description, duration, price, created_at, last_updated_at) values (8, 'test8', 'test8', 8, 8.0, now(), now());
+insert into certificates (certificate_id, name, description, duration, price, created_at, last_updated_at) values (9, 'test9', 'test9', 9, 9.0, now(), now());
+insert into certificates (certificate_id, name, description, duration, price, created_at, last_updated_at) values (10, 'test10','test10',10,10.0,now(), now());
 
-insert into users (username, first_name, last_name, email_address, password, date_of_birth) values ('test1', 'test1', 'test1', 'test1', 'test1', now());
-insert into users (username, first_name, last_name, email_address, password, date_of_birth) values ('test2', 'test2', 'test2', 'test2', 'test2', now());
-insert into users (username, first_name, last_name, email_address, password, date_of_birth) values ('test3', 'test3', 'test3', 'test3', 'test3', now());
-insert into users (username, first_name, last_name, email_address, password, date_of_birth) values ('test4', 'test4', 'test4', 'test4', 'test4', now());
-insert into users (username, first_name, last_name, email_address, password, date_of_birth) values ('test5', 'test5', 'test5', 'test5', 'test5', now());
-insert into users (username, first_name, last_name, email_address, password, date_of_birth) values ('test6', 'test6', 'test6', 'test6', 'test6', now());
-insert into users (username, first_name, last_name, email_address, password, date_of_birth) values ('test7', 'test7', 'test7', 'test7', 'test7', now());
-insert into users (username, first_name, last_name, email_address, password, date_of_birth) values ('test8', 'test8', 'test8', 'test8', 'test8', now());
-insert into users (username, first_name, last_name, email_address, password, date_of_birth) values ('test9', 'test9', 'test9', 'test9', 'test9', now());
-insert into users (username, first_name, last_name, email_address, password, date_of_birth) values ('test10','test10','test10','test10','test10',now());
+insert into users (user_id, username, first_name, last_name, email_address, password, date_of_birth) values (1, 'test1', 'test1', 'test1', 'test1', 'test1', now());
+insert into users (user_id, username, first_name, last_name, email_address, password, date_of_birth) values (2, 'test2', 'test2', 'test2', 'test2', 'test2', now());
+insert into users (user_id, username, first_name, last_name, email_address, password, date_of_birth) values (3, 'test3', 'test3', 'test3', 'test3', 'test3', now());
+insert into users (user_id, username, first_name, last_name, email_address, password, date_of_birth) values (4, 'test4', 'test4', 'test4', 'test4', 'test4', now());
+insert into users (user_id, username, first_name, last_name, email_address, password, date_of_birth) values (5, 'test5', 'test5', 'test5', 'test5', 'test5', now());
+insert into users (user_id, username, first_name, last_name, email_address, password, date_of_birth) values (6, 'test6', 'test6', 'test6', 'test6', 'test6', now());
+insert into users (user_id, username, first_name, last_name, email_address, password, date_of_birth) values (7, 'test7', 'test7', 'test7', 'test7', 'test7', now());
+insert into users (user_id, username, first_name, last_name, email_address, password, date_of_birth) values (8, 'test8', 'test8', 'test8', 'test8', 'test8', now());
+insert into users (user_id, username, first_name, last_name, email_address, password, date_of_birth) values (9, 'test9', 'test9', 'test9', 'test9', 'test9', now());
+insert into users (user_id, username, first_name, last_name, email_address, password, date_of_birth) values (10, 'test10','test10','test10','test10','test10',now());
 
-insert into orders (price, created_at, certificate_id, user_id) values (1.0, now(), 1, 1);
-insert into orders (price, created_at, certificate_id, user_id) values (2.0, now(), 2, 2);
-insert into orders (price, created_at, certificate_id, user_id) values (3.0, now(), 3, 3);
-insert into orders (price, created_at, certificate_id, user_id) values (4.0, now(), 4, 4);
-insert into orders (price, created_at, certificate_id, user_id) values (5.0, now(), 5, 5);
-insert into orders (price, created_at, certificate_id, user_id) values (6.0, now(), 6, 6);
-insert into orders (price, created_at, certificate_id, user_id) values (7.0, now(), 7, 7);
-insert into orders (price, created_at, certificate_id, user_id) values (8.0, now(), 8, 8);
-insert into orders (price, created_at, certificate_id, user_id) values (9.0, now(), 9, 9);
-insert into orders (price, created_at, certificate_id, user_id) values (10.0,now(),10,10);
+insert into orders (order_id, price, created_at, certificate_id, user_id) values (1, 1.0, now(), 1, 1);
+insert into orders (order_id, price, created_at, certificate_id, user_id) values (2, 2.0, now(), 2, 2);
+insert into orders (order_id, price, created_at, certificate_id, user_id) values (3, 3.0, now(), 3, 3);
+insert into orders (order_id, price, created_at, certificate_id, user_id) values (4, 4.0, now(), 4, 4);
+insert into orders (order_id, price, created_at, certificate_id, user_id) values (5, 5.0, now(), 5, 5);
+insert into orders (order_id, price, created_at, certificate_id, user_id) values (6, 6.0, now(), 6, 6);
+insert into orders (order_id, price, created_at, certificate_id, user_id) values (7, 7.0, now(), 7, 7);
+insert into orders (order_id, price, created_at, certificate_id, user_id) values (8, 8.0, now(), 8, 8);
+insert into orders (order_id, price, created_at, certificate_id, user_id) values (9, 9.0, now(), 9, 9);
+insert into orders (order_id, price, created_at, certificate_id, user_id) values (10, 10.0,now(),10,10);
 
-insert into tags (name) values ('test1');
-insert into tags (name) values ('test2');
-insert into tags (name) values ('test3');
-insert into tags (name) values ('test4');
-insert into tags (name) values ('test5');
-insert into tags (name) values ('test6');
-insert into tags (name) values ('test7');
-insert into tags (name) values ('test8');
-insert into tags (name) values ('test9');
+insert into tags (tag_id, name) values (1, 'test1');
+insert into tags (tag_id, name) values (2, 'test2');
+insert into tags (tag_id, name) values (3, 'test3');
+insert into tags (tag_id, name) values (4, 'test4');
+insert into tags (tag_id, name) values (5, 'test5');
+insert into tags (tag_id, name) values (6, 'test6');
+insert into tags (tag_id, name) values (7, 'test7');
+insert into tags (tag_id, name) values (8, 'test8');
+insert into tags (tag_id, name) values (9, 'test9');
+
+alter sequence certificates_seq restart with 11;
+alter sequence users_seq restart with 11;
+alter sequence orders_seq restart with 11;
+alter sequence tags_seq restart with 10;
+
+insert into certificate_tag (certificate_id, tag_id) values (1, 1);
+insert into certificate_tag (certificate_id, tag_id) values (1, 2);
+insert into certificate_tag (certificate_id, tag_id) values (2, 2);
+insert into certificate_tag (certificate_id, tag_id) values (3, 3);
+insert into certificate_tag (certificate_id, tag_id) values (4, 4);
+insert into certificate_tag (certificate_id, tag_id) values (5, 5);
+insert into certificate_tag (certificate_id, tag_id) values (6, 6);
+insert into certificate_tag (certificate_id, tag_id) values (7, 7);
+insert into certificate_tag (certificate_id, tag_id) values (8, 8);
+insert into certificate_tag (certificate_id, tag_id) values (9, 9);
+insert into certificate_tag (certificate_id, tag_id) values (10, 9);
+
+insert into user_spendings (user_id, total_spent) select user_id, sum(price) from orders group by user_id;
+insert into user_tag_usages (user_id, tag_id, usage_count) select o.user_id, ct.tag_id, count(distinct o.certificate_id) from orders o join certificate_tag ct on ct.certificate_id = o.certificate_id group by o.user_id, ct.tag_id;
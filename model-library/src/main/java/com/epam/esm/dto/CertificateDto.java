@@ -1,10 +1,13 @@
 package com.epam.esm.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import org.springframework.hateoas.RepresentationModel;
 
 import java.time.LocalDateTime;
@@ -20,6 +23,8 @@ import java.util.Set;
 @Data
 @Getter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 @EqualsAndHashCode(callSuper = true)
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class CertificateDto extends RepresentationModel<CertificateDto> {
@@ -40,4 +45,16 @@ public class CertificateDto extends RepresentationModel<CertificateDto> {
     private Set<TagDto> tags;
 
     private Integer timesOrdered;
+
+    @JsonIgnore
+    private Long version;
+
+    /**
+     * constructor used by repository projection,
+     * tags are attached by separate query
+     */
+    public CertificateDto(Long id, String name, String description, Double price, Integer duration,
+                          LocalDateTime createdAt, LocalDateTime lastUpdatedAt, Long version) {
+        this(id, name, description, price, duration, createdAt, lastUpdatedAt, null, null, version);
+    }
 }
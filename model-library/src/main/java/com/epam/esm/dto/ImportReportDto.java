@@ -0,0 +1,65 @@
+package com.epam.esm.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * class representing result of importing certificates,
+ * records are numbered from 1 in order they were read
+ *
+ * @author bakhridinova
+ */
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportReportDto {
+    private long imported;
+
+    private long rejected;
+
+    /**
+     * number of first record that was not committed
+     * because import stopped on failed chunk, null if import completed
+     */
+    private Long resumeFrom;
+
+    @Builder.Default
+    private List<Chunk> chunks = new ArrayList<>();
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Chunk {
+        private long firstRecord;
+
+        private long lastRecord;
+
+        private int imported;
+
+        private Status status;
+
+        private String message;
+
+        @Builder.Default
+        private List<RecordError> errors = new ArrayList<>();
+    }
+
+    public record RecordError(long record, String message) {
+    }
+
+    public enum Status {
+        COMMITTED,
+        FAILED
+    }
+}
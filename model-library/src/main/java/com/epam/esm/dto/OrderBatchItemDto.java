@@ -0,0 +1,34 @@
+package com.epam.esm.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * class representing result of creating
+ * single order of order batch
+ *
+ * @author bakhridinova
+ */
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OrderBatchItemDto {
+    private Integer index;
+
+    private Status status;
+
+    private OrderDto order;
+
+    private String message;
+
+    public enum Status {
+        CREATED,
+        REJECTED
+    }
+}
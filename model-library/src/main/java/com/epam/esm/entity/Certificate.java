@@ -6,19 +6,25 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.Temporal;
 import jakarta.persistence.TemporalType;
 import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -35,13 +41,21 @@ import java.util.Set;
 @Data
 @Entity
 @Builder
-@Table(name = "certificates")
+@Table(name = "certificates", indexes = {
+        @Index(name = "certificates_name_idx", columnList = "name, certificate_id"),
+        @Index(name = "certificates_price_idx", columnList = "price, certificate_id"),
+        @Index(name = "certificates_duration_idx", columnList = "duration, certificate_id"),
+        @Index(name = "certificates_created_at_idx", columnList = "created_at, certificate_id"),
+        @Index(name = "certificates_last_updated_at_idx", columnList = "last_updated_at, certificate_id")
+})
 @NoArgsConstructor(access = AccessLevel.PUBLIC)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "certificates")
 public class Certificate implements Identifiable {
     @Id
     @Column(name = "certificate_id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "certificates_seq")
+    @SequenceGenerator(name = "certificates_seq", sequenceName = "certificates_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -66,11 +80,18 @@ public class Certificate implements Identifiable {
     @Temporal(TemporalType.TIMESTAMP)
     private LocalDateTime lastUpdatedAt;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @ManyToMany(cascade = CascadeType.ALL)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "certificate-tags")
     @JoinTable(
             name = "certificate_tag",
-            joinColumns = { @JoinColumn(name = "tag_id") },
-            inverseJoinColumns = { @JoinColumn(name = "certificate_id") }
+            joinColumns = { @JoinColumn(name = "certificate_id") },
+            inverseJoinColumns = { @JoinColumn(name = "tag_id") },
+            indexes = { @Index(name = "certificate_tag_tag_id_idx", columnList = "tag_id, certificate_id") }
     )
     private Set<Tag> tags;
 
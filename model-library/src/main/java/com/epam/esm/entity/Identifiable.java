@@ -1,10 +1,12 @@
 package com.epam.esm.entity;
 
 /**
- * custom marker interface for entities
+ * custom interface for entities
+ * identified by generated id
  *
  * @author bakhridinova
  */
 
 public interface Identifiable {
+    Long getId();
 }
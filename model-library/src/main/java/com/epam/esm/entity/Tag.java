@@ -6,6 +6,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -14,11 +15,16 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.util.Set;
 
 /**
- * class representing tag entity
+ * class representing tag entity, tags are
+ * cached both by ID and by name
  *
  * @author bakhridinova
  */
@@ -27,6 +33,8 @@ import java.util.Set;
 @Entity
 @Builder
 @Table(name = "tags")
+@NaturalIdCache(region = "tags-by-name")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tags")
 @ToString(exclude = "certificates")
 @EqualsAndHashCode(exclude="certificates")
 @NoArgsConstructor(access = AccessLevel.PUBLIC)
@@ -34,9 +42,11 @@ import java.util.Set;
 public class Tag implements Identifiable, Comparable<Tag> {
     @Id
     @Column(name = "tag_id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tags_seq")
+    @SequenceGenerator(name = "tags_seq", sequenceName = "tags_seq", allocationSize = 50)
     private Long id;
 
+    @NaturalId
     @Column(
             name = "name",
             nullable = false,
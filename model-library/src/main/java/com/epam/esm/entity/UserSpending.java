@@ -0,0 +1,38 @@
+package com.epam.esm.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * class representing total cost of all orders of user,
+ * maintained together with orders
+ *
+ * @author bakhridinova
+ */
+
+@Data
+@Entity
+@Builder
+@Table(name = "user_spendings", indexes = {
+        @Index(name = "user_spendings_total_spent_idx", columnList = "total_spent, user_id")
+})
+@NoArgsConstructor(access = AccessLevel.PUBLIC)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class UserSpending {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(
+            name = "total_spent",
+            nullable = false)
+    private Double totalSpent;
+}
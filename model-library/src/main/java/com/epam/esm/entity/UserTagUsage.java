@@ -0,0 +1,55 @@
+package com.epam.esm.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * class representing number of distinct certificates
+ * ordered by user that are marked with tag,
+ * maintained together with orders
+ *
+ * @author bakhridinova
+ */
+
+@Data
+@Entity
+@Builder
+@IdClass(UserTagUsage.Key.class)
+@Table(name = "user_tag_usages", indexes = {
+        @Index(name = "user_tag_usages_usage_count_idx", columnList = "user_id, usage_count, tag_id")
+})
+@NoArgsConstructor(access = AccessLevel.PUBLIC)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class UserTagUsage {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "tag_id")
+    private Long tagId;
+
+    @Column(
+            name = "usage_count",
+            nullable = false)
+    private Long usageCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long userId;
+        private Long tagId;
+    }
+}
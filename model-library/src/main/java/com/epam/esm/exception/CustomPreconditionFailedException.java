@@ -0,0 +1,13 @@
+package com.epam.esm.exception;
+
+/**
+ * custom exception for "precondition failed" error
+ *
+ * @author bakhridinova
+ */
+
+public class CustomPreconditionFailedException extends RuntimeException {
+    public CustomPreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -1,27 +1,33 @@
 package com.epam.esm.logging;
 
-import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
-import org.aspectj.lang.annotation.AfterReturning;
-import org.aspectj.lang.annotation.AfterThrowing;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
 import org.aspectj.lang.annotation.Pointcut;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 
 /**
- * aspect for logging method calls
+ * aspect for tracing method calls
  * and exceptions thrown by methods in Spring components annotated with
  * {@link org.springframework.stereotype.Repository @Repository},
  * {@link org.springframework.stereotype.Service @Service},
  * {@link org.springframework.web.bind.annotation.RestController @RestController},
  * {@link org.springframework.web.bind.annotation.ControllerAdvice @ControllerAdvice}
+ * <p>
+ * every component traces to its own logger named "tracing." followed
+ * by its class name, so that tracing is enabled per package by setting
+ * level of e.g. tracing.com.epam.esm.repository to debug; nothing but
+ * level check happens unless debug is enabled, and calls may be sampled
+ * per package with tracing.sample-rates (e.g. com.epam.esm.repository=0.1)
  *
  * @author bakhridinova
  */
@@ -29,7 +35,18 @@ import java.util.concurrent.TimeUnit;
 @Aspect
 @Component
 public class CustomLoggingAspect {
-    private static final Logger logger = LoggerFactory.getLogger(CustomLoggingAspect.class);
+    public static final String LOGGER_PREFIX = "tracing.";
+
+    private final Map<Class<?>, Target> targets = new ConcurrentHashMap<>();
+    private final Map<String, Double> sampleRates;
+    private final TraceSummarizer summarizer;
+
+    public CustomLoggingAspect(@Value("${tracing.sample-rates:}") List<String> sampleRates,
+                               @Value("${tracing.max-length:100}") int maxLength,
+                               @Value("${tracing.max-elements:3}") int maxElements) {
+        this.sampleRates = parseSampleRates(sampleRates);
+        this.summarizer = new TraceSummarizer(maxLength, maxElements);
+    }
 
     @Pointcut("within(@org.springframework.stereotype.Repository *)" +
             " || within(@org.springframework.stereotype.Service *)" +
@@ -38,32 +55,85 @@ public class CustomLoggingAspect {
     public void loggingTargets() {
     }
 
-    @Before("loggingTargets())")
-    public void logBeforeExecution(JoinPoint joinPoint) {
-        logger.debug("executing method: " + joinPoint.getSignature().getDeclaringTypeName() + "."
-                + joinPoint.getSignature().getName() + " with arguments " + Arrays.asList(joinPoint.getArgs()));
-    }
-
     @Around("loggingTargets()")
-    public Object logDuringExecution(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+    public Object trace(ProceedingJoinPoint joinPoint) throws Throwable {
+        Target target = targets.computeIfAbsent(joinPoint.getSignature().getDeclaringType(), this::targetOf);
+        if (!target.logger().isDebugEnabled() || !target.sampled()) {
+            try {
+                return joinPoint.proceed();
+            } catch (Exception e) {
+                logFailure(target.logger(), joinPoint, e);
+                throw e;
+            }
+        }
+
         long start = System.nanoTime();
-        Object proceed = proceedingJoinPoint.proceed();
-        long end = System.nanoTime();
-        logger.debug("execution of " + proceedingJoinPoint.getSignature().getDeclaringTypeName() + "."
-                + proceedingJoinPoint.getSignature().getName() + " took " +
-                TimeUnit.NANOSECONDS.toMillis(end - start) + " milli seconds");
-        return proceed;
+        try {
+            Object value = joinPoint.proceed();
+            target.logger().debug("{}{} returned {} in {} micro seconds", joinPoint.getSignature().getName(),
+                    summarizer.summarizeArguments(joinPoint.getArgs()), summarizer.summarize(value),
+                    TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+            return value;
+        } catch (Exception e) {
+            logFailure(target.logger(), joinPoint, e);
+            throw e;
+        }
+    }
+
+    private void logFailure(Logger logger, ProceedingJoinPoint joinPoint, Exception exception) {
+        if (logger.isErrorEnabled()) {
+            logger.error("{}{} threw {}", joinPoint.getSignature().getName(),
+                    summarizer.summarizeArguments(joinPoint.getArgs()), exception.toString());
+        }
+    }
+
+    private Target targetOf(Class<?> type) {
+        return new Target(LoggerFactory.getLogger(LOGGER_PREFIX + type.getName()), sampleRateOf(type.getName()));
+    }
+
+    /**
+     * finds sample rate of most specific package configured
+     * for given class, classes of other packages are always traced
+     *
+     * @param typeName fully qualified name of class
+     * @return sample rate between 0 and 1
+     */
+    double sampleRateOf(String typeName) {
+        return sampleRates.entrySet().stream()
+                .filter(entry -> typeName.equals(entry.getKey()) || typeName.startsWith(entry.getKey() + "."))
+                .max(Map.Entry.comparingByKey((first, second) -> first.length() - second.length()))
+                .map(Map.Entry::getValue)
+                .orElse(1.0);
     }
 
-    @AfterReturning(value = "loggingTargets()", returning = "value")
-    public void logAfterExecution(JoinPoint joinPoint, Object value) {
-        logger.debug("method " + joinPoint.getSignature().getDeclaringTypeName() + "."
-                + joinPoint.getSignature().getName() + " executed and return value [" + value + "]");
+    static Map<String, Double> parseSampleRates(List<String> sampleRates) {
+        Map<String, Double> result = new ConcurrentHashMap<>();
+        for (String sampleRate : sampleRates) {
+            if (sampleRate.isBlank()) {
+                continue;
+            }
+            String[] parts = sampleRate.split("=");
+            if (parts.length != 2 || parts[0].isBlank()) {
+                throw new IllegalArgumentException(
+                        "sample rate should be given as package=rate, but was " + sampleRate);
+            }
+            double rate;
+            try {
+                rate = Double.parseDouble(parts[1].trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("sample rate should be a number, but was " + sampleRate);
+            }
+            if (!(rate >= 0 && rate <= 1)) {
+                throw new IllegalArgumentException("sample rate should be between 0 and 1, but was " + sampleRate);
+            }
+            result.put(parts[0].trim(), rate);
+        }
+        return result;
     }
 
-    @AfterThrowing(value = "loggingTargets()", throwing = "exception")
-    public void logAfterException(JoinPoint joinPoint, Exception exception) {
-        logger.error("method " + joinPoint.getSignature().getDeclaringTypeName() + "."
-                + joinPoint.getSignature().getName() + " threw " + exception);
+    private record Target(Logger logger, double sampleRate) {
+        boolean sampled() {
+            return sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+        }
     }
 }
@@ -0,0 +1,93 @@
+package com.epam.esm.logging;
+
+import com.epam.esm.entity.Identifiable;
+import org.hibernate.Hibernate;
+import org.hibernate.proxy.HibernateProxy;
+
+import java.lang.reflect.Array;
+import java.time.temporal.Temporal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * summarizer rendering arguments and return values of traced methods,
+ * strings are cut to maximal length, only first elements of collections
+ * are rendered and entities are reduced to their type and id, so that
+ * rendering never initializes lazy associations or walks large graphs
+ *
+ * @author bakhridinova
+ */
+
+class TraceSummarizer {
+    private final int maxLength;
+    private final int maxElements;
+
+    TraceSummarizer(int maxLength, int maxElements) {
+        this.maxLength = maxLength;
+        this.maxElements = maxElements;
+    }
+
+    String summarizeArguments(Object[] values) {
+        StringBuilder summary = new StringBuilder().append('(');
+        for (int i = 0; i < values.length; i++) {
+            summary.append(i == 0 ? "" : ", ").append(summarize(values[i]));
+        }
+        return summary.append(')').toString();
+    }
+
+    String summarize(Object value) {
+        if (value == null || value instanceof Number || value instanceof Boolean
+                || value instanceof Character || value instanceof Enum<?>
+                || value instanceof Temporal || value instanceof UUID) {
+            return String.valueOf(value);
+        }
+        if (value instanceof CharSequence text) {
+            return '"' + cut(text.toString()) + '"';
+        }
+        if (value instanceof Identifiable entity) {
+            // proxies answer id and class without being initialized
+            Class<?> type = entity instanceof HibernateProxy proxy
+                    ? proxy.getHibernateLazyInitializer().getPersistentClass() : entity.getClass();
+            return type.getSimpleName() + "#" + entity.getId();
+        }
+        if (!Hibernate.isInitialized(value)) {
+            return value.getClass().getSimpleName() + "[uninitialized]";
+        }
+        if (value instanceof Collection<?> collection) {
+            return elements(collection.iterator(), collection.size());
+        }
+        if (value instanceof Map<?, ?> map) {
+            return elements(map.entrySet().iterator(), map.size());
+        }
+        if (value instanceof Object[] array) {
+            return elements(Arrays.asList(array).iterator(), array.length);
+        }
+        if (value.getClass().isArray()) {
+            return value.getClass().getComponentType().getSimpleName()
+                    + "[" + Array.getLength(value) + "]";
+        }
+        return cut(value.toString());
+    }
+
+    private String elements(Iterator<?> iterator, int size) {
+        StringBuilder summary = new StringBuilder().append("size=").append(size).append(" [");
+        int rendered = 0;
+        while (rendered < maxElements && iterator.hasNext()) {
+            Object element = iterator.next();
+            summary.append(rendered++ == 0 ? "" : ", ").append(element instanceof Map.Entry<?, ?> entry
+                    ? summarize(entry.getKey()) + "=" + summarize(entry.getValue()) : summarize(element));
+        }
+        if (rendered < size) {
+            summary.append(rendered == 0 ? "..." : ", ...");
+        }
+        return summary.append(']').toString();
+    }
+
+    private String cut(String text) {
+        return text.length() <= maxLength ? text
+                : text.substring(0, maxLength) + "...(" + text.length() + " chars)";
+    }
+}
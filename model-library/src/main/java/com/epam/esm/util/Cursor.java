@@ -0,0 +1,77 @@
+package com.epam.esm.util;
+
+import com.epam.esm.exception.CustomValidationException;
+import com.epam.esm.util.enums.PaginationField;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * record representing keyset (cursor) pagination,
+ * entities are ordered by ID and next page starts right after last seen ID
+ *
+ * @param after ID of last entity on previous page, null for first page
+ * @param size maximum number entities per page
+ *
+ * @author bakhridinova
+ */
+
+public record Cursor(Long after, int size) {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    /**
+     * decodes opaque cursor token received from client,
+     * blank token stands for first page
+     *
+     * @param token String cursor token to decode
+     * @param size int page size
+     * @return decoded cursor
+     * @throws CustomValidationException if token is malformed
+     */
+    public static Cursor decode(String token, int size) {
+        if (token == null || token.isBlank()) {
+            return new Cursor(null, size);
+        }
+
+        try {
+            String after = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            return new Cursor(Long.parseLong(after), size);
+        } catch (IllegalArgumentException e) {
+            throw new CustomValidationException(PaginationField.CURSOR.getName() + " is not valid");
+        }
+    }
+
+    /**
+     * encodes ID of last entity on page into opaque cursor token
+     *
+     * @param id ID of last entity on page
+     * @return String cursor token
+     */
+    public static String encode(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * builds token of page following given one,
+     * page shorter than requested size is considered last
+     *
+     * @param items list of entities on current page
+     * @param size int requested page size
+     * @param idGetter function retrieving ID of entity
+     * @return optional String cursor token, empty if there is no next page
+     */
+    public static <T> Optional<String> next(List<T> items, int size, Function<T, Long> idGetter) {
+        if (items.isEmpty() || items.size() < size) {
+            return Optional.empty();
+        }
+        return Optional.of(encode(idGetter.apply(items.get(items.size() - 1))));
+    }
+
+    public boolean isFirst() {
+        return after == null;
+    }
+}
@@ -0,0 +1,48 @@
+package com.epam.esm.util;
+
+import com.epam.esm.exception.CustomValidationException;
+import lombok.experimental.UtilityClass;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * utility class converting entity versions to entity tags and back,
+ * tag of version 3 is "3", weak tags are compared the same way
+ *
+ * @author bakhridinova
+ */
+
+@UtilityClass
+public class EntityTag {
+    private final Pattern VERSION_TAG = Pattern.compile("^(W/)?\"(\\d{1,18})\"$");
+
+    /**
+     * formats version as strong entity tag
+     *
+     * @param version of entity
+     * @return quoted entity tag
+     */
+    public String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * parses version out of If-Match header value
+     *
+     * @param ifMatch header value, may be null
+     * @return version, null if header is absent or matches any version
+     * @throws CustomValidationException if header value is not tag of version
+     */
+    public Long parse(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+
+        Matcher matcher = VERSION_TAG.matcher(ifMatch.trim());
+        if (!matcher.matches()) {
+            throw new CustomValidationException("if-match header must hold single entity tag of certificate");
+        }
+        return Long.valueOf(matcher.group(2));
+    }
+}
@@ -0,0 +1,29 @@
+package com.epam.esm.util;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * enum representing formats entities can be exported and imported in
+ *
+ * @author bakhridinova
+ */
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    NDJSON("application/x-ndjson"),
+    CSV("text/csv");
+
+    private final String mediaType;
+
+    /**
+     * resolves export format by its case-insensitive name
+     *
+     * @param format name of format
+     * @return ExportFormat
+     */
+    public static ExportFormat of(String format) {
+        return valueOf(format.toUpperCase());
+    }
+}
@@ -3,6 +3,8 @@ package com.epam.esm.util;
 import com.epam.esm.entity.Tag;
 import lombok.Builder;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -10,6 +12,8 @@ import java.util.Set;
  *
  * @param name String text from name to use for search results
  * @param description String text from description to use for search results
+ * @param text String text to look up in both name and description
+ * @param searchMode String mode of looking up text, either substring or fulltext
  * @param sortType String type of sorting to use for search results
  * @param sortOrder String order of sorting to use for the search results
  * @param tags set of tags to filter search results by, can be empty
@@ -18,8 +22,12 @@ import java.util.Set;
  */
 @Builder
 public record SearchFilter(String name, String description,
+                           String text, String searchMode,
                            String sortType, String sortOrder,
                            Set<Tag> tags) {
+    public static final String SUBSTRING = "substring";
+    public static final String FULLTEXT = "fulltext";
+
     public String name() {
         return name == null ? "" : name;
     }
@@ -28,6 +36,14 @@ public record SearchFilter(String name, String description,
         return description == null ? "" : description;
     }
 
+    public String text() {
+        return text == null ? "" : text.strip();
+    }
+
+    public String searchMode() {
+        return searchMode == null ? SUBSTRING : searchMode;
+    }
+
     public String sortOrder() {
         return sortOrder == null ? "asc" : sortOrder;
     }
@@ -40,11 +56,38 @@ public record SearchFilter(String name, String description,
         return sortOrder().equals("desc");
     }
 
+    public boolean isFullText() {
+        return searchMode().equals(FULLTEXT) && !terms().isEmpty();
+    }
+
+    /**
+     * full-text results are ordered by relevance
+     * unless sort type was requested explicitly
+     *
+     * @return true if results should be ordered by rank
+     */
+    public boolean isRanked() {
+        return isFullText() && sortType == null;
+    }
+
+    /**
+     * splits text into words, dropping any character
+     * that is neither letter nor digit
+     *
+     * @return list of words to look up
+     */
+    public List<String> terms() {
+        return Arrays.stream(text().split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .map(String::toLowerCase)
+                .toList();
+    }
+
     public Set<Tag> tags() {
         return tags == null ? Set.of() : tags;
     }
 
     public SearchFilter updateTags(Set<Tag> tags) {
-        return new SearchFilter(name(), description(), sortType(), sortOrder(), tags);
+        return new SearchFilter(name(), description(), text(), searchMode(), sortType, sortOrder(), tags);
     }
 }
@@ -10,6 +10,7 @@ import com.epam.esm.util.FieldName;
 
 public enum CertificateField implements FieldName {
     ID,
+    IDS,
     NAME,
     DESCRIPTION,
     PRICE,
@@ -0,0 +1,18 @@
+package com.epam.esm.util.enums;
+
+import com.epam.esm.util.FieldName;
+
+/**
+ * enum representing export fields
+ *
+ * @author bakhridinova
+ */
+
+public enum ExportField implements FieldName {
+    FORMAT;
+
+    @Override
+    public String getName() {
+        return "export " + this.name().toLowerCase();
+    }
+}
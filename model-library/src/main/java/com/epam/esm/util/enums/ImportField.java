@@ -0,0 +1,20 @@
+package com.epam.esm.util.enums;
+
+import com.epam.esm.util.FieldName;
+
+/**
+ * enum representing import fields
+ *
+ * @author bakhridinova
+ */
+
+public enum ImportField implements FieldName {
+    FORMAT,
+    CHUNK_SIZE,
+    FIRST_RECORD;
+
+    @Override
+    public String getName() {
+        return "import " + this.name().toLowerCase().replace('_', ' ');
+    }
+}
@@ -10,7 +10,8 @@ import com.epam.esm.util.FieldName;
 
 public enum PaginationField implements FieldName {
     NUMBER,
-    SIZE;
+    SIZE,
+    CURSOR;
 
 
     @Override
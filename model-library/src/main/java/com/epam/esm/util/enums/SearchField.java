@@ -0,0 +1,19 @@
+package com.epam.esm.util.enums;
+
+import com.epam.esm.util.FieldName;
+
+/**
+ * enum representing search fields
+ *
+ * @author bakhridinova
+ */
+
+public enum SearchField implements FieldName {
+    MODE,
+    TEXT;
+
+    @Override
+    public String getName() {
+        return "search " + this.name().toLowerCase();
+    }
+}
@@ -10,6 +10,7 @@ import com.epam.esm.util.FieldName;
 
 public enum TagField implements FieldName {
     ID,
+    IDS,
     NAME;
 
     @Override
@@ -0,0 +1,39 @@
+package com.epam.esm.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * flight recorder event for lookup in second-level or query cache
+ *
+ * @author bakhridinova
+ */
+
+@Setter
+@StackTrace(false)
+@Name(CacheAccessEvent.NAME)
+@Label("Cache Access")
+@Category({ "Gift Certificates", "Cache" })
+@Description("hit or miss of second-level or query cache lookup")
+public class CacheAccessEvent extends Event {
+    public static final String NAME = "com.epam.esm.CacheAccess";
+
+    @Label("Region")
+    private String region;
+
+    @Label("Kind")
+    @Description("entity, collection or query")
+    private String kind;
+
+    @Label("Role")
+    @Description("entity name, collection role or query string")
+    private String role;
+
+    @Label("Hit")
+    private boolean hit;
+}
@@ -0,0 +1,29 @@
+package com.epam.esm.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * flight recorder event for execution of facade method,
+ * which covers validation, services and hypermedia of request
+ *
+ * @author bakhridinova
+ */
+
+@Setter
+@StackTrace(false)
+@Name(FacadeCallEvent.NAME)
+@Label("Facade Call")
+@Category({ "Gift Certificates", "Facade" })
+@Description("execution of facade method")
+public class FacadeCallEvent extends Event {
+    public static final String NAME = "com.epam.esm.FacadeCall";
+
+    @Label("Method")
+    private String method;
+}
@@ -0,0 +1,31 @@
+package com.epam.esm.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * flight recorder event for adding hateoas links to entities
+ *
+ * @author bakhridinova
+ */
+
+@Setter
+@StackTrace(false)
+@Name(HypermediaEvent.NAME)
+@Label("Hypermedia")
+@Category({ "Gift Certificates", "Hypermedia" })
+@Description("adding hateoas links to entity or list of entities")
+public class HypermediaEvent extends Event {
+    public static final String NAME = "com.epam.esm.Hypermedia";
+
+    @Label("Adder")
+    private String adder;
+
+    @Label("Entities")
+    private long entities;
+}
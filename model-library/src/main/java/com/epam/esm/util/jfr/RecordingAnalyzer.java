@@ -0,0 +1,143 @@
+package com.epam.esm.util.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * command line tool summarizing events of application
+ * in flight recording into top N operations by total time
+ * and hit ratio of every cache region
+ * <p>
+ * usage: RecordingAnalyzer recording.jfr [N]
+ *
+ * @author bakhridinova
+ */
+
+public class RecordingAnalyzer {
+    private static final String EVENT_PREFIX = "com.epam.esm.";
+    private static final int DEFAULT_TOP = 20;
+
+    private final Map<String, Operation> operations = new HashMap<>();
+    // hits and misses by region
+    @Getter
+    private final Map<String, long[]> cacheRegions = new TreeMap<>();
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("usage: RecordingAnalyzer recording.jfr [top]");
+            System.exit(1);
+        }
+
+        RecordingAnalyzer analyzer = new RecordingAnalyzer();
+        analyzer.read(Path.of(args[0]));
+        analyzer.print(System.out, args.length == 2 ? Integer.parseInt(args[1]) : DEFAULT_TOP);
+    }
+
+    /**
+     * adds events of application found in recording
+     *
+     * @param recording path to .jfr file
+     * @throws IOException if recording cannot be read
+     */
+    public void read(Path recording) throws IOException {
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                if (event.getEventType().getName().startsWith(EVENT_PREFIX)) {
+                    add(event);
+                }
+            }
+        }
+    }
+
+    /**
+     * retrieves operations with largest total duration
+     *
+     * @param top maximal number of operations
+     * @return operations ordered by total duration, descending
+     */
+    public List<Operation> findSlowest(int top) {
+        return operations.values().stream()
+                .sorted(Comparator.comparing(Operation::getTotal).reversed())
+                .limit(top)
+                .toList();
+    }
+
+    public void print(PrintStream out, int top) {
+        out.printf(Locale.ROOT, "%-12s %-60s %8s %12s %10s %10s %10s%n",
+                "type", "operation", "count", "total ms", "avg ms", "max ms", "rows");
+        findSlowest(top).forEach(operation -> out.printf(Locale.ROOT,
+                "%-12s %-60s %8d %12.3f %10.3f %10.3f %10d%n", operation.type, operation.name, operation.count,
+                millis(operation.total), millis(operation.total.dividedBy(operation.count)),
+                millis(operation.max), operation.rows));
+
+        if (!cacheRegions.isEmpty()) {
+            out.println();
+            out.printf(Locale.ROOT, "%-60s %10s %10s %8s%n", "cache region", "hits", "misses", "hit %");
+            cacheRegions.forEach((region, counts) -> out.printf(Locale.ROOT, "%-60s %10d %10d %8.1f%n", region,
+                    counts[0], counts[1], 100.0 * counts[0] / Math.max(1, counts[0] + counts[1])));
+        }
+    }
+
+    private void add(RecordedEvent event) {
+        String eventName = event.getEventType().getName();
+        switch (eventName) {
+            case RepositoryCallEvent.NAME -> operation("repository", event.getString("method"))
+                    .add(event.getDuration(), event.getLong("rows"));
+            case FacadeCallEvent.NAME -> operation("facade", event.getString("method"))
+                    .add(event.getDuration(), 0);
+            case HypermediaEvent.NAME -> operation("hypermedia", event.getString("adder"))
+                    .add(event.getDuration(), event.getLong("entities"));
+            case CacheAccessEvent.NAME -> cacheRegions.computeIfAbsent(
+                    event.getString("region"), region -> new long[2])[event.getBoolean("hit") ? 0 : 1]++;
+            default -> {
+                // events of future versions are skipped
+            }
+        }
+    }
+
+    private Operation operation(String type, String name) {
+        return operations.computeIfAbsent(type + " " + name, key -> new Operation(type, name));
+    }
+
+    private static double millis(Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+
+    /**
+     * aggregated durations of single operation
+     */
+    @Getter
+    public static class Operation {
+        private final String type;
+        private final String name;
+        private long count;
+        private long rows;
+        private Duration total = Duration.ZERO;
+        private Duration max = Duration.ZERO;
+
+        Operation(String type, String name) {
+            this.type = type;
+            this.name = name;
+        }
+
+        void add(Duration duration, long rows) {
+            this.count++;
+            this.rows += rows;
+            this.total = total.plus(duration);
+            this.max = duration.compareTo(max) > 0 ? duration : max;
+        }
+    }
+}
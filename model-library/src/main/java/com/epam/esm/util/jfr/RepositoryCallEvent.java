@@ -0,0 +1,34 @@
+package com.epam.esm.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * flight recorder event for execution of repository method
+ *
+ * @author bakhridinova
+ */
+
+@Setter
+@StackTrace(false)
+@Name(RepositoryCallEvent.NAME)
+@Label("Repository Call")
+@Category({ "Gift Certificates", "Repository" })
+@Description("execution of repository method with number of rows it returned, counted or deleted")
+public class RepositoryCallEvent extends Event {
+    public static final String NAME = "com.epam.esm.RepositoryCall";
+
+    @Label("Method")
+    private String method;
+
+    @Label("Rows")
+    private long rows;
+
+    @Label("Statements")
+    private long statements;
+}
@@ -30,6 +30,36 @@ public class CustomCertificateValidator {
         validateTags(certificate.getTags());
     }
 
+    /**
+     * validates partial certificate to ensure that it holds at least
+     * one field to update and that every present field is valid
+     *
+     * @param certificate holding fields to update
+     * @throws CustomValidationException if patch is empty or any of present fields is not valid
+     */
+    public void validatePatch(CertificateDto certificate) {
+        if (certificate.getName() == null && certificate.getDescription() == null
+                && certificate.getPrice() == null && certificate.getDuration() == null
+                && certificate.getTags() == null) {
+            throw new CustomValidationException("certificate should include at least one field to update");
+        }
+        if (certificate.getName() != null) {
+            validateName(certificate.getName());
+        }
+        if (certificate.getDescription() != null) {
+            validateDescription(certificate.getDescription());
+        }
+        if (certificate.getPrice() != null) {
+            validatePrice(certificate.getPrice());
+        }
+        if (certificate.getDuration() != null) {
+            validateDuration(certificate.getDuration());
+        }
+        if (certificate.getTags() != null) {
+            validateTags(certificate.getTags());
+        }
+    }
+
     /**
      * validates certificate name to ensure that it's not null, empty or blank,
      * includes required number of characters and does not include special characters
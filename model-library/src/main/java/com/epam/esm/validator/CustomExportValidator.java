@@ -0,0 +1,30 @@
+package com.epam.esm.validator;
+
+import com.epam.esm.exception.CustomValidationException;
+import com.epam.esm.util.enums.ExportField;
+import lombok.experimental.UtilityClass;
+
+/**
+ * utility class validating export details
+ *
+ * @author bakhridinova
+ */
+
+@UtilityClass
+public class CustomExportValidator {
+    private final String NDJSON_OR_CSV = "(?i)(ndjson|csv)";
+
+    /**
+     * validates export format to ensure that it is equal to any of required values
+     *
+     * @param format name of format to validate
+     * @throws CustomValidationException if format is not valid
+     */
+    public void validate(String format) {
+        CustomValidator.notBlank(ExportField.FORMAT, format);
+
+        if (!format.matches(NDJSON_OR_CSV)) {
+            throw new CustomValidationException(ExportField.FORMAT.getName() + " must be either ndjson or csv");
+        }
+    }
+}
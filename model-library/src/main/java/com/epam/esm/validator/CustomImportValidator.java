@@ -0,0 +1,44 @@
+package com.epam.esm.validator;
+
+import com.epam.esm.exception.CustomValidationException;
+import com.epam.esm.util.enums.ImportField;
+import lombok.experimental.UtilityClass;
+
+/**
+ * utility class validating import details
+ *
+ * @author bakhridinova
+ */
+
+@UtilityClass
+public class CustomImportValidator {
+    public final int MAX_CHUNK_SIZE = 1000;
+    private final String NDJSON_OR_CSV = "(?i)(ndjson|csv)";
+
+    /**
+     * validates import parameters to ensure that format is equal to any of
+     * required values, chunk size is between bounds and first record is positive
+     *
+     * @param format name of format to validate
+     * @param chunkSize number of records committed together
+     * @param firstRecord number of record to start import from
+     * @throws CustomValidationException if any of import parameters are not valid
+     */
+    public void validate(String format, int chunkSize, long firstRecord) {
+        validateFormat(format);
+        validateChunkSize(chunkSize);
+        CustomValidator.validateId(ImportField.FIRST_RECORD, firstRecord);
+    }
+
+    void validateFormat(String format) {
+        CustomValidator.notBlank(ImportField.FORMAT, format);
+
+        if (!format.matches(NDJSON_OR_CSV)) {
+            throw new CustomValidationException(ImportField.FORMAT.getName() + " must be either ndjson or csv");
+        }
+    }
+
+    void validateChunkSize(int chunkSize) {
+        CustomValidator.notTooLowOrHigh(ImportField.CHUNK_SIZE, (double) chunkSize, 1, MAX_CHUNK_SIZE);
+    }
+}
@@ -0,0 +1,55 @@
+package com.epam.esm.validator;
+
+import com.epam.esm.dto.OrderDto;
+import com.epam.esm.exception.CustomValidationException;
+import com.epam.esm.util.enums.CertificateField;
+import com.epam.esm.util.enums.UserField;
+import lombok.experimental.UtilityClass;
+
+import java.util.List;
+
+/**
+ * utility class validating orders
+ *
+ * @author bakhridinova
+ */
+
+@UtilityClass
+public class CustomOrderValidator {
+    public final int MAX_BATCH_SIZE = 500;
+
+    /**
+     * validates order to ensure that IDs of user and certificate are valid
+     *
+     * @param order to validate
+     * @throws CustomValidationException if any of order parameters are not valid
+     */
+    public void validate(OrderDto order) {
+        CustomValidator.validateId(UserField.ID, order.getUserId());
+        CustomValidator.validateId(CertificateField.ID, order.getCertificateId());
+    }
+
+    /**
+     * validates batch of orders to ensure that it is not empty,
+     * is not too big and every order of batch is valid
+     *
+     * @param orders List of orders to validate
+     * @throws CustomValidationException if batch or any of its orders is not valid
+     */
+    public void validateBatch(List<OrderDto> orders) {
+        if (orders == null || orders.isEmpty() || orders.size() > MAX_BATCH_SIZE) {
+            throw new CustomValidationException("batch must contain between 1 and " + MAX_BATCH_SIZE + " orders");
+        }
+
+        for (int i = 0; i < orders.size(); i++) {
+            if (orders.get(i) == null) {
+                throw new CustomValidationException("order " + i + " of batch should not be null");
+            }
+            try {
+                validate(orders.get(i));
+            } catch (CustomValidationException e) {
+                throw new CustomValidationException("order " + i + " of batch: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.epam.esm.validator;
 
 import com.epam.esm.exception.CustomValidationException;
+import com.epam.esm.util.Cursor;
 import com.epam.esm.util.enums.PaginationField;
 import lombok.experimental.UtilityClass;
 
@@ -25,6 +26,22 @@ public class CustomPaginationValidator {
         validateSize(size);
     }
 
+    /**
+     * validates keyset pagination parameters to ensure that
+     * cursor token is well-formed and page size is between upper and lower bounds
+     *
+     * @param after String cursor token to validate, can be blank for first page
+     * @param size int page size to validate
+     * @throws CustomValidationException if any of pagination parameters are not valid
+     */
+    public void validate(String after, int size) {
+        validateSize(size);
+        Cursor cursor = Cursor.decode(after, size);
+        if (!cursor.isFirst()) {
+            CustomValidator.validateId(PaginationField.CURSOR, cursor.after());
+        }
+    }
+
     void validatePage(int page) {
         CustomValidator.notNegative(PaginationField.NUMBER, (double) page);
         CustomValidator.notTooLowOrHigh(PaginationField.NUMBER, (double) page, 0, 10000);
@@ -0,0 +1,58 @@
+package com.epam.esm.validator;
+
+import com.epam.esm.exception.CustomValidationException;
+import com.epam.esm.util.SearchFilter;
+import com.epam.esm.util.enums.SearchField;
+import lombok.experimental.UtilityClass;
+
+/**
+ * utility class validating search details
+ *
+ * @author bakhridinova
+ */
+
+@UtilityClass
+public class CustomSearchValidator {
+    private final String SUBSTRING_OR_FULLTEXT = "(substring|fulltext)";
+    private final int MAX_TEXT_LENGTH = 255;
+
+    /**
+     * validates search parameters to ensure that search mode is
+     * equal to any of required values and text is not too long
+     *
+     * @param searchFilter holding search parameters to validate
+     * @throws CustomValidationException if any of search parameters are not valid
+     */
+    public void validate(SearchFilter searchFilter) {
+        validateMode(searchFilter.searchMode());
+        validateText(searchFilter.text());
+    }
+
+    /**
+     * validates search parameters to ensure that at least one criterion
+     * is present, so that filter never matches all certificates implicitly
+     *
+     * @param searchFilter holding search parameters to validate
+     * @throws CustomValidationException if no criterion is present
+     */
+    public void validateNotEmpty(SearchFilter searchFilter) {
+        if (searchFilter.name().isEmpty() && searchFilter.description().isEmpty()
+                && searchFilter.text().isEmpty() && searchFilter.tags().isEmpty()) {
+            throw new CustomValidationException("search filter must include name, description, text or tags");
+        }
+    }
+
+    void validateMode(String mode) {
+        CustomValidator.notBlank(SearchField.MODE, mode);
+
+        if (!mode.matches(SUBSTRING_OR_FULLTEXT)) {
+            throw new CustomValidationException(SearchField.MODE.getName() + " must be either substring or fulltext");
+        }
+    }
+
+    void validateText(String text) {
+        if (text.length() > MAX_TEXT_LENGTH) {
+            throw new CustomValidationException(SearchField.TEXT.getName() + " must be at most " + MAX_TEXT_LENGTH + " characters long");
+        }
+    }
+}
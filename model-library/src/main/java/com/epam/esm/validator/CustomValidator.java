@@ -4,6 +4,8 @@ import com.epam.esm.exception.CustomValidationException;
 import com.epam.esm.util.FieldName;
 import lombok.experimental.UtilityClass;
 
+import java.util.Set;
+
 /**
  * utility class validating user input details
  *
@@ -13,6 +15,7 @@ import lombok.experimental.UtilityClass;
 @UtilityClass
 public class CustomValidator {
     private final String ONLY_LETTERS_AND_SPACES = "^[a-zA-Z ]*$";
+    private final int MAX_IDS = 1000;
 
     /**
      * validates ID parameter to ensure that it is not null and is positive
@@ -29,6 +32,24 @@ public class CustomValidator {
         }
     }
 
+    /**
+     * validates set of IDs to ensure that it is neither empty nor too large
+     * and that every ID is positive
+     *
+     * @param fieldName field to validate
+     * @param ids set of IDs to validate
+     * @param fieldOfId field to report invalid ID as
+     * @throws CustomValidationException if set of IDs or any of IDs is not valid
+     */
+    public void validateIds(FieldName fieldName, Set<Long> ids, FieldName fieldOfId) {
+        CustomValidator.notNull(fieldName, ids);
+
+        if (ids.isEmpty() || ids.size() > MAX_IDS) {
+            throw new CustomValidationException(fieldName.getName() + " must include between 1 and " + MAX_IDS + " values");
+        }
+        ids.forEach(id -> validateId(fieldOfId, id));
+    }
+
     void notNull(FieldName fieldName, Object value) {
         if (value == null) {
             throw new CustomValidationException(fieldName.getName() + " should not be null");
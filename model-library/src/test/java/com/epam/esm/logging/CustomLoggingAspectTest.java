@@ -0,0 +1,135 @@
+package com.epam.esm.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CustomLoggingAspectTest {
+    private final Logger logger = (Logger) LoggerFactory.getLogger(
+            CustomLoggingAspect.LOGGER_PREFIX + SampleService.class.getName());
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void attachAppender() {
+        appender.start();
+        logger.addAppender(appender);
+        logger.setLevel(Level.DEBUG);
+    }
+
+    @AfterEach
+    void detachAppender() {
+        logger.detachAppender(appender);
+        logger.setLevel(null);
+    }
+
+    @Test
+    void parseSampleRatesShouldReadPackageRatePairs() {
+        assertEquals(Map.of("com.epam.esm.repository", 0.1, "com.epam.esm.service", 1.0),
+                CustomLoggingAspect.parseSampleRates(
+                        List.of("com.epam.esm.repository=0.1", " com.epam.esm.service = 1 ", "")));
+    }
+
+    @Test
+    void parseSampleRatesShouldRejectMalformedPairs() {
+        assertThrows(IllegalArgumentException.class,
+                () -> CustomLoggingAspect.parseSampleRates(List.of("com.epam.esm.repository")));
+        assertThrows(IllegalArgumentException.class,
+                () -> CustomLoggingAspect.parseSampleRates(List.of("=0.5")));
+        assertThrows(IllegalArgumentException.class,
+                () -> CustomLoggingAspect.parseSampleRates(List.of("com.epam.esm.repository=often")));
+    }
+
+    @Test
+    void parseSampleRatesShouldRejectRatesOutOfBounds() {
+        assertThrows(IllegalArgumentException.class,
+                () -> CustomLoggingAspect.parseSampleRates(List.of("com.epam.esm=1.5")));
+        assertThrows(IllegalArgumentException.class,
+                () -> CustomLoggingAspect.parseSampleRates(List.of("com.epam.esm=-0.1")));
+        assertThrows(IllegalArgumentException.class,
+                () -> CustomLoggingAspect.parseSampleRates(List.of("com.epam.esm=NaN")));
+    }
+
+    @Test
+    void sampleRateOfShouldPickMostSpecificPackage() {
+        CustomLoggingAspect aspect = aspect("com.epam.esm=0.5", "com.epam.esm.repository=0.1");
+
+        assertEquals(0.1, aspect.sampleRateOf("com.epam.esm.repository.impl.TagRepositoryImpl"));
+        assertEquals(0.5, aspect.sampleRateOf("com.epam.esm.service.impl.TagServiceImpl"));
+        assertEquals(0.5, aspect.sampleRateOf("com.epam.esm.repositoryextra.Other"));
+        assertEquals(1.0, aspect.sampleRateOf("org.example.Other"));
+    }
+
+    @Test
+    void traceShouldLogCallWithSummarizedArgumentsAndResult() {
+        proxy(aspect()).find(1L, "abcdefghijklmnopqrstuvwxyz");
+
+        assertEquals(1, appender.list.size());
+        ILoggingEvent event = appender.list.get(0);
+        assertEquals(Level.DEBUG, event.getLevel());
+        assertTrue(event.getFormattedMessage().startsWith(
+                "find(1, \"abcdefghij...(26 chars)\") returned size=3 [1, 2, ...] in "), event.getFormattedMessage());
+    }
+
+    @Test
+    void traceShouldSkipCallsThatWereNotSampled() {
+        proxy(aspect(SampleService.class.getPackageName() + "=0")).find(1L, "text");
+
+        assertTrue(appender.list.isEmpty());
+    }
+
+    @Test
+    void traceShouldSkipCallsIfDebugIsDisabled() {
+        logger.setLevel(Level.INFO);
+        proxy(aspect()).find(1L, "text");
+
+        assertTrue(appender.list.isEmpty());
+    }
+
+    @Test
+    void traceShouldLogFailureAndRethrowIt() {
+        logger.setLevel(Level.INFO);
+        SampleService service = proxy(aspect());
+
+        assertThrows(IllegalStateException.class, () -> service.fail(2L));
+        assertEquals(1, appender.list.size());
+        assertEquals(Level.ERROR, appender.list.get(0).getLevel());
+        assertEquals("fail(2) threw java.lang.IllegalStateException: broken",
+                appender.list.get(0).getFormattedMessage());
+    }
+
+    private CustomLoggingAspect aspect(String... sampleRates) {
+        return new CustomLoggingAspect(List.of(sampleRates), 10, 2);
+    }
+
+    private SampleService proxy(CustomLoggingAspect aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new SampleService());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    @Service
+    public static class SampleService {
+        public List<Integer> find(Long id, String text) {
+            return List.of(1, 2, 3);
+        }
+
+        public void fail(Long id) {
+            throw new IllegalStateException("broken");
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.epam.esm.logging;
+
+import com.epam.esm.entity.Certificate;
+import com.epam.esm.entity.Tag;
+import org.hibernate.collection.spi.PersistentSet;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+class TraceSummarizerTest {
+    private final TraceSummarizer summarizer = new TraceSummarizer(10, 2);
+
+    @Test
+    void summarizeArgumentsShouldRenderThemInParentheses() {
+        assertEquals("(1, null, true)", summarizer.summarizeArguments(new Object[] { 1, null, true }));
+        assertEquals("()", summarizer.summarizeArguments(new Object[0]));
+    }
+
+    @Test
+    void summarizeShouldKeepShortStrings() {
+        assertEquals("\"short\"", summarizer.summarize("short"));
+        assertEquals("\"exactly10!\"", summarizer.summarize("exactly10!"));
+    }
+
+    @Test
+    void summarizeShouldCutLongStrings() {
+        assertEquals("\"abcdefghij...(26 chars)\"", summarizer.summarize("abcdefghijklmnopqrstuvwxyz"));
+    }
+
+    @Test
+    void summarizeShouldRenderOnlyFirstElementsOfCollections() {
+        assertEquals("size=5 [1, 2, ...]", summarizer.summarize(List.of(1, 2, 3, 4, 5)));
+        assertEquals("size=2 [1, 2]", summarizer.summarize(List.of(1, 2)));
+        assertEquals("size=0 []", summarizer.summarize(List.of()));
+    }
+
+    @Test
+    void summarizeShouldRenderOnlyFirstEntriesOfMaps() {
+        Map<String, Integer> map = new LinkedHashMap<>();
+        map.put("one", 1);
+        map.put("two", 2);
+        map.put("three", 3);
+        assertEquals("size=3 [\"one\"=1, \"two\"=2, ...]", summarizer.summarize(map));
+    }
+
+    @Test
+    void summarizeShouldRenderOnlyFirstElementsOfArrays() {
+        assertEquals("size=3 [\"a\", \"b\", ...]", summarizer.summarize(new String[] { "a", "b", "c" }));
+        assertEquals("int[4]", summarizer.summarize(new int[4]));
+    }
+
+    @Test
+    void summarizeShouldCutElementsOfCollections() {
+        assertEquals("size=1 [\"abcdefghij...(11 chars)\"]", summarizer.summarize(List.of("abcdefghijk")));
+    }
+
+    @Test
+    void summarizeShouldReduceEntityToTypeAndId() {
+        assertEquals("Tag#3", summarizer.summarize(Tag.builder().id(3L).name("name").build()));
+    }
+
+    @Test
+    void summarizeShouldNotInitializeProxy() {
+        LazyInitializer initializer = mock(LazyInitializer.class);
+        doReturn(Certificate.class).when(initializer).getPersistentClass();
+        Certificate proxy = mock(Certificate.class, withSettings().extraInterfaces(HibernateProxy.class));
+        when(((HibernateProxy) proxy).getHibernateLazyInitializer()).thenReturn(initializer);
+        when(proxy.getId()).thenReturn(7L);
+
+        assertEquals("Certificate#7", summarizer.summarize(proxy));
+        verify(initializer, never()).initialize();
+        verify(initializer, never()).getImplementation();
+    }
+
+    @Test
+    void summarizeShouldNotInitializeLazyCollection() {
+        assertEquals("PersistentSet[uninitialized]", summarizer.summarize(new PersistentSet<>()));
+    }
+}
@@ -0,0 +1,105 @@
+package com.epam.esm.util.jfr;
+
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RecordingAnalyzerTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void readShouldAggregateOperationsAndCacheRegions() throws Exception {
+        Path file = record();
+        RecordingAnalyzer analyzer = new RecordingAnalyzer();
+        analyzer.read(file);
+
+        List<RecordingAnalyzer.Operation> slowest = analyzer.findSlowest(2);
+        assertEquals(2, slowest.size());
+        assertEquals("CertificateFacadeImpl.findByFilter", slowest.get(0).getName());
+        assertEquals("facade", slowest.get(0).getType());
+        assertEquals("CertificateRepositoryImpl.findAllByFilter", slowest.get(1).getName());
+        assertEquals(2, slowest.get(1).getCount());
+        assertEquals(10, slowest.get(1).getRows());
+        assertTrue(slowest.get(1).getMax().toMillis() >= 20);
+
+        assertArrayEquals(new long[] { 2, 1 }, analyzer.getCacheRegions().get("tags"));
+    }
+
+    @Test
+    void printShouldListOperationsAndCacheHitRatio() throws Exception {
+        RecordingAnalyzer analyzer = new RecordingAnalyzer();
+        analyzer.read(record());
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        analyzer.print(new PrintStream(output, true, StandardCharsets.UTF_8), 10);
+        String report = output.toString(StandardCharsets.UTF_8);
+
+        assertTrue(report.contains("CertificateHateoasAdder"), report);
+        assertTrue(report.contains("66.7"), report);
+    }
+
+    private Path record() throws IOException, InterruptedException {
+        Path file = directory.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(RepositoryCallEvent.NAME);
+            recording.enable(FacadeCallEvent.NAME);
+            recording.enable(HypermediaEvent.NAME);
+            recording.enable(CacheAccessEvent.NAME);
+            recording.start();
+
+            FacadeCallEvent facadeCall = new FacadeCallEvent();
+            facadeCall.begin();
+            repositoryCall(20, 4);
+            repositoryCall(5, 6);
+            HypermediaEvent hypermedia = new HypermediaEvent();
+            hypermedia.begin();
+            hypermedia.end();
+            hypermedia.setAdder("CertificateHateoasAdder");
+            hypermedia.setEntities(10);
+            hypermedia.commit();
+            facadeCall.end();
+            facadeCall.setMethod("CertificateFacadeImpl.findByFilter");
+            facadeCall.commit();
+
+            cacheAccess(true);
+            cacheAccess(true);
+            cacheAccess(false);
+
+            recording.stop();
+            recording.dump(file);
+        }
+        return file;
+    }
+
+    private static void repositoryCall(long millis, long rows) throws InterruptedException {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        event.begin();
+        Thread.sleep(millis);
+        event.end();
+        event.setMethod("CertificateRepositoryImpl.findAllByFilter");
+        event.setRows(rows);
+        event.setStatements(1);
+        event.commit();
+    }
+
+    private static void cacheAccess(boolean hit) {
+        CacheAccessEvent event = new CacheAccessEvent();
+        event.setRegion("tags");
+        event.setKind("entity");
+        event.setRole("com.epam.esm.entity.Tag");
+        event.setHit(hit);
+        event.commit();
+    }
+}
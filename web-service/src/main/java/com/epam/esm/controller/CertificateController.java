@@ -1,21 +1,33 @@
 package com.epam.esm.controller;
 
 import com.epam.esm.dto.CertificateDto;
+import com.epam.esm.dto.ImportReportDto;
 import com.epam.esm.exception.CustomMessageHolder;
 import com.epam.esm.facade.CertificateFacade;
+import com.epam.esm.util.Cursor;
+import com.epam.esm.util.EntityTag;
+import com.epam.esm.util.ExportFormat;
 import com.epam.esm.util.SearchFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequiredArgsConstructor
@@ -36,15 +48,50 @@ public class CertificateController {
         return certificateFacade.findAllByPage(page, size);
     }
 
+    /**
+     * GET endpoint to retrieve list of certificates using keyset pagination,
+     * cursor of next page is returned in {@value Cursor#NEXT_CURSOR_HEADER} header
+     *
+     * @param after opaque cursor of previous page (blank for first page)
+     * @param size number of items per page (default is 5)
+     * @return List of certificates
+     */
+    @GetMapping(params = "after")
+    public ResponseEntity<List<CertificateDto>> getAllByCursor(@RequestParam(defaultValue = "") String after,
+                                                               @RequestParam(defaultValue = "5") int size) {
+        List<CertificateDto> certificates = certificateFacade.findAllByCursor(after, size);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        Cursor.next(certificates, size, CertificateDto::getId)
+                .ifPresent(next -> response.header(Cursor.NEXT_CURSOR_HEADER, next));
+        return response.body(certificates);
+    }
+
+    /**
+     * GET endpoint to export all certificates ordered by ID as NDJSON or CSV,
+     * rows are streamed from server-side cursor while response is written
+     *
+     * @param format of export, either ndjson or csv (default is ndjson)
+     * @return certificates written to response body one by one
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportAll(@RequestParam(defaultValue = "ndjson") String format) {
+        StreamingResponseBody body = certificateFacade.exportAll(format);
+        ExportFormat exportFormat = ExportFormat.of(format);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=certificates." + exportFormat.name().toLowerCase())
+                .body(body);
+    }
+
     /**
      * GET endpoint to retrieve specific certificate by its ID
      *
      * @param id long ID of required certificate
-     * @return specified certificate
+     * @return specified certificate with its version as ETag
      */
     @GetMapping("/{id}")
-    public CertificateDto getById(@PathVariable long id) {
-        return certificateFacade.findById(id);
+    public ResponseEntity<CertificateDto> getById(@PathVariable long id) {
+        return withEntityTag(certificateFacade.findById(id));
     }
 
     /**
@@ -74,16 +121,39 @@ public class CertificateController {
     }
 
     /**
-     * handles PATCH requests for updating name of specific certificate
+     * handles POST requests for importing certificates from request body
+     * in NDJSON or CSV format, every chunk is committed in its own transaction,
+     * import stops on first chunk that fails and can be resumed from it
+     *
+     * @param format of request body, either ndjson or csv (default is ndjson)
+     * @param chunkSize number of records committed together (default is 500)
+     * @param from number of first record to import, counting from 1 (default is 1)
+     * @param inputStream request body
+     * @return report of imported and rejected records by chunk
+     * @throws IOException if request body could not be read
+     */
+    @PostMapping("/import")
+    public ImportReportDto importAll(@RequestParam(defaultValue = "ndjson") String format,
+                                     @RequestParam(defaultValue = "500") int chunkSize,
+                                     @RequestParam(defaultValue = "1") long from,
+                                     InputStream inputStream) throws IOException {
+        return certificateFacade.importAll(format, inputStream, chunkSize, from);
+    }
+
+    /**
+     * handles PATCH requests for updating any subset of fields of specific certificate,
+     * if If-Match header is present update is applied only to that version of certificate
      *
      * @param id ID of certificate to update
-     * @param certificateDto with updated name
-     * @return updated certificate
+     * @param ifMatch ETag of certificate the changes are based on (optional)
+     * @param certificateDto with fields to update
+     * @return updated certificate with its new version as ETag
      */
     @PatchMapping("/{id}")
-    public CertificateDto updateNameById(@PathVariable long id,
-                                         @RequestBody CertificateDto certificateDto) {
-        return certificateFacade.updateNameById(id, certificateDto);
+    public ResponseEntity<CertificateDto> updateById(@PathVariable long id,
+                                                     @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                     @RequestBody CertificateDto certificateDto) {
+        return withEntityTag(certificateFacade.updateById(id, ifMatch, certificateDto));
     }
 
     /**
@@ -96,4 +166,35 @@ public class CertificateController {
     public CustomMessageHolder deleteById(@PathVariable long id) {
         return certificateFacade.deleteById(id);
     }
+
+    /**
+     * handles DELETE requests for deleting several certificates at once,
+     * nothing is deleted unless every certificate exists
+     *
+     * @param ids IDs of certificates to delete
+     * @return CustomMessageHolder object expressing how many certificates were deleted
+     */
+    @DeleteMapping
+    public CustomMessageHolder deleteAllByIds(@RequestParam Set<Long> ids) {
+        return certificateFacade.deleteAllByIds(ids);
+    }
+
+    /**
+     * handles DELETE requests for deleting all certificates matching search parameters
+     *
+     * @param searchFilter holding search parameters, at least one criterion is required
+     * @return CustomMessageHolder object expressing how many certificates were deleted
+     */
+    @DeleteMapping("/search")
+    public CustomMessageHolder deleteAllByFilter(@RequestBody SearchFilter searchFilter) {
+        return certificateFacade.deleteAllByFilter(searchFilter);
+    }
+
+    private ResponseEntity<CertificateDto> withEntityTag(CertificateDto certificate) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (certificate.getVersion() != null) {
+            response.eTag(EntityTag.of(certificate.getVersion()));
+        }
+        return response.body(certificate);
+    }
 }
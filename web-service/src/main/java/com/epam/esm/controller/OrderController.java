@@ -1,8 +1,14 @@
 package com.epam.esm.controller;
 
+import com.epam.esm.dto.OrderBatchItemDto;
 import com.epam.esm.dto.OrderDto;
 import com.epam.esm.facade.OrderFacade;
+import com.epam.esm.util.Cursor;
+import com.epam.esm.util.ExportFormat;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -10,6 +16,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -32,6 +39,41 @@ public class OrderController {
        return orderFacade.findAllByPage(page, size);
     }
 
+    /**
+     * GET endpoint to retrieve list of orders using keyset pagination,
+     * cursor of next page is returned in {@value Cursor#NEXT_CURSOR_HEADER} header
+     *
+     * @param after opaque cursor of previous page (blank for first page)
+     * @param size number of items per page (default is 5)
+     * @return List of orders
+     */
+    @GetMapping(params = "after")
+    public ResponseEntity<List<OrderDto>> getAllByCursor(@RequestParam(defaultValue = "") String after,
+                                                         @RequestParam(defaultValue = "5") int size) {
+        List<OrderDto> orders = orderFacade.findAllByCursor(after, size);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        Cursor.next(orders, size, OrderDto::getId)
+                .ifPresent(next -> response.header(Cursor.NEXT_CURSOR_HEADER, next));
+        return response.body(orders);
+    }
+
+    /**
+     * GET endpoint to export all orders ordered by ID as NDJSON or CSV,
+     * rows are streamed from server-side cursor while response is written
+     *
+     * @param format of export, either ndjson or csv (default is ndjson)
+     * @return orders written to response body one by one
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportAll(@RequestParam(defaultValue = "ndjson") String format) {
+        StreamingResponseBody body = orderFacade.exportAll(format);
+        ExportFormat exportFormat = ExportFormat.of(format);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=orders." + exportFormat.name().toLowerCase())
+                .body(body);
+    }
+
     /**
      * GET endpoint to retrieve specific order by its ID
      *
@@ -55,6 +97,18 @@ public class OrderController {
         return orderFacade.create(orderDto);
     }
 
+    /**
+     * handles POST requests for creating batch of orders in one transaction,
+     * orders referring to missing user or certificate are rejected one by one
+     *
+     * @param orderDtos List of orders to be created
+     * @return List of per-order results in request order
+     */
+    @PostMapping("/batch")
+    public List<OrderBatchItemDto> createAll(@RequestBody List<OrderDto> orderDtos) {
+        return orderFacade.createAll(orderDtos);
+    }
+
     /**
      * GET endpoint to search for retrieving orders associated with specific certificate or user
      *
@@ -3,7 +3,9 @@ package com.epam.esm.controller;
 import com.epam.esm.dto.TagDto;
 import com.epam.esm.exception.CustomMessageHolder;
 import com.epam.esm.facade.TagFacade;
+import com.epam.esm.util.Cursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -14,6 +16,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequiredArgsConstructor
@@ -34,6 +37,24 @@ public class TagController {
        return tagFacade.findAllByPage(page, size);
     }
 
+    /**
+     * GET endpoint to retrieve list of tags using keyset pagination,
+     * cursor of next page is returned in {@value Cursor#NEXT_CURSOR_HEADER} header
+     *
+     * @param after opaque cursor of previous page (blank for first page)
+     * @param size number of items per page (default is 5)
+     * @return List of tags
+     */
+    @GetMapping(params = "after")
+    public ResponseEntity<List<TagDto>> getAllByCursor(@RequestParam(defaultValue = "") String after,
+                                                       @RequestParam(defaultValue = "5") int size) {
+        List<TagDto> tags = tagFacade.findAllByCursor(after, size);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        Cursor.next(tags, size, TagDto::getId)
+                .ifPresent(next -> response.header(Cursor.NEXT_CURSOR_HEADER, next));
+        return response.body(tags);
+    }
+
     /**
      * GET endpoint to retrieve specific tag by its ID
      *
@@ -78,4 +99,16 @@ public class TagController {
     public CustomMessageHolder deleteById(@PathVariable long id) {
         return tagFacade.deleteById(id);
     }
+
+    /**
+     * handles DELETE requests for deleting several tags at once,
+     * nothing is deleted unless every tag exists
+     *
+     * @param ids IDs of tags to delete
+     * @return CustomMessageHolder object expressing how many tags were deleted
+     */
+    @DeleteMapping
+    public CustomMessageHolder deleteAllByIds(@RequestParam Set<Long> ids) {
+        return tagFacade.deleteAllByIds(ids);
+    }
 }
@@ -2,7 +2,9 @@ package com.epam.esm.controller;
 
 import com.epam.esm.dto.UserDto;
 import com.epam.esm.facade.UserFacade;
+import com.epam.esm.util.Cursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -30,6 +32,24 @@ public class UserController {
         return userFacade.findAllByPage(page, size);
     }
 
+    /**
+     * GET endpoint to retrieve list of users using keyset pagination,
+     * cursor of next page is returned in {@value Cursor#NEXT_CURSOR_HEADER} header
+     *
+     * @param after opaque cursor of previous page (blank for first page)
+     * @param size number of items per page (default is 5)
+     * @return List of users
+     */
+    @GetMapping(params = "after")
+    public ResponseEntity<List<UserDto>> getAllByCursor(@RequestParam(defaultValue = "") String after,
+                                                        @RequestParam(defaultValue = "5") int size) {
+        List<UserDto> users = userFacade.findAllByCursor(after, size);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        Cursor.next(users, size, UserDto::getId)
+                .ifPresent(next -> response.header(Cursor.NEXT_CURSOR_HEADER, next));
+        return response.body(users);
+    }
+
     /**
      * GET endpoint to retrieve specific user by its ID
      *
@@ -1,6 +1,7 @@
 package com.epam.esm.exception;
 
 import com.epam.esm.hateoas.HateoasAdder;
+import com.epam.esm.hateoas.HypermediaPolicy;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -28,6 +29,7 @@ import java.util.Objects;
 public class CustomExceptionHandler extends ResponseEntityExceptionHandler {
 
     private final HateoasAdder<CustomMessageHolder> messageHolderHateoasAdder;
+    private final HypermediaPolicy hypermediaPolicy;
 
     @Override
     protected ResponseEntity<Object> handleNoHandlerFoundException(
@@ -40,7 +42,7 @@ public class CustomExceptionHandler extends ResponseEntityExceptionHandler {
                 + ex.getHttpMethod() + " " + ex.getRequestURL();
         CustomMessageHolder messageHolder = new CustomMessageHolder(
                 HttpStatus.NOT_FOUND, errorMessage);
-        messageHolderHateoasAdder.addLinksToEntity(messageHolder);
+        hypermediaPolicy.addLinksToEntity(messageHolderHateoasAdder, messageHolder);
         return new ResponseEntity<>(messageHolder, headers, status);
     }
 
@@ -57,7 +59,7 @@ public class CustomExceptionHandler extends ResponseEntityExceptionHandler {
                 .forEach(method -> errorMessage.append(method).append(" "));
         CustomMessageHolder messageHolder = new CustomMessageHolder(
                 HttpStatus.METHOD_NOT_ALLOWED, errorMessage.toString());
-        messageHolderHateoasAdder.addLinksToEntity(messageHolder);
+        hypermediaPolicy.addLinksToEntity(messageHolderHateoasAdder, messageHolder);
         return new ResponseEntity<>(messageHolder, headers, status);
     }
 
@@ -69,14 +71,15 @@ public class CustomExceptionHandler extends ResponseEntityExceptionHandler {
                 + Objects.requireNonNull(ex.getRequiredType()).getName();
         CustomMessageHolder messageHolder =
                 new CustomMessageHolder(HttpStatus.BAD_REQUEST, errorMessage);
-        messageHolderHateoasAdder.addLinksToEntity(messageHolder);
+        hypermediaPolicy.addLinksToEntity(messageHolderHateoasAdder, messageHolder);
         return new ResponseEntity<>(messageHolder, messageHolder.getStatus());
     }
 
     @ExceptionHandler({
             CustomValidationException.class,
             CustomEntityNotFoundException.class,
-            CustomEntityAlreadyExistsException.class})
+            CustomEntityAlreadyExistsException.class,
+            CustomPreconditionFailedException.class})
     public ResponseEntity<CustomMessageHolder> handleCustomException(Exception ex) {
         HttpStatus status = HttpStatus.INTERNAL_SERVER_ERROR;
         String message = "something went wrong :(";
@@ -92,8 +95,13 @@ public class CustomExceptionHandler extends ResponseEntityExceptionHandler {
             message = ex.getMessage();
         }
 
+        if (ex instanceof CustomPreconditionFailedException) {
+            status = HttpStatus.PRECONDITION_FAILED;
+            message = ex.getMessage();
+        }
+
         CustomMessageHolder messageHolder = new CustomMessageHolder(status, message);
-        messageHolderHateoasAdder.addLinksToEntity(messageHolder);
+        hypermediaPolicy.addLinksToEntity(messageHolderHateoasAdder, messageHolder);
         return new ResponseEntity<>(messageHolder, messageHolder.getStatus());
     }
 }
\ No newline at end of file
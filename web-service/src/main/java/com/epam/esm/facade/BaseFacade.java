@@ -13,6 +13,7 @@ import java.util.List;
 
 public interface BaseFacade<T extends RepresentationModel<T>> {
     List<T> findAllByPage(int page, int size);
+    List<T> findAllByCursor(String after, int size);
     T findById(Long id);
 
     default T create(T t) {
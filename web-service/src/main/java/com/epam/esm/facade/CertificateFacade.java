@@ -1,18 +1,35 @@
 package com.epam.esm.facade;
 
 import com.epam.esm.dto.CertificateDto;
+import com.epam.esm.dto.ImportReportDto;
+import com.epam.esm.exception.CustomMessageHolder;
 import com.epam.esm.util.SearchFilter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Set;
 
 public interface CertificateFacade extends BaseFacade<CertificateDto> {
     @Override
     List<CertificateDto> findAllByPage(int page, int size);
 
+    @Override
+    List<CertificateDto> findAllByCursor(String after, int size);
+
     @Override
     CertificateDto findById(Long id);
 
     List<CertificateDto> findByFilter(SearchFilter filter, int page, int size);
 
-    CertificateDto updateNameById(Long id, CertificateDto certificateDto);
+    CertificateDto updateById(Long id, String ifMatch, CertificateDto certificateDto);
+
+    CustomMessageHolder deleteAllByIds(Set<Long> ids);
+
+    CustomMessageHolder deleteAllByFilter(SearchFilter filter);
+
+    StreamingResponseBody exportAll(String format);
+
+    ImportReportDto importAll(String format, InputStream inputStream, int chunkSize, long firstRecord) throws IOException;
 }
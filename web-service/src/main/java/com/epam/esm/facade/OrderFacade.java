@@ -1,6 +1,8 @@
 package com.epam.esm.facade;
 
+import com.epam.esm.dto.OrderBatchItemDto;
 import com.epam.esm.dto.OrderDto;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -8,8 +10,15 @@ public interface OrderFacade extends BaseFacade<OrderDto> {
     @Override
     List<OrderDto> findAllByPage(int page, int size);
 
+    @Override
+    List<OrderDto> findAllByCursor(String after, int size);
+
     @Override
     OrderDto findById(Long id);
 
     List<OrderDto> findByCertificateOrUserId(Long certificateId, Long userId, int page, int size);
+
+    List<OrderBatchItemDto> createAll(List<OrderDto> orderDtos);
+
+    StreamingResponseBody exportAll(String format);
 }
@@ -1,15 +1,22 @@
 package com.epam.esm.facade;
 
 import com.epam.esm.dto.TagDto;
+import com.epam.esm.exception.CustomMessageHolder;
 
 import java.util.List;
+import java.util.Set;
 
 public interface TagFacade extends BaseFacade<TagDto> {
     @Override
     List<TagDto> findAllByPage(int page, int size);
 
+    @Override
+    List<TagDto> findAllByCursor(String after, int size);
+
     @Override
     TagDto findById(Long id);
 
     TagDto findSpecial();
+
+    CustomMessageHolder deleteAllByIds(Set<Long> ids);
 }
@@ -8,6 +8,9 @@ public interface UserFacade extends BaseFacade<UserDto> {
     @Override
     List<UserDto> findAllByPage(int page, int size);
 
+    @Override
+    List<UserDto> findAllByCursor(String after, int size);
+
     @Override
     UserDto findById(Long id);
 }
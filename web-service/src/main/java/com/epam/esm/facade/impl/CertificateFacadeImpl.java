@@ -1,35 +1,58 @@
 package com.epam.esm.facade.impl;
 
 import com.epam.esm.dto.CertificateDto;
+import com.epam.esm.dto.ImportReportDto;
 import com.epam.esm.exception.CustomMessageHolder;
 import com.epam.esm.facade.CertificateFacade;
 import com.epam.esm.hateoas.HateoasAdder;
+import com.epam.esm.hateoas.HypermediaPolicy;
+import com.epam.esm.service.CertificateImportService;
 import com.epam.esm.service.CertificateService;
+import com.epam.esm.util.EntityTag;
+import com.epam.esm.util.ExportFormat;
 import com.epam.esm.util.SearchFilter;
 import com.epam.esm.util.enums.CertificateField;
 import com.epam.esm.validator.CustomCertificateValidator;
+import com.epam.esm.validator.CustomExportValidator;
+import com.epam.esm.validator.CustomImportValidator;
 import com.epam.esm.validator.CustomPaginationValidator;
+import com.epam.esm.validator.CustomSearchValidator;
 import com.epam.esm.validator.CustomSortValidator;
 import com.epam.esm.validator.CustomValidator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
 public class CertificateFacadeImpl implements CertificateFacade {
     private final CertificateService certificateService;
+    private final CertificateImportService certificateImportService;
     private final HateoasAdder<CertificateDto> certificateHateoasAdder;
     private final HateoasAdder<CustomMessageHolder> messageHolderHateoasAdder;
+    private final HypermediaPolicy hypermediaPolicy;
 
     @Override
     public List<CertificateDto> findAllByPage(int page, int size) {
         CustomPaginationValidator.validate(page, size);
 
         List<CertificateDto> certificates = certificateService.findAllByPage(page, size);
-        certificateHateoasAdder.addLinksToEntityList(certificates);
+        hypermediaPolicy.addLinksToEntityList(certificateHateoasAdder, certificates);
+        return certificates;
+    }
+
+    @Override
+    public List<CertificateDto> findAllByCursor(String after, int size) {
+        CustomPaginationValidator.validate(after, size);
+
+        List<CertificateDto> certificates = certificateService.findAllByCursor(after, size);
+        hypermediaPolicy.addLinksToEntityList(certificateHateoasAdder, certificates);
         return certificates;
     }
 
@@ -38,7 +61,7 @@ public class CertificateFacadeImpl implements CertificateFacade {
         CustomValidator.validateId(CertificateField.ID, id);
 
         CertificateDto certificate = certificateService.findById(id);
-        certificateHateoasAdder.addLinksToEntity(certificate);
+        hypermediaPolicy.addLinksToEntity(certificateHateoasAdder, certificate);
         return certificate;
     }
 
@@ -46,9 +69,10 @@ public class CertificateFacadeImpl implements CertificateFacade {
     public List<CertificateDto> findByFilter(SearchFilter searchFilter, int page, int size) {
         CustomPaginationValidator.validate(page, size);
         CustomSortValidator.validate(searchFilter.sortType(), searchFilter.sortOrder());
+        CustomSearchValidator.validate(searchFilter);
 
         List<CertificateDto> certificates = certificateService.findByFilterAndPage(searchFilter, page, size);
-        certificateHateoasAdder.addLinksToEntityList(certificates);
+        hypermediaPolicy.addLinksToEntityList(certificateHateoasAdder, certificates);
         return certificates;
     }
 
@@ -57,17 +81,17 @@ public class CertificateFacadeImpl implements CertificateFacade {
         CustomCertificateValidator.validate(certificateDto);
 
         CertificateDto certificate = certificateService.create(certificateDto);
-        certificateHateoasAdder.addLinksToEntity(certificate);
+        hypermediaPolicy.addLinksToEntity(certificateHateoasAdder, certificate);
         return certificate;
     }
 
     @Override
-    public CertificateDto updateNameById(Long id, CertificateDto certificateDto) {
+    public CertificateDto updateById(Long id, String ifMatch, CertificateDto certificateDto) {
         CustomValidator.validateId(CertificateField.ID, id);
-        CustomCertificateValidator.validateName(certificateDto.getName());
+        CustomCertificateValidator.validatePatch(certificateDto);
 
-        CertificateDto certificate = certificateService.updateNameById(id, certificateDto);
-        certificateHateoasAdder.addLinksToEntity(certificate);
+        CertificateDto certificate = certificateService.updateById(id, EntityTag.parse(ifMatch), certificateDto);
+        hypermediaPolicy.addLinksToEntity(certificateHateoasAdder, certificate);
         return certificate;
     }
 
@@ -78,7 +102,46 @@ public class CertificateFacadeImpl implements CertificateFacade {
         certificateService.deleteById(id);
         CustomMessageHolder messageHolder = new CustomMessageHolder(
                 HttpStatus.OK, "certificate was successfully deleted");
-        messageHolderHateoasAdder.addLinksToEntity(messageHolder);
+        hypermediaPolicy.addLinksToEntity(messageHolderHateoasAdder, messageHolder);
         return messageHolder;
     }
+
+    @Override
+    public CustomMessageHolder deleteAllByIds(Set<Long> ids) {
+        CustomValidator.validateIds(CertificateField.IDS, ids, CertificateField.ID);
+
+        long deleted = certificateService.deleteAllByIds(ids);
+        CustomMessageHolder messageHolder = new CustomMessageHolder(
+                HttpStatus.OK, deleted + " certificates were successfully deleted");
+        hypermediaPolicy.addLinksToEntity(messageHolderHateoasAdder, messageHolder);
+        return messageHolder;
+    }
+
+    @Override
+    public CustomMessageHolder deleteAllByFilter(SearchFilter searchFilter) {
+        CustomSearchValidator.validate(searchFilter);
+        CustomSearchValidator.validateNotEmpty(searchFilter);
+
+        long deleted = certificateService.deleteAllByFilter(searchFilter);
+        CustomMessageHolder messageHolder = new CustomMessageHolder(
+                HttpStatus.OK, deleted + " certificates were successfully deleted");
+        hypermediaPolicy.addLinksToEntity(messageHolderHateoasAdder, messageHolder);
+        return messageHolder;
+    }
+
+    @Override
+    public StreamingResponseBody exportAll(String format) {
+        CustomExportValidator.validate(format);
+
+        ExportFormat exportFormat = ExportFormat.of(format);
+        return outputStream -> certificateService.exportAll(exportFormat, outputStream);
+    }
+
+    @Override
+    public ImportReportDto importAll(String format, InputStream inputStream,
+                                     int chunkSize, long firstRecord) throws IOException {
+        CustomImportValidator.validate(format, chunkSize, firstRecord);
+
+        return certificateImportService.importAll(ExportFormat.of(format), inputStream, chunkSize, firstRecord);
+    }
 }
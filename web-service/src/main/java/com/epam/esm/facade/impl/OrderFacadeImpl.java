@@ -1,32 +1,49 @@
 package com.epam.esm.facade.impl;
 
+import com.epam.esm.dto.OrderBatchItemDto;
 import com.epam.esm.dto.OrderDto;
 import com.epam.esm.exception.CustomValidationException;
 import com.epam.esm.facade.OrderFacade;
 import com.epam.esm.hateoas.HateoasAdder;
+import com.epam.esm.hateoas.HypermediaPolicy;
 import com.epam.esm.service.OrderService;
+import com.epam.esm.util.ExportFormat;
 import com.epam.esm.util.enums.CertificateField;
 import com.epam.esm.util.enums.OrderField;
 import com.epam.esm.util.enums.UserField;
+import com.epam.esm.validator.CustomExportValidator;
+import com.epam.esm.validator.CustomOrderValidator;
 import com.epam.esm.validator.CustomPaginationValidator;
 import com.epam.esm.validator.CustomValidator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Objects;
 
 @Component
 @RequiredArgsConstructor
 public class OrderFacadeImpl implements OrderFacade {
     private final OrderService orderService;
     private final HateoasAdder<OrderDto> orderHateoasAdder;
+    private final HypermediaPolicy hypermediaPolicy;
 
     @Override
     public List<OrderDto> findAllByPage(int page, int size) {
         CustomPaginationValidator.validate(page, size);
 
         List<OrderDto> orders = orderService.findAllByPage(page, size);
-        orderHateoasAdder.addLinksToEntityList(orders);
+        hypermediaPolicy.addLinksToEntityList(orderHateoasAdder, orders);
+        return orders;
+    }
+
+    @Override
+    public List<OrderDto> findAllByCursor(String after, int size) {
+        CustomPaginationValidator.validate(after, size);
+
+        List<OrderDto> orders = orderService.findAllByCursor(after, size);
+        hypermediaPolicy.addLinksToEntityList(orderHateoasAdder, orders);
         return orders;
     }
 
@@ -35,20 +52,39 @@ public class OrderFacadeImpl implements OrderFacade {
         CustomValidator.validateId(OrderField.ID, id);
 
         OrderDto order = orderService.findById(id);
-        orderHateoasAdder.addLinksToEntity(order);
+        hypermediaPolicy.addLinksToEntity(orderHateoasAdder, order);
         return order;
     }
 
     @Override
     public OrderDto create(OrderDto orderDto) {
-        CustomValidator.validateId(UserField.ID, orderDto.getUserId());
-        CustomValidator.validateId(CertificateField.ID, orderDto.getCertificateId());
+        CustomOrderValidator.validate(orderDto);
 
         OrderDto order = orderService.create(orderDto);
-        orderHateoasAdder.addLinksToEntity(order);
+        hypermediaPolicy.addLinksToEntity(orderHateoasAdder, order);
         return order;
     }
 
+    @Override
+    public List<OrderBatchItemDto> createAll(List<OrderDto> orderDtos) {
+        CustomOrderValidator.validateBatch(orderDtos);
+
+        List<OrderBatchItemDto> results = orderService.createAll(orderDtos);
+        results.stream()
+                .map(OrderBatchItemDto::getOrder)
+                .filter(Objects::nonNull)
+                .forEach(order -> hypermediaPolicy.addLinksToEntity(orderHateoasAdder, order));
+        return results;
+    }
+
+    @Override
+    public StreamingResponseBody exportAll(String format) {
+        CustomExportValidator.validate(format);
+
+        ExportFormat exportFormat = ExportFormat.of(format);
+        return outputStream -> orderService.exportAll(exportFormat, outputStream);
+    }
+
     @Override
     public List<OrderDto> findByCertificateOrUserId(Long certificateId, Long userId, int page, int size) {
         if (certificateId == null && userId == null || certificateId != null && userId != null) {
@@ -68,7 +104,7 @@ public class OrderFacadeImpl implements OrderFacade {
             orders = orderService.findByUserIdAndPage(userId, page, size);
         }
 
-        orderHateoasAdder.addLinksToEntityList(orders);
+        hypermediaPolicy.addLinksToEntityList(orderHateoasAdder, orders);
         return orders;
     }
 }
@@ -4,6 +4,7 @@ import com.epam.esm.dto.TagDto;
 import com.epam.esm.exception.CustomMessageHolder;
 import com.epam.esm.facade.TagFacade;
 import com.epam.esm.hateoas.HateoasAdder;
+import com.epam.esm.hateoas.HypermediaPolicy;
 import com.epam.esm.service.TagService;
 import com.epam.esm.util.enums.TagField;
 import com.epam.esm.validator.CustomPaginationValidator;
@@ -14,6 +15,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
@@ -21,13 +23,23 @@ public class TagFacadeImpl implements TagFacade {
     private final TagService tagService;
     private final HateoasAdder<TagDto> tagHateoasAdder;
     private final HateoasAdder<CustomMessageHolder> messageHolderHateoasAdder;
+    private final HypermediaPolicy hypermediaPolicy;
 
     @Override
     public List<TagDto> findAllByPage(int page, int size) {
         CustomPaginationValidator.validate(page, size);
 
         List<TagDto> tags = tagService.findAllByPage(page, size);
-        tagHateoasAdder.addLinksToEntityList(tags);
+        hypermediaPolicy.addLinksToEntityList(tagHateoasAdder, tags);
+        return tags;
+    }
+
+    @Override
+    public List<TagDto> findAllByCursor(String after, int size) {
+        CustomPaginationValidator.validate(after, size);
+
+        List<TagDto> tags = tagService.findAllByCursor(after, size);
+        hypermediaPolicy.addLinksToEntityList(tagHateoasAdder, tags);
         return tags;
     }
 
@@ -36,14 +48,14 @@ public class TagFacadeImpl implements TagFacade {
         CustomValidator.validateId(TagField.ID, id);
 
         TagDto tag = tagService.findById(id);
-        tagHateoasAdder.addLinksToEntity(tag);
+        hypermediaPolicy.addLinksToEntity(tagHateoasAdder, tag);
         return tag;
     }
 
     @Override
     public TagDto findSpecial() {
         TagDto tag = tagService.findSpecial();
-        tagHateoasAdder.addLinksToEntity(tag);
+        hypermediaPolicy.addLinksToEntity(tagHateoasAdder, tag);
         return tag;
     }
 
@@ -52,7 +64,7 @@ public class TagFacadeImpl implements TagFacade {
         CustomTagValidator.validate(tagDto);
 
         TagDto tag = tagService.create(tagDto);
-        tagHateoasAdder.addLinksToEntity(tag);
+        hypermediaPolicy.addLinksToEntity(tagHateoasAdder, tag);
         return tag;
     }
 
@@ -63,7 +75,18 @@ public class TagFacadeImpl implements TagFacade {
         tagService.deleteById(id);
         CustomMessageHolder messageHolder = new CustomMessageHolder(
                 HttpStatus.OK, "tag was successfully deleted");
-        messageHolderHateoasAdder.addLinksToEntity(messageHolder);
+        hypermediaPolicy.addLinksToEntity(messageHolderHateoasAdder, messageHolder);
+        return messageHolder;
+    }
+
+    @Override
+    public CustomMessageHolder deleteAllByIds(Set<Long> ids) {
+        CustomValidator.validateIds(TagField.IDS, ids, TagField.ID);
+
+        long deleted = tagService.deleteAllByIds(ids);
+        CustomMessageHolder messageHolder = new CustomMessageHolder(
+                HttpStatus.OK, deleted + " tags were successfully deleted");
+        hypermediaPolicy.addLinksToEntity(messageHolderHateoasAdder, messageHolder);
         return messageHolder;
     }
 }
@@ -3,6 +3,7 @@ package com.epam.esm.facade.impl;
 import com.epam.esm.dto.UserDto;
 import com.epam.esm.facade.UserFacade;
 import com.epam.esm.hateoas.HateoasAdder;
+import com.epam.esm.hateoas.HypermediaPolicy;
 import com.epam.esm.service.UserService;
 import com.epam.esm.util.enums.UserField;
 import com.epam.esm.validator.CustomPaginationValidator;
@@ -17,13 +18,23 @@ import java.util.List;
 public class UserFacadeImpl implements UserFacade {
     private final UserService userService;
     private final HateoasAdder<UserDto> userHateoasAdder;
+    private final HypermediaPolicy hypermediaPolicy;
 
     @Override
     public List<UserDto> findAllByPage(int page, int size) {
         CustomPaginationValidator.validate(page, size);
 
         List<UserDto> users = userService.findAllByPage(page, size);
-        userHateoasAdder.addLinksToEntityList(users);
+        hypermediaPolicy.addLinksToEntityList(userHateoasAdder, users);
+        return users;
+    }
+
+    @Override
+    public List<UserDto> findAllByCursor(String after, int size) {
+        CustomPaginationValidator.validate(after, size);
+
+        List<UserDto> users = userService.findAllByCursor(after, size);
+        hypermediaPolicy.addLinksToEntityList(userHateoasAdder, users);
         return users;
     }
 
@@ -32,7 +43,7 @@ public class UserFacadeImpl implements UserFacade {
         CustomValidator.validateId(UserField.ID, id);
 
         UserDto user = userService.findById(id);
-        userHateoasAdder.addLinksToEntity(user);
+        hypermediaPolicy.addLinksToEntity(userHateoasAdder, user);
         return user;
     }
 }
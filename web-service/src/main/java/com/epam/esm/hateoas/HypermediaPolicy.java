@@ -0,0 +1,78 @@
+package com.epam.esm.hateoas;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+
+/**
+ * policy deciding whether response of current request carries
+ * hypermedia, clients opt out with links=false request parameter
+ * or, once lean json is enabled, by accepting application/json
+ * without application/hal+json, adders are skipped entirely then
+ *
+ * @author bakhridinova
+ */
+
+@Component
+public class HypermediaPolicy {
+    public static final String LINKS_PARAMETER = "links";
+
+    private final boolean leanJson;
+
+    public HypermediaPolicy(@Value("${hypermedia.lean-json:false}") boolean leanJson) {
+        this.leanJson = leanJson;
+    }
+
+    public <T extends RepresentationModel<T>> void addLinksToEntity(HateoasAdder<T> adder, T entity) {
+        if (isEnabled()) {
+            adder.addLinksToEntity(entity);
+        }
+    }
+
+    public <T extends RepresentationModel<T>> void addLinksToEntityList(HateoasAdder<T> adder, List<T> entities) {
+        if (isEnabled()) {
+            adder.addLinksToEntityList(entities);
+        }
+    }
+
+    /**
+     * checks whether links should be added to response of current request,
+     * links are always added outside of request
+     *
+     * @return true if links should be added, false otherwise
+     */
+    public boolean isEnabled() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return true;
+        }
+
+        HttpServletRequest request = servletAttributes.getRequest();
+        String links = request.getParameter(LINKS_PARAMETER);
+        if (links != null) {
+            return !Boolean.FALSE.toString().equalsIgnoreCase(links);
+        }
+        return !leanJson || acceptsHal(request.getHeader(HttpHeaders.ACCEPT));
+    }
+
+    private static boolean acceptsHal(String accept) {
+        try {
+            List<MediaType> mediaTypes = MediaType.parseMediaTypes(accept);
+            // wildcards and missing header keep hal, only explicit plain json drops it
+            return mediaTypes.stream().noneMatch(MediaType.APPLICATION_JSON::equalsTypeAndSubtype)
+                    || mediaTypes.stream().anyMatch(MediaTypes.HAL_JSON::equalsTypeAndSubtype);
+        } catch (InvalidMediaTypeException e) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.epam.esm.hateoas;
+
+import com.epam.esm.controller.CertificateController;
+import com.epam.esm.controller.OrderController;
+import com.epam.esm.controller.TagController;
+import com.epam.esm.controller.UserController;
+import org.springframework.hateoas.Link;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * factory building links to controllers from templates
+ * precompiled at startup, base uri of links is resolved
+ * once per request and reused by all links of response
+ *
+ * @author bakhridinova
+ */
+
+@Component
+public class LinkFactory {
+    private static final String BASE_URI_ATTRIBUTE = LinkFactory.class.getName() + ".baseUri";
+
+    private final LinkTemplate certificates = LinkTemplate.of(CertificateController.class);
+    private final LinkTemplate certificate = LinkTemplate.of(CertificateController.class, "getById");
+    private final LinkTemplate tags = LinkTemplate.of(TagController.class);
+    private final LinkTemplate tag = LinkTemplate.of(TagController.class, "getById");
+    private final LinkTemplate orders = LinkTemplate.of(OrderController.class);
+    private final LinkTemplate order = LinkTemplate.of(OrderController.class, "getById");
+    private final LinkTemplate ordersByCertificate = LinkTemplate.of(OrderController.class,
+            "getByCertificateOrUserId", "certificateId", "page", "size");
+    private final LinkTemplate ordersByUser = LinkTemplate.of(OrderController.class,
+            "getByCertificateOrUserId", "userId", "page", "size");
+    private final LinkTemplate users = LinkTemplate.of(UserController.class);
+    private final LinkTemplate user = LinkTemplate.of(UserController.class, "getById");
+
+    public Link certificates(String rel) {
+        return Link.of(certificates.expand(baseUri()), rel);
+    }
+
+    public Link certificate(long id, String rel) {
+        return Link.of(certificate.expand(baseUri(), id), rel);
+    }
+
+    public Link tags(String rel) {
+        return Link.of(tags.expand(baseUri()), rel);
+    }
+
+    public Link tag(long id, String rel) {
+        return Link.of(tag.expand(baseUri(), id), rel);
+    }
+
+    public Link orders(String rel) {
+        return Link.of(orders.expand(baseUri()), rel);
+    }
+
+    public Link order(long id, String rel) {
+        return Link.of(order.expand(baseUri(), id), rel);
+    }
+
+    public Link ordersByCertificate(long certificateId, int page, int size, String rel) {
+        return Link.of(ordersByCertificate.expand(baseUri(), certificateId, page, size), rel);
+    }
+
+    public Link ordersByUser(long userId, int page, int size, String rel) {
+        return Link.of(ordersByUser.expand(baseUri(), userId, page, size), rel);
+    }
+
+    public Link users(String rel) {
+        return Link.of(users.expand(baseUri()), rel);
+    }
+
+    public Link user(long id, String rel) {
+        return Link.of(user.expand(baseUri(), id), rel);
+    }
+
+    private static String baseUri() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            // outside of request links stay relative
+            return "";
+        }
+
+        String baseUri = (String) attributes.getAttribute(BASE_URI_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (baseUri == null) {
+            baseUri = ServletUriComponentsBuilder.fromCurrentServletMapping().build().toUriString();
+            attributes.setAttribute(BASE_URI_ATTRIBUTE, baseUri, RequestAttributes.SCOPE_REQUEST);
+        }
+        return baseUri;
+    }
+}
@@ -0,0 +1,148 @@
+package com.epam.esm.hateoas;
+
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * link template resolved once from controller mappings,
+ * expanded by concatenating its literal parts with values
+ * of its variables, so that no proxies, reflection or uri
+ * parsing are involved per link
+ *
+ * @author bakhridinova
+ */
+
+public final class LinkTemplate {
+    private static final Pattern VARIABLE = Pattern.compile("\\{([^}]+)}");
+
+    private final String template;
+    private final String[] literals;
+    private final int length;
+
+    private LinkTemplate(String template) {
+        List<String> parts = new ArrayList<>();
+        Matcher matcher = VARIABLE.matcher(template);
+        int start = 0;
+        while (matcher.find()) {
+            parts.add(template.substring(start, matcher.start()));
+            start = matcher.end();
+        }
+        parts.add(template.substring(start));
+
+        this.template = template;
+        this.literals = parts.toArray(String[]::new);
+        this.length = parts.stream().mapToInt(String::length).sum();
+    }
+
+    /**
+     * resolves template of controller's root mapping
+     *
+     * @param controller controller class
+     * @return link template
+     */
+    public static LinkTemplate of(Class<?> controller) {
+        return new LinkTemplate(pathOf(controller));
+    }
+
+    /**
+     * resolves template of controller method mapping,
+     * path variables keep their order in path and
+     * are followed by given request parameters
+     *
+     * @param controller controller class
+     * @param methodName name of handler method
+     * @param parameters names of request parameters to include
+     * @return link template
+     * @throws IllegalArgumentException if method or any of parameters cannot be resolved
+     */
+    public static LinkTemplate of(Class<?> controller, String methodName, String... parameters) {
+        Method method = findHandlerMethod(controller, methodName);
+        String path = pathOf(method);
+        StringBuilder template = new StringBuilder(pathOf(controller))
+                .append(path.isEmpty() || path.startsWith("/") ? "" : "/").append(path);
+
+        List<String> requestParameters = requestParametersOf(method);
+        for (int i = 0; i < parameters.length; i++) {
+            if (!requestParameters.contains(parameters[i])) {
+                throw new IllegalArgumentException("%s#%s has no request parameter %s"
+                        .formatted(controller.getSimpleName(), methodName, parameters[i]));
+            }
+            template.append(i == 0 ? '?' : '&').append(parameters[i])
+                    .append("={").append(parameters[i]).append('}');
+        }
+        return new LinkTemplate(template.toString());
+    }
+
+    /**
+     * expands template
+     *
+     * @param baseUri scheme, host and context path to prepend
+     * @param values values of variables in order of their appearance
+     * @return expanded href
+     * @throws IllegalArgumentException if number of values differs from number of variables
+     */
+    public String expand(String baseUri, long... values) {
+        if (values.length != literals.length - 1) {
+            throw new IllegalArgumentException("link template " + template + " expects "
+                    + (literals.length - 1) + " values, but " + values.length + " were given");
+        }
+
+        StringBuilder href = new StringBuilder(baseUri.length() + length + values.length * 8)
+                .append(baseUri).append(literals[0]);
+        for (int i = 0; i < values.length; i++) {
+            href.append(values[i]).append(literals[i + 1]);
+        }
+        return href.toString();
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+
+    private static Method findHandlerMethod(Class<?> controller, String methodName) {
+        List<Method> methods = Arrays.stream(controller.getMethods())
+                .filter(method -> method.getName().equals(methodName))
+                .filter(method -> AnnotatedElementUtils.hasAnnotation(method, RequestMapping.class))
+                .toList();
+        if (methods.size() != 1) {
+            throw new IllegalArgumentException("expected single handler method %s#%s, but found %d"
+                    .formatted(controller.getSimpleName(), methodName, methods.size()));
+        }
+        return methods.get(0);
+    }
+
+    private static String pathOf(Class<?> controller) {
+        RequestMapping mapping = AnnotatedElementUtils.findMergedAnnotation(controller, RequestMapping.class);
+        return mapping == null || mapping.path().length == 0 ? "" : mapping.path()[0];
+    }
+
+    private static String pathOf(Method method) {
+        RequestMapping mapping = AnnotatedElementUtils.findMergedAnnotation(method, RequestMapping.class);
+        return mapping == null || mapping.path().length == 0 ? "" : mapping.path()[0];
+    }
+
+    private static List<String> requestParametersOf(Method method) {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < method.getParameterCount(); i++) {
+            MethodParameter parameter = new MethodParameter(method, i);
+            RequestParam requestParam = parameter.getParameterAnnotation(RequestParam.class);
+            if (requestParam != null) {
+                parameter.initParameterNameDiscovery(new DefaultParameterNameDiscoverer());
+                String name = !requestParam.name().isEmpty() ? requestParam.name() : requestParam.value();
+                names.add(name.isEmpty() ? parameter.getParameterName() : name);
+            }
+        }
+        return names;
+    }
+}
@@ -1,26 +1,21 @@
 package com.epam.esm.hateoas.impl;
 
-import com.epam.esm.controller.CertificateController;
-import com.epam.esm.controller.OrderController;
-import com.epam.esm.controller.TagController;
-import com.epam.esm.controller.UserController;
 import com.epam.esm.exception.CustomMessageHolder;
 import com.epam.esm.hateoas.HateoasAdder;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import com.epam.esm.hateoas.LinkFactory;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class MessageHolderHateoasAdder implements HateoasAdder<CustomMessageHolder> {
+    private final LinkFactory linkFactory;
 
     @Override
     public void addLinksToEntity(CustomMessageHolder message) {
-        message.add(WebMvcLinkBuilder.linkTo(CertificateController.class)
-                .withRel("certificates ->"));
-        message.add(WebMvcLinkBuilder.linkTo(TagController.class)
-                .withRel("tags ->"));
-        message.add(WebMvcLinkBuilder.linkTo(OrderController.class)
-                .withRel("orders ->"));
-        message.add(WebMvcLinkBuilder.linkTo(UserController.class)
-                .withRel("users ->"));
+        message.add(linkFactory.certificates("certificates ->"));
+        message.add(linkFactory.tags("tags ->"));
+        message.add(linkFactory.orders("orders ->"));
+        message.add(linkFactory.users("users ->"));
     }
 }
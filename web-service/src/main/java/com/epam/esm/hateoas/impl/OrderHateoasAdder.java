@@ -1,23 +1,21 @@
 package com.epam.esm.hateoas.impl;
 
-import com.epam.esm.controller.CertificateController;
-import com.epam.esm.controller.OrderController;
-import com.epam.esm.controller.UserController;
 import com.epam.esm.dto.OrderDto;
 import com.epam.esm.hateoas.HateoasAdder;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import com.epam.esm.hateoas.LinkFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class OrderHateoasAdder implements HateoasAdder<OrderDto> {
+    private final LinkFactory linkFactory;
 
     @Override
     public void addLinksToEntity(OrderDto order) {
-        order.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(OrderController.class)
-                .getById(order.getId())).withSelfRel());
-        order.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(UserController.class)
-                .getById(order.getUserId())).withRel("user"));
-        order.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(CertificateController.class)
-                .getById(order.getCertificateId())).withRel("certificate"));
+        order.add(linkFactory.order(order.getId(), IanaLinkRelations.SELF_VALUE));
+        order.add(linkFactory.user(order.getUserId(), "user"));
+        order.add(linkFactory.certificate(order.getCertificateId(), "certificate"));
     }
 }
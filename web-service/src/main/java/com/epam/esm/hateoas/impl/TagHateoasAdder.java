@@ -1,17 +1,19 @@
 package com.epam.esm.hateoas.impl;
 
-import com.epam.esm.controller.TagController;
 import com.epam.esm.dto.TagDto;
 import com.epam.esm.hateoas.HateoasAdder;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import com.epam.esm.hateoas.LinkFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class TagHateoasAdder implements HateoasAdder<TagDto> {
+    private final LinkFactory linkFactory;
 
     @Override
     public void addLinksToEntity(TagDto tag) {
-        tag.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(TagController.class)
-                .getById(tag.getId())).withSelfRel());
+        tag.add(linkFactory.tag(tag.getId(), IanaLinkRelations.SELF_VALUE));
     }
 }
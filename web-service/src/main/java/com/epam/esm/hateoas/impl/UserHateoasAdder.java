@@ -1,20 +1,20 @@
 package com.epam.esm.hateoas.impl;
 
-import com.epam.esm.controller.OrderController;
-import com.epam.esm.controller.UserController;
 import com.epam.esm.dto.UserDto;
 import com.epam.esm.hateoas.HateoasAdder;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import com.epam.esm.hateoas.LinkFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class UserHateoasAdder implements HateoasAdder<UserDto> {
+    private final LinkFactory linkFactory;
 
     @Override
     public void addLinksToEntity(UserDto user) {
-        user.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(UserController.class)
-                .getById(user.getId())).withSelfRel());
-        user.add(WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(OrderController.class)
-                .getByCertificateOrUserId(null, user.getId(), 0, 5)).withRel("orders"));
+        user.add(linkFactory.user(user.getId(), IanaLinkRelations.SELF_VALUE));
+        user.add(linkFactory.ordersByUser(user.getId(), 0, 5, "orders"));
     }
 }
@@ -0,0 +1,126 @@
+package com.epam.esm.util.jfr;
+
+import com.epam.esm.util.monitoring.QueryMonitor;
+import com.epam.esm.util.monitoring.QueryScope;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * aspect committing flight recorder events for repository
+ * and facade calls and for building hateoas links, nothing
+ * but enabled check happens unless events are recorded
+ *
+ * @author bakhridinova
+ */
+
+@Aspect
+@Component
+@ConditionalOnProperty(prefix = "jfr.events", name = "enabled", matchIfMissing = true)
+public class FlightRecorderAspect {
+
+    @Around("within(@org.springframework.stereotype.Repository *)")
+    public Object recordRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        // statements are counted only while data source is monitored
+        QueryScope scope = QueryMonitor.begin();
+        Object result = null;
+        event.begin();
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } finally {
+            event.end();
+            QueryMonitor.end(scope);
+            if (event.shouldCommit()) {
+                event.setMethod(nameOf(joinPoint.getSignature()));
+                rowsOf(result).ifPresent(event::setRows);
+                event.setStatements(scope.getStatements());
+                event.commit();
+            }
+        }
+    }
+
+    @Around("within(com.epam.esm.facade..*)")
+    public Object recordFacadeCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        FacadeCallEvent event = new FacadeCallEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        event.begin();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setMethod(nameOf(joinPoint.getSignature()));
+                event.commit();
+            }
+        }
+    }
+
+    @Around("execution(* com.epam.esm.hateoas.HateoasAdder+.*(..))")
+    public Object recordHypermedia(ProceedingJoinPoint joinPoint) throws Throwable {
+        HypermediaEvent event = new HypermediaEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        event.begin();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setAdder(joinPoint.getTarget().getClass().getSimpleName());
+                event.setEntities(sizeOf(joinPoint.getArgs()[0]));
+                event.commit();
+            }
+        }
+    }
+
+    private static String nameOf(Signature signature) {
+        return signature.getDeclaringType().getSimpleName() + "." + signature.getName();
+    }
+
+    // numbers repositories return are counted or deleted rows,
+    // other scalars say nothing about rows and leave them unset
+    private static OptionalLong rowsOf(Object result) {
+        if (result instanceof Number number) {
+            return OptionalLong.of(number.longValue());
+        }
+        if (result instanceof Boolean || result instanceof CharSequence) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(sizeOf(result));
+    }
+
+    private static long sizeOf(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (value.getClass().isArray()) {
+            return Array.getLength(value);
+        }
+        if (value instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,21 @@
+package com.epam.esm.util.timing;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * phases of request reported in Server-Timing header
+ *
+ * @author bakhridinova
+ */
+
+@Getter
+@AllArgsConstructor
+public enum Phase {
+    DB("db", "database"),
+    MAPPING("mapping", "entity mapping"),
+    HYPERMEDIA("hypermedia", "hateoas links");
+
+    private final String metric;
+    private final String description;
+}
@@ -0,0 +1,109 @@
+package com.epam.esm.util.timing;
+
+import com.epam.esm.util.monitoring.QueryScope;
+
+/**
+ * phase durations of single request, database time is taken from
+ * query scope of request while other phases are measured by
+ * {@link ServerTimingAspect}, nested calls of same phase
+ * (e.g. certificate mapper calling tag mapper) are counted once
+ *
+ * @author bakhridinova
+ */
+
+public class RequestTiming {
+    public static final String SERVER_TIMING = "Server-Timing";
+    private static final ThreadLocal<RequestTiming> timings = new ThreadLocal<>();
+
+    private final long start = System.nanoTime();
+    private final QueryScope queryScope;
+    private final long[] nanos = new long[Phase.values().length];
+    private final int[] depths = new int[Phase.values().length];
+    private long renderingStart;
+
+    RequestTiming(QueryScope queryScope) {
+        this.queryScope = queryScope;
+    }
+
+    static RequestTiming begin(QueryScope queryScope) {
+        RequestTiming timing = new RequestTiming(queryScope);
+        timings.set(timing);
+        return timing;
+    }
+
+    static void end() {
+        timings.remove();
+    }
+
+    /**
+     * retrieves timing of request handled by current thread
+     *
+     * @return timing or null if request is not timed
+     */
+    public static RequestTiming current() {
+        return timings.get();
+    }
+
+    int enter(Phase phase) {
+        return depths[phase.ordinal()]++;
+    }
+
+    void exit(Phase phase, long nanos) {
+        depths[phase.ordinal()]--;
+        this.nanos[phase.ordinal()] += nanos;
+    }
+
+    void markRendering() {
+        renderingStart = System.nanoTime();
+    }
+
+    long nanosOf(Phase phase) {
+        return phase == Phase.DB ? queryScope.getNanos() : nanos[phase.ordinal()];
+    }
+
+    long statements() {
+        return queryScope.getStatements();
+    }
+
+    long handlingNanos() {
+        return (renderingStart == 0 ? System.nanoTime() : renderingStart) - start;
+    }
+
+    long renderingNanos() {
+        return renderingStart == 0 ? 0 : System.nanoTime() - renderingStart;
+    }
+
+    long totalNanos() {
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * builds Server-Timing header value of phases completed so far,
+     * app covers whole handling of request before response body is written
+     *
+     * @return header value
+     */
+    String header() {
+        StringBuilder header = new StringBuilder(128);
+        for (Phase phase : Phase.values()) {
+            appendMetric(header, phase.getMetric(), phase.getDescription(), nanosOf(phase)).append(", ");
+        }
+        return appendMetric(header, "app", "request handling", handlingNanos()).toString();
+    }
+
+    private static StringBuilder appendMetric(StringBuilder header, String metric, String description, long nanos) {
+        header.append(metric).append(";dur=");
+        appendMillis(header, nanos);
+        return header.append(";desc=\"").append(description).append('"');
+    }
+
+    static StringBuilder appendMillis(StringBuilder builder, long nanos) {
+        long micros = nanos / 1000;
+        long fraction = micros % 1000;
+        builder.append(micros / 1000).append('.');
+        if (fraction < 100) {
+            builder.append(fraction < 10 ? "00" : "0");
+        }
+        return builder.append(fraction);
+    }
+}
@@ -0,0 +1,46 @@
+package com.epam.esm.util.timing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * aspect measuring time spent in mappers and hateoas adders
+ * while request is timed by {@link ServerTimingFilter}
+ *
+ * @author bakhridinova
+ */
+
+@Aspect
+@Component
+@ConditionalOnProperty(prefix = "server-timing", name = "enabled")
+public class ServerTimingAspect {
+
+    @Around("within(com.epam.esm.util.mapper..*)")
+    public Object measureMapping(ProceedingJoinPoint joinPoint) throws Throwable {
+        return measure(Phase.MAPPING, joinPoint);
+    }
+
+    // list method is inherited from interface and calls single entity method internally
+    @Around("execution(* com.epam.esm.hateoas.HateoasAdder+.*(..))")
+    public Object measureHypermedia(ProceedingJoinPoint joinPoint) throws Throwable {
+        return measure(Phase.HYPERMEDIA, joinPoint);
+    }
+
+    private static Object measure(Phase phase, ProceedingJoinPoint joinPoint) throws Throwable {
+        RequestTiming timing = RequestTiming.current();
+        if (timing == null) {
+            return joinPoint.proceed();
+        }
+
+        int depth = timing.enter(phase);
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timing.exit(phase, depth == 0 ? System.nanoTime() - start : 0);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.epam.esm.util.timing;
+
+import com.epam.esm.util.monitoring.QueryMonitor;
+import com.epam.esm.util.monitoring.QueryScope;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * filter timing every request, database time comes from statements
+ * recorded by monitored data source, so it is reported only while
+ * query monitoring is enabled; serialization ends after headers are
+ * sent, it is therefore reported only in access log line
+ *
+ * @author bakhridinova
+ */
+
+@Component
+@ConditionalOnProperty(prefix = "server-timing", name = "enabled")
+public class ServerTimingFilter extends OncePerRequestFilter {
+    private static final Logger logger = LoggerFactory.getLogger(ServerTimingFilter.class);
+    private final boolean accessLog;
+
+    public ServerTimingFilter(@Value("${server-timing.access-log:false}") boolean accessLog) {
+        this.accessLog = accessLog;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        QueryScope queryScope = QueryMonitor.begin();
+        RequestTiming timing = RequestTiming.begin(queryScope);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryMonitor.end(queryScope);
+            RequestTiming.end();
+            if (accessLog) {
+                logAccess(request, response, timing);
+            }
+        }
+    }
+
+    private static void logAccess(HttpServletRequest request, HttpServletResponse response, RequestTiming timing) {
+        logger.info("method={} uri={} status={} total={} app={} db={} statements={} mapping={} hypermedia={} serialization={}",
+                request.getMethod(), request.getRequestURI(), response.getStatus(),
+                millis(timing.totalNanos()), millis(timing.handlingNanos()), millis(timing.nanosOf(Phase.DB)),
+                timing.statements(), millis(timing.nanosOf(Phase.MAPPING)),
+                millis(timing.nanosOf(Phase.HYPERMEDIA)), millis(timing.renderingNanos()));
+    }
+
+    private static String millis(long nanos) {
+        return RequestTiming.appendMillis(new StringBuilder(), nanos).toString();
+    }
+}
@@ -2,43 +2,60 @@ package com.epam.esm.controller;
 
 import com.epam.esm.GiftCertificatesAdvancedApplication;
 import com.epam.esm.dto.CertificateDto;
+import com.epam.esm.dto.ImportReportDto;
 import com.epam.esm.exception.CustomEntityNotFoundException;
 import com.epam.esm.exception.CustomMessageHolder;
+import com.epam.esm.exception.CustomPreconditionFailedException;
 import com.epam.esm.facade.impl.CertificateFacadeImpl;
 import com.epam.esm.hateoas.HateoasAdder;
+import com.epam.esm.hateoas.HypermediaPolicy;
+import com.epam.esm.service.CertificateImportService;
 import com.epam.esm.service.CertificateService;
+import com.epam.esm.util.ExportFormat;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import static com.epam.esm.util.TestDataFactory.getCertificateDto;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(CertificateController.class)
-@ContextConfiguration(classes = { CertificateFacadeImpl.class,
+@ContextConfiguration(classes = { CertificateFacadeImpl.class, HypermediaPolicy.class,
         GiftCertificatesAdvancedApplication.class })
 class CertificateControllerTest {
     @Autowired
@@ -49,6 +66,8 @@ class CertificateControllerTest {
     @MockBean
     private CertificateService certificateService;
     @MockBean
+    private CertificateImportService certificateImportService;
+    @MockBean
     private HateoasAdder<CertificateDto> certificateHateoasAdder;
     @MockBean
     private HateoasAdder<CustomMessageHolder> messageHolderHateoasAdder;
@@ -153,6 +172,36 @@ class CertificateControllerTest {
                 .andExpect(jsonPath("$..tags.length()", is(0)));
     }
 
+    @Test
+    void getByIdShouldReturnVersionAsEntityTag() throws Exception {
+        when(certificateService.findById(anyLong()))
+                .thenReturn(CertificateDto.builder().id(1L)
+                        .tags(Set.of()).version(2L).build());
+        this.mockMvc.perform(get("/api/certificates/1"))
+                .andDo(print()).andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
+                .andExpect(jsonPath("$.version").doesNotExist());
+    }
+
+    @Test
+    void getByIdShouldAddLinksByDefault() throws Exception {
+        when(certificateService.findById(anyLong()))
+                .thenReturn(getCertificateDto());
+        this.mockMvc.perform(get("/api/certificates/1"))
+                .andDo(print()).andExpect(status().isOk());
+        verify(certificateHateoasAdder).addLinksToEntity(any());
+    }
+
+    @Test
+    void getByIdShouldSkipLinksIfClientOptedOut() throws Exception {
+        when(certificateService.findById(anyLong()))
+                .thenReturn(getCertificateDto());
+        this.mockMvc.perform(get("/api/certificates/1").param("links", "false"))
+                .andDo(print()).andExpect(status().isOk())
+                .andExpect(jsonPath("$._links").doesNotExist());
+        verify(certificateHateoasAdder, never()).addLinksToEntity(any());
+    }
+
     @Test
     void getByIdShouldThrowExceptionWithCorrectMessageIfCertificateWasNotFound() throws Exception {
         when(certificateService.findById(anyLong()))
@@ -800,7 +849,7 @@ class CertificateControllerTest {
     @Test
     void createShouldReturnCorrectCertificateIfCertificateWasFound() throws Exception {
         JSONObject jsonObject = new JSONObject();
-        when(certificateService.updateNameById(anyLong(), any()))
+        when(certificateService.updateById(anyLong(), any(), any()))
                 .thenReturn(getCertificateDto());
         this.mockMvc.perform(patch("/api/certificates/1")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -824,7 +873,7 @@ class CertificateControllerTest {
     @Test
     void patchShouldThrowExceptionWithCorrectMessageIfCertificateWasNotFound() throws Exception {
         JSONObject jsonObject = new JSONObject();
-        when(certificateService.updateNameById(anyLong(), any()))
+        when(certificateService.updateById(anyLong(), any(), any()))
                 .thenThrow(new CustomEntityNotFoundException("failed to find certificate by id 1"));
         this.mockMvc.perform(patch("/api/certificates/1")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -837,7 +886,7 @@ class CertificateControllerTest {
     }
 
     @Test
-    void updateNameByIdShouldThrowExceptionWithCorrectMessageIfIdIsNotNumeric() throws Exception {
+    void updateByIdShouldThrowExceptionWithCorrectMessageIfIdIsNotNumeric() throws Exception {
         this.mockMvc.perform(patch("/api/certificates/test"))
                 .andDo(print()).andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.message", String.class)
@@ -845,7 +894,7 @@ class CertificateControllerTest {
     }
 
     @Test
-    void updateNameByIdShouldThrowExceptionWithCorrectMessageIfIdIsNegative() throws Exception {
+    void updateByIdShouldThrowExceptionWithCorrectMessageIfIdIsNegative() throws Exception {
         JSONObject jsonObject = new JSONObject();
         this.mockMvc.perform(patch("/api/certificates/-1")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -858,7 +907,7 @@ class CertificateControllerTest {
     }
 
     @Test
-    void updateNameByIdShouldThrowExceptionWithCorrectMessageIfNameIsNull() throws Exception {
+    void updateByIdShouldThrowExceptionWithCorrectMessageIfPatchIsEmpty() throws Exception {
         JSONObject jsonObject = new JSONObject();
         this.mockMvc.perform(patch("/api/certificates/1")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -867,11 +916,73 @@ class CertificateControllerTest {
                                 .toString()))
                 .andDo(print()).andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.message", String.class)
-                        .value("certificate name should not be null"));
+                        .value("certificate should include at least one field to update"));
+    }
+
+    @Test
+    void updateByIdShouldThrowExceptionWithCorrectMessageIfPriceIsTooHigh() throws Exception {
+        JSONObject jsonObject = new JSONObject();
+        this.mockMvc.perform(patch("/api/certificates/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonObject
+                                .put("price", 101.0)
+                                .toString()))
+                .andDo(print()).andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", String.class)
+                        .value("certificate price must be between 10 and 100"));
+    }
+
+    @Test
+    void updateByIdShouldPassVersionFromIfMatchAndReturnNewEntityTag() throws Exception {
+        JSONObject jsonObject = new JSONObject();
+        when(certificateService.updateById(anyLong(), any(), any()))
+                .thenReturn(CertificateDto.builder().id(1L).name("test")
+                        .tags(Set.of()).version(4L).build());
+        this.mockMvc.perform(patch("/api/certificates/1")
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonObject
+                                .put("name", "test")
+                                .toString()))
+                .andDo(print()).andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+                .andExpect(jsonPath("$.version").doesNotExist());
+        verify(certificateService).updateById(eq(1L), eq(3L), any());
+    }
+
+    @Test
+    void updateByIdShouldThrowExceptionWithCorrectMessageIfIfMatchIsMalformed() throws Exception {
+        JSONObject jsonObject = new JSONObject();
+        this.mockMvc.perform(patch("/api/certificates/1")
+                        .header(HttpHeaders.IF_MATCH, "3")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonObject
+                                .put("name", "test")
+                                .toString()))
+                .andDo(print()).andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", String.class)
+                        .value("if-match header must hold single entity tag of certificate"));
+    }
+
+    @Test
+    void updateByIdShouldReturnPreconditionFailedIfVersionIsOutdated() throws Exception {
+        JSONObject jsonObject = new JSONObject();
+        when(certificateService.updateById(anyLong(), any(), any()))
+                .thenThrow(new CustomPreconditionFailedException(
+                        "certificate with id 1 was modified, version 3 is outdated"));
+        this.mockMvc.perform(patch("/api/certificates/1")
+                        .header(HttpHeaders.IF_MATCH, "W/\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonObject
+                                .put("name", "test")
+                                .toString()))
+                .andDo(print()).andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.message", String.class)
+                        .value("certificate with id 1 was modified, version 3 is outdated"));
     }
 
     @Test
-    void updateNameByIdShouldThrowExceptionWithCorrectMessageIfNameIsBlank() throws Exception {
+    void updateByIdShouldThrowExceptionWithCorrectMessageIfNameIsBlank() throws Exception {
         JSONObject jsonObject = new JSONObject();
         this.mockMvc.perform(patch("/api/certificates/1")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -884,7 +995,7 @@ class CertificateControllerTest {
     }
 
     @Test
-    void updateNameByIdShouldThrowExceptionWithCorrectMessageIfNameIsTooShort() throws Exception {
+    void updateByIdShouldThrowExceptionWithCorrectMessageIfNameIsTooShort() throws Exception {
         JSONObject jsonObject = new JSONObject();
         this.mockMvc.perform(patch("/api/certificates/1")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -898,7 +1009,7 @@ class CertificateControllerTest {
     }
 
     @Test
-    void updateNameByIdShouldThrowExceptionWithCorrectMessageIfNameIsTooLong() throws Exception {
+    void updateByIdShouldThrowExceptionWithCorrectMessageIfNameIsTooLong() throws Exception {
         JSONObject jsonObject = new JSONObject();
         this.mockMvc.perform(patch("/api/certificates/1")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -912,7 +1023,7 @@ class CertificateControllerTest {
     }
 
     @Test
-    void updateNameByIdShouldThrowExceptionWithCorrectMessageIfNameIncludesSpecial() throws Exception {
+    void updateByIdShouldThrowExceptionWithCorrectMessageIfNameIncludesSpecial() throws Exception {
         JSONObject jsonObject = new JSONObject();
         this.mockMvc.perform(patch("/api/certificates/1")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -934,6 +1045,52 @@ class CertificateControllerTest {
                         .value("certificate was successfully deleted"));
     }
 
+    @Test
+    void deleteAllByIdsShouldReturnNumberOfDeletedCertificates() throws Exception {
+        when(certificateService.deleteAllByIds(Set.of(1L, 2L, 3L)))
+                .thenReturn(3L);
+        this.mockMvc.perform(delete("/api/certificates").param("ids", "1,2,3"))
+                .andDo(print()).andExpect(status().isOk())
+                .andExpect(jsonPath("$.message", String.class)
+                        .value("3 certificates were successfully deleted"));
+    }
+
+    @Test
+    void deleteAllByIdsShouldThrowExceptionWithCorrectMessageIfAnyCertificateWasNotFound() throws Exception {
+        when(certificateService.deleteAllByIds(any()))
+                .thenThrow(new CustomEntityNotFoundException("failed to find 1 of 3 certificates, none were deleted"));
+        this.mockMvc.perform(delete("/api/certificates").param("ids", "1,2,3"))
+                .andDo(print()).andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", String.class)
+                        .value("failed to find 1 of 3 certificates, none were deleted"));
+    }
+
+    @Test
+    void deleteAllByFilterShouldReturnNumberOfDeletedCertificates() throws Exception {
+        when(certificateService.deleteAllByFilter(any()))
+                .thenReturn(4L);
+        this.mockMvc.perform(delete("/api/certificates/search")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(new JSONObject()
+                                .put("name", "stale")
+                                .toString()))
+                .andDo(print()).andExpect(status().isOk())
+                .andExpect(jsonPath("$.message", String.class)
+                        .value("4 certificates were successfully deleted"));
+    }
+
+    @Test
+    void deleteAllByFilterShouldThrowExceptionWithCorrectMessageIfFilterIsEmpty() throws Exception {
+        this.mockMvc.perform(delete("/api/certificates/search")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(new JSONObject()
+                                .put("searchMode", "substring")
+                                .toString()))
+                .andDo(print()).andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", String.class)
+                        .value("search filter must include name, description, text or tags"));
+    }
+
     @Test
     void deleteByIdShouldThrowExceptionWithCorrectMessageIfCertificateWasNotFound() throws Exception {
         doThrow(new CustomEntityNotFoundException("failed to find tag by id 1"))
@@ -959,4 +1116,43 @@ class CertificateControllerTest {
                 .andExpect(jsonPath("$.message", String.class)
                         .value("certificate id must be positive"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void exportAllShouldStreamCertificatesAsNdjsonByDefault() throws Exception {
+        doAnswer(invocation -> {
+            invocation.getArgument(1, OutputStream.class)
+                    .write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(certificateService).exportAll(eq(ExportFormat.NDJSON), any());
+        MvcResult result = this.mockMvc.perform(get("/api/certificates/export"))
+                .andExpect(request().asyncStarted()).andReturn();
+        this.mockMvc.perform(asyncDispatch(result))
+                .andDo(print()).andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(content().string("{\"id\":1}\n"));
+    }
+
+    @Test
+    void importAllShouldReturnReportOfImport() throws Exception {
+        when(certificateImportService.importAll(eq(ExportFormat.CSV), any(), eq(100), eq(1L)))
+                .thenReturn(ImportReportDto.builder().imported(1).build());
+        this.mockMvc.perform(post("/api/certificates/import")
+                        .param("format", "csv")
+                        .param("chunkSize", "100")
+                        .contentType("text/csv")
+                        .content("name,description,price,duration,tags\ncertificate,description,10.0,10,tag\n"))
+                .andDo(print()).andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported", Long.class)
+                        .value(1));
+    }
+
+    @Test
+    void importAllShouldThrowExceptionWithCorrectMessageIfChunkSizeIsTooBig() throws Exception {
+        this.mockMvc.perform(post("/api/certificates/import")
+                        .param("chunkSize", "100000")
+                        .content(""))
+                .andDo(print()).andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", String.class)
+                        .value("import chunk size must be between 1 and 1000"));
+    }
+}
@@ -1,13 +1,17 @@
 package com.epam.esm.controller;
 
 import com.epam.esm.GiftCertificatesAdvancedApplication;
+import com.epam.esm.dto.OrderBatchItemDto;
 import com.epam.esm.dto.OrderDto;
 import com.epam.esm.exception.CustomEntityNotFoundException;
 import com.epam.esm.exception.CustomMessageHolder;
 import com.epam.esm.facade.OrderFacade;
 import com.epam.esm.facade.impl.OrderFacadeImpl;
 import com.epam.esm.hateoas.HateoasAdder;
+import com.epam.esm.hateoas.HypermediaPolicy;
 import com.epam.esm.service.OrderService;
+import com.epam.esm.util.ExportFormat;
+import org.json.JSONArray;
 import org.json.JSONObject;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,23 +20,30 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static com.epam.esm.util.TestDataFactory.getOrderDto;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(OrderController.class)
-@ContextConfiguration(classes = { OrderFacadeImpl.class,
+@ContextConfiguration(classes = { OrderFacadeImpl.class, HypermediaPolicy.class,
         GiftCertificatesAdvancedApplication.class })
 class OrderControllerTest {
     @Autowired
@@ -240,6 +251,80 @@ class OrderControllerTest {
                         .value("certificate id must be positive"));
     }
 
+    @Test
+    void createAllShouldReturnResultOfEveryOrderOfBatch() throws Exception {
+        when(orderService.createAll(any()))
+                .thenReturn(List.of(OrderBatchItemDto.builder()
+                                .index(0).status(OrderBatchItemDto.Status.CREATED)
+                                .order(getOrderDto()).build(),
+                        OrderBatchItemDto.builder()
+                                .index(1).status(OrderBatchItemDto.Status.REJECTED)
+                                .message("failed to find user by id 2").build()));
+        JSONArray jsonArray = new JSONArray()
+                .put(new JSONObject().put("userId", 1).put("certificateId", 1))
+                .put(new JSONObject().put("userId", 2).put("certificateId", 1));
+        this.mockMvc.perform(post("/api/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonArray.toString()))
+                .andDo(print()).andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status", String.class)
+                        .value("CREATED"))
+                .andExpect(jsonPath("$[0].order.id", Long.class)
+                        .value(0))
+                .andExpect(jsonPath("$[1].status", String.class)
+                        .value("REJECTED"))
+                .andExpect(jsonPath("$[1].message", String.class)
+                        .value("failed to find user by id 2"));
+    }
+
+    @Test
+    void createAllShouldThrowExceptionWithCorrectMessageIfBatchIsEmpty() throws Exception {
+        this.mockMvc.perform(post("/api/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andDo(print()).andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", String.class)
+                        .value("batch must contain between 1 and 500 orders"));
+    }
+
+    @Test
+    void createAllShouldThrowExceptionWithCorrectMessageIfAnyUserIdIsNegative() throws Exception {
+        JSONArray jsonArray = new JSONArray()
+                .put(new JSONObject().put("userId", 1).put("certificateId", 1))
+                .put(new JSONObject().put("userId", -1).put("certificateId", 1));
+        this.mockMvc.perform(post("/api/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonArray.toString()))
+                .andDo(print()).andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", String.class)
+                        .value("order 1 of batch: user id must be positive"));
+    }
+
+    @Test
+    void exportAllShouldStreamOrdersInRequestedFormat() throws Exception {
+        doAnswer(invocation -> {
+            invocation.getArgument(1, OutputStream.class)
+                    .write("id,price\n1,1.0\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(orderService).exportAll(eq(ExportFormat.CSV), any());
+        MvcResult result = this.mockMvc.perform(get("/api/orders/export")
+                        .param("format", "csv"))
+                .andExpect(request().asyncStarted()).andReturn();
+        this.mockMvc.perform(asyncDispatch(result))
+                .andDo(print()).andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(content().string("id,price\n1,1.0\n"));
+    }
+
+    @Test
+    void exportAllShouldThrowExceptionWithCorrectMessageIfFormatIsNotSupported() throws Exception {
+        this.mockMvc.perform(get("/api/orders/export")
+                        .param("format", "xml"))
+                .andDo(print()).andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", String.class)
+                        .value("export format must be either ndjson or csv"));
+    }
+
     @Test
     void getByCertificateIdShouldReturnEmptyListIfOrdersWereNotFound() throws Exception {
         when(orderService.findByCertificateIdAndPage(anyLong(), anyInt(), anyInt()))
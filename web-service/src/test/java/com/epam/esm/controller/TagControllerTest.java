@@ -7,7 +7,9 @@ import com.epam.esm.exception.CustomMessageHolder;
 import com.epam.esm.facade.TagFacade;
 import com.epam.esm.facade.impl.TagFacadeImpl;
 import com.epam.esm.hateoas.HateoasAdder;
+import com.epam.esm.hateoas.HypermediaPolicy;
 import com.epam.esm.service.TagService;
+import com.epam.esm.util.Cursor;
 import org.json.JSONObject;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,6 +21,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import static com.epam.esm.util.TestDataFactory.getTagDto;
 import static org.mockito.ArgumentMatchers.any;
@@ -32,11 +35,12 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(TagController.class)
-@ContextConfiguration(classes = { TagFacadeImpl.class,
+@ContextConfiguration(classes = { TagFacadeImpl.class, HypermediaPolicy.class,
         GiftCertificatesAdvancedApplication.class })
 class TagControllerTest {
     @Autowired
@@ -285,4 +289,50 @@ class TagControllerTest {
                 .andExpect(jsonPath("$.message", String.class)
                         .value("tag id must be positive"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void deleteAllByIdsShouldReturnNumberOfDeletedTags() throws Exception {
+        when(tagService.deleteAllByIds(Set.of(1L, 2L)))
+                .thenReturn(2L);
+        this.mockMvc.perform(delete("/api/tags").param("ids", "1,2"))
+                .andDo(print()).andExpect(status().isOk())
+                .andExpect(jsonPath("$.message", String.class)
+                        .value("2 tags were successfully deleted"));
+    }
+
+    @Test
+    void deleteAllByIdsShouldThrowExceptionWithCorrectMessageIfAnyIdIsNegative() throws Exception {
+        this.mockMvc.perform(delete("/api/tags").param("ids", "1,-2"))
+                .andDo(print()).andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", String.class)
+                        .value("tag id must be positive"));
+    }
+
+    @Test
+    void getAllByCursorShouldReturnNextCursorHeaderIfPageIsFull() throws Exception {
+        when(tagService.findAllByCursor(any(), anyInt()))
+                .thenReturn(List.of(getTagDto()));
+        this.mockMvc.perform(get("/api/tags").param("after", "").param("size", "1"))
+                .andDo(print()).andExpect(status().isOk())
+                .andExpect(header().string(Cursor.NEXT_CURSOR_HEADER, Cursor.encode(0L)))
+                .andExpect(jsonPath("$..id", Long.class)
+                        .value(0));
+    }
+
+    @Test
+    void getAllByCursorShouldNotReturnNextCursorHeaderIfPageIsLast() throws Exception {
+        when(tagService.findAllByCursor(any(), anyInt()))
+                .thenReturn(List.of(getTagDto()));
+        this.mockMvc.perform(get("/api/tags").param("after", Cursor.encode(1L)).param("size", "5"))
+                .andDo(print()).andExpect(status().isOk())
+                .andExpect(header().doesNotExist(Cursor.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void getAllByCursorShouldThrowExceptionWithCorrectMessageIfCursorIsMalformed() throws Exception {
+        this.mockMvc.perform(get("/api/tags").param("after", "test"))
+                .andDo(print()).andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", String.class)
+                        .value("page cursor is not valid"));
+    }
+}
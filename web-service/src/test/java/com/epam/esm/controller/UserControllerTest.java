@@ -7,6 +7,7 @@ import com.epam.esm.exception.CustomMessageHolder;
 import com.epam.esm.facade.UserFacade;
 import com.epam.esm.facade.impl.UserFacadeImpl;
 import com.epam.esm.hateoas.HateoasAdder;
+import com.epam.esm.hateoas.HypermediaPolicy;
 import com.epam.esm.service.UserService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,7 +29,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(UserController.class)
-@ContextConfiguration(classes = { UserFacadeImpl.class,
+@ContextConfiguration(classes = { UserFacadeImpl.class, HypermediaPolicy.class,
         GiftCertificatesAdvancedApplication.class })
 class UserControllerTest {
     @Autowired
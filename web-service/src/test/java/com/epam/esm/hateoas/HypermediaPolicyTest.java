@@ -0,0 +1,67 @@
+package com.epam.esm.hateoas;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HypermediaPolicyTest {
+    private final HypermediaPolicy defaultPolicy = new HypermediaPolicy(false);
+    private final HypermediaPolicy leanJsonPolicy = new HypermediaPolicy(true);
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void isEnabledShouldReturnTrueOutsideOfRequest() {
+        assertTrue(defaultPolicy.isEnabled());
+        assertTrue(leanJsonPolicy.isEnabled());
+    }
+
+    @Test
+    void isEnabledShouldFollowLinksParameter() {
+        openRequest(MediaTypes.HAL_JSON_VALUE, "false");
+        assertFalse(defaultPolicy.isEnabled());
+        assertFalse(leanJsonPolicy.isEnabled());
+
+        openRequest(MediaType.APPLICATION_JSON_VALUE, "true");
+        assertTrue(defaultPolicy.isEnabled());
+        assertTrue(leanJsonPolicy.isEnabled());
+    }
+
+    @Test
+    void isEnabledShouldDropLinksForPlainJsonOnlyIfLeanJsonIsEnabled() {
+        openRequest(MediaType.APPLICATION_JSON_VALUE, null);
+        assertTrue(defaultPolicy.isEnabled());
+        assertFalse(leanJsonPolicy.isEnabled());
+
+        openRequest(MediaTypes.HAL_JSON_VALUE + ", " + MediaType.APPLICATION_JSON_VALUE, null);
+        assertTrue(leanJsonPolicy.isEnabled());
+
+        openRequest(MediaType.ALL_VALUE, null);
+        assertTrue(leanJsonPolicy.isEnabled());
+
+        openRequest(null, null);
+        assertTrue(leanJsonPolicy.isEnabled());
+    }
+
+    private static void openRequest(String accept, String links) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/certificates");
+        if (accept != null) {
+            request.addHeader(HttpHeaders.ACCEPT, accept);
+        }
+        if (links != null) {
+            request.setParameter(HypermediaPolicy.LINKS_PARAMETER, links);
+        }
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+}
@@ -0,0 +1,89 @@
+package com.epam.esm.hateoas;
+
+import com.epam.esm.controller.CertificateController;
+import com.epam.esm.controller.OrderController;
+import com.epam.esm.controller.TagController;
+import com.epam.esm.controller.UserController;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.Link;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+class LinkFactoryTest {
+    private final LinkFactory linkFactory = new LinkFactory();
+
+    @BeforeEach
+    void setUp() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/certificates");
+        request.setServerName("example.com");
+        request.setServerPort(8080);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void linksShouldMatchLinksBuiltFromControllerMappings() {
+        assertEquals(linkTo(CertificateController.class).toUri().toString(),
+                linkFactory.certificates("certificates").getHref());
+        assertEquals(linkTo(methodOn(CertificateController.class).getById(1)).toUri().toString(),
+                linkFactory.certificate(1, "certificate").getHref());
+        assertEquals(linkTo(TagController.class).toUri().toString(),
+                linkFactory.tags("tags").getHref());
+        assertEquals(linkTo(methodOn(TagController.class).getById(2)).toUri().toString(),
+                linkFactory.tag(2, "self").getHref());
+        assertEquals(linkTo(OrderController.class).toUri().toString(),
+                linkFactory.orders("orders").getHref());
+        assertEquals(linkTo(methodOn(OrderController.class).getById(3)).toUri().toString(),
+                linkFactory.order(3, "self").getHref());
+        assertEquals(linkTo(UserController.class).toUri().toString(),
+                linkFactory.users("users").getHref());
+        assertEquals(linkTo(methodOn(UserController.class).getById(4)).toUri().toString(),
+                linkFactory.user(4, "user").getHref());
+    }
+
+    @Test
+    void linksShouldIncludeRequestParameters() {
+        Link link = linkFactory.ordersByCertificate(5, 0, 5, "orders");
+
+        assertEquals("http://example.com:8080/api/orders/search?certificateId=5&page=0&size=5", link.getHref());
+        assertEquals("orders", link.getRel().value());
+        assertEquals("http://example.com:8080/api/orders/search?userId=6&page=1&size=10",
+                linkFactory.ordersByUser(6, 1, 10, "orders").getHref());
+    }
+
+    @Test
+    void linksShouldStayRelativeOutsideOfRequest() {
+        RequestContextHolder.resetRequestAttributes();
+
+        assertEquals("/api/tags/7", linkFactory.tag(7, "self").getHref());
+    }
+
+    @Test
+    void ofShouldThrowExceptionIfTemplateCannotBeResolved() {
+        assertThrows(IllegalArgumentException.class,
+                () -> LinkTemplate.of(TagController.class, "getByName"));
+        assertThrows(IllegalArgumentException.class,
+                () -> LinkTemplate.of(OrderController.class, "getById", "page"));
+    }
+
+    @Test
+    void expandShouldThrowExceptionIfNumberOfValuesDiffers() {
+        LinkTemplate template = LinkTemplate.of(OrderController.class,
+                "getByCertificateOrUserId", "certificateId", "page");
+
+        assertEquals("/api/orders/search?certificateId={certificateId}&page={page}", template.toString());
+        assertThrows(IllegalArgumentException.class, () -> template.expand("", 1));
+    }
+}
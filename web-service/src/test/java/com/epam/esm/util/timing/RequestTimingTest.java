@@ -0,0 +1,46 @@
+package com.epam.esm.util.timing;
+
+import com.epam.esm.util.monitoring.QueryScope;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestTimingTest {
+    private final RequestTiming timing = new RequestTiming(new QueryScope());
+
+    @Test
+    void exitShouldCountNestedCallsOfSamePhaseOnce() {
+        int outer = timing.enter(Phase.MAPPING);
+        int inner = timing.enter(Phase.MAPPING);
+        timing.exit(Phase.MAPPING, inner == 0 ? 5 : 0);
+        timing.exit(Phase.MAPPING, outer == 0 ? 7 : 0);
+
+        assertEquals(0, outer);
+        assertEquals(1, inner);
+        assertEquals(7, timing.nanosOf(Phase.MAPPING));
+        assertEquals(0, timing.enter(Phase.MAPPING));
+    }
+
+    @Test
+    void headerShouldListEveryPhaseInMilliseconds() {
+        timing.enter(Phase.HYPERMEDIA);
+        timing.exit(Phase.HYPERMEDIA, TimeUnit.MICROSECONDS.toNanos(1_042));
+        timing.markRendering();
+
+        String header = timing.header();
+        assertTrue(header.startsWith("db;dur=0.000;desc=\"database\", "
+                + "mapping;dur=0.000;desc=\"entity mapping\", "
+                + "hypermedia;dur=1.042;desc=\"hateoas links\", app;dur="), header);
+        assertTrue(header.endsWith(";desc=\"request handling\""), header);
+    }
+
+    @Test
+    void appendMillisShouldPadFraction() {
+        assertEquals("12.005", RequestTiming.appendMillis(new StringBuilder(), 12_005_999).toString());
+        assertEquals("0.250", RequestTiming.appendMillis(new StringBuilder(), 250_000).toString());
+        assertEquals("3.000", RequestTiming.appendMillis(new StringBuilder(), 3_000_000).toString());
+    }
+}